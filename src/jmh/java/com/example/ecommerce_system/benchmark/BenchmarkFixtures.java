@@ -0,0 +1,118 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Customer;
+import com.example.ecommerce_system.model.OrderItem;
+import com.example.ecommerce_system.model.OrderStatus;
+import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.model.Orders;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.model.Review;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Detached entity graphs shaped like the rows the services map on their hot paths.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Product> products(int count, int reviewsPerProduct) {
+        Category category = Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name("Kitchen")
+                .description("Cookware and utensils")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+        Customer customer = customer();
+
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = Product.builder()
+                    .productId(UUID.randomUUID())
+                    .name("Product " + i)
+                    .description("Description of product " + i)
+                    .price(10.0 + i)
+                    .stockQuantity(100 + i)
+                    .category(category)
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build();
+            List<Review> reviews = new ArrayList<>(reviewsPerProduct);
+            for (int r = 0; r < reviewsPerProduct; r++) {
+                reviews.add(Review.builder()
+                        .reviewId(UUID.randomUUID())
+                        .product(product)
+                        .customer(customer)
+                        .rating(1 + r % 5)
+                        .comment("Review " + r + " of product " + i)
+                        .createdAt(Instant.now())
+                        .build());
+            }
+            product.setReviews(reviews);
+            products.add(product);
+        }
+        return products;
+    }
+
+    static List<Review> reviews(List<Product> products) {
+        return products.stream()
+                .flatMap(product -> product.getReviews().stream())
+                .toList();
+    }
+
+    static List<Orders> orders(int count, int itemsPerOrder) {
+        Customer customer = customer();
+        OrderStatus status = OrderStatus.builder()
+                .statusId(UUID.randomUUID())
+                .statusName(OrderStatusType.PENDING)
+                .description("Awaiting processing")
+                .build();
+        List<Product> products = products(itemsPerOrder, 0);
+
+        List<Orders> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Orders order = Orders.builder()
+                    .orderId(UUID.randomUUID())
+                    .customer(customer)
+                    .status(status)
+                    .orderDate(Instant.now())
+                    .shippingCountry("Ghana")
+                    .shippingCity("Accra")
+                    .shippingPostalCode("00233")
+                    .build();
+            List<OrderItem> items = new ArrayList<>(itemsPerOrder);
+            double total = 0;
+            for (Product product : products) {
+                items.add(OrderItem.builder()
+                        .orderItemId(UUID.randomUUID())
+                        .order(order)
+                        .product(product)
+                        .quantity(2)
+                        .priceAtPurchase(product.getPrice())
+                        .build());
+                total += 2 * product.getPrice();
+            }
+            order.setOrderItems(items);
+            order.setTotalAmount(total);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    private static Customer customer() {
+        return Customer.builder()
+                .customerId(UUID.randomUUID())
+                .firstName("Ama")
+                .lastName("Mensah")
+                .phone("0240000000")
+                .active(true)
+                .build();
+    }
+}
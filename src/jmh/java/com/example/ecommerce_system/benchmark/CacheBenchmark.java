@@ -0,0 +1,87 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.util.cache.DependencyTrackingCache;
+import com.example.ecommerce_system.util.cache.PageWeigher;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hit and miss paths through the Spring cache abstraction for an entity region and a weighed page
+ * region, built the same way as in {@code CacheConfig}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CacheBenchmark {
+    private static final int KEYS = 1024;
+
+    private Cache entityCache;
+    private Cache pageCache;
+    private UUID[] keys;
+    private String[] pageKeys;
+
+    @Setup
+    public void setUp() {
+        entityCache = new CaffeineCache("products", Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .maximumSize(KEYS * 2)
+                .recordStats()
+                .build());
+        pageCache = DependencyTrackingCache.create("product_pages", Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .maximumWeight(64L * 1024 * 1024)
+                .weigher(new PageWeigher())
+                .recordStats());
+
+        keys = new UUID[KEYS];
+        pageKeys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = UUID.randomUUID();
+            pageKeys[i] = "products_20_" + i;
+            entityCache.put(keys[i], "product-" + i);
+            pageCache.put(pageKeys[i], List.of("page-" + i));
+        }
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper entityHit() {
+        return entityCache.get(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper entityMiss() {
+        return entityCache.get(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper pageHit() {
+        return pageCache.get(pageKeys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper pageMiss() {
+        return pageCache.get("missing_" + ThreadLocalRandom.current().nextInt());
+    }
+}
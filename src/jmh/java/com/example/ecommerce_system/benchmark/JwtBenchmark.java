@@ -0,0 +1,64 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.ecommerce_system.util.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification. {@code verifySignature} is the full HMAC check a first-seen token
+ * pays; {@code verifyRepeatedToken} is the digest lookup the provider serves afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+    private static final String SECRET = "benchmark-secret-key-with-enough-entropy";
+
+    private JwtTokenProvider tokenProvider;
+    private JWTVerifier verifier;
+    private String subject;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 10_000);
+        verifier = JWT.require(Algorithm.HMAC256(SECRET)).build();
+        subject = UUID.randomUUID().toString();
+        token = tokenProvider.issue(subject, "CUSTOMER", Duration.ofDays(1));
+        tokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public String issue() {
+        return tokenProvider.issue(subject, "CUSTOMER", Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public DecodedJWT verifySignature() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public JwtTokenProvider.VerifiedToken verifyRepeatedToken() {
+        return tokenProvider.verify(token);
+    }
+}
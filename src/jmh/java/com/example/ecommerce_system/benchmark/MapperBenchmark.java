@@ -0,0 +1,100 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.orders.OrderResponseDto;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+import com.example.ecommerce_system.model.Orders;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.model.Review;
+import com.example.ecommerce_system.util.mapper.CategoryMapperImpl;
+import com.example.ecommerce_system.util.mapper.CustomerMapperImpl;
+import com.example.ecommerce_system.util.mapper.OrderItemMapperImpl;
+import com.example.ecommerce_system.util.mapper.OrderMapper;
+import com.example.ecommerce_system.util.mapper.OrderMapperImpl;
+import com.example.ecommerce_system.util.mapper.ProductMapper;
+import com.example.ecommerce_system.util.mapper.ProductMapperImpl;
+import com.example.ecommerce_system.util.mapper.ReviewMapper;
+import com.example.ecommerce_system.util.mapper.ReviewMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mappers behind the product page, the product-with-reviews page and the order history.
+ * The generated mappers are wired by a bare Spring context exactly as in the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private AnnotationConfigApplicationContext context;
+    private ProductMapper productMapper;
+    private ReviewMapper reviewMapper;
+    private OrderMapper orderMapper;
+
+    private List<Product> products;
+    private List<Review> reviews;
+    private List<Orders> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(
+                ProductMapperImpl.class,
+                CategoryMapperImpl.class,
+                ReviewMapperImpl.class,
+                CustomerMapperImpl.class,
+                OrderMapperImpl.class,
+                OrderItemMapperImpl.class);
+        productMapper = context.getBean(ProductMapper.class);
+        reviewMapper = context.getBean(ReviewMapper.class);
+        orderMapper = context.getBean(OrderMapper.class);
+
+        products = BenchmarkFixtures.products(pageSize, 5);
+        reviews = BenchmarkFixtures.reviews(products);
+        orders = BenchmarkFixtures.orders(pageSize, 4);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> productsToDtoList() {
+        return productMapper.toDTOList(products);
+    }
+
+    /**
+     * The review half of the products-with-reviews page; the product half is {@link #productsToDtoList()}.
+     */
+    @Benchmark
+    public List<ReviewResponseDto> reviewsToDtoList() {
+        return reviewMapper.toDTOList(reviews);
+    }
+
+    @Benchmark
+    public List<OrderResponseDto> ordersToDtoList() {
+        return orderMapper.toDtoList(orders);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.auth.AuthResponseDto;
+import com.example.ecommerce_system.dto.auth.SignupRequestDto;
+import com.example.ecommerce_system.exception.auth.WeakPasswordException;
+import com.example.ecommerce_system.repository.CustomerRepository;
+import com.example.ecommerce_system.repository.UserRepository;
+import com.example.ecommerce_system.service.AuthService;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.mapper.AuthMapper;
+import com.example.ecommerce_system.util.registry.RoleRegistry;
+import com.example.ecommerce_system.util.security.JwtTokenProvider;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password strength check run on every signup, measured through {@code AuthService.signup}.
+ * The collaborators are stub-only mocks that record nothing, so {@code weakPassword} (rejected by the
+ * last rule, before any collaborator is called) is the policy alone, and {@code strongPassword} adds
+ * the policy's share to a signup with free persistence and hashing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordPolicyBenchmark {
+
+    private AuthService authService;
+    private SignupRequestDto strongPassword;
+    private SignupRequestDto weakPassword;
+
+    @Setup
+    public void setUp() {
+        authService = new AuthService(
+                stub(UserRepository.class),
+                stub(CustomerRepository.class),
+                stub(RoleRegistry.class),
+                stub(BCryptPasswordEncoder.class),
+                stub(AuthMapper.class),
+                stub(JwtTokenProvider.class),
+                stub(PageCacheInvalidator.class));
+        strongPassword = signupRequest("Sup3r$ecretPassw0rd");
+        weakPassword = signupRequest("Sup3rSecretPassw0rd");
+    }
+
+    @Benchmark
+    public AuthResponseDto strongPassword() {
+        return authService.signup(strongPassword);
+    }
+
+    @Benchmark
+    public WeakPasswordException weakPassword() {
+        try {
+            authService.signup(weakPassword);
+            return null;
+        } catch (WeakPasswordException e) {
+            return e;
+        }
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return Mockito.mock(type, Mockito.withSettings().stubOnly());
+    }
+
+    private static SignupRequestDto signupRequest(String password) {
+        SignupRequestDto request = new SignupRequestDto();
+        request.setEmail("benchmark@example.com");
+        request.setPassword(password);
+        request.setFirstName("Bench");
+        request.setLastName("Mark");
+        request.setPhone("0200000000");
+        return request;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.util.ProductSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of composing the product search specification for an empty and a fully populated filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSpecificationBenchmark {
+
+    private final ProductFilter emptyFilter = new ProductFilter();
+    private final ProductFilter fullFilter = ProductFilter.builder()
+            .name("mug")
+            .description("ceramic")
+            .categoryId(UUID.randomUUID())
+            .minPrice(5.0)
+            .maxPrice(50.0)
+            .minStock(1)
+            .maxStock(500)
+            .build();
+
+    @Benchmark
+    public Specification<Product> emptyFilter() {
+        return ProductSpecification.buildSpecification(emptyFilter);
+    }
+
+    @Benchmark
+    public Specification<Product> fullFilter() {
+        return ProductSpecification.buildSpecification(fullFilter);
+    }
+}
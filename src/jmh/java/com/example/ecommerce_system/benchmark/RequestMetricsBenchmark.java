@@ -0,0 +1,69 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.config.LatencyMetricsProperties;
+import com.example.ecommerce_system.util.metrics.LatencyRecorder;
+import com.example.ecommerce_system.util.metrics.ServletPayloadSizeEstimator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request work added by {@code PerformanceAspect}: estimating the payload size and recording
+ * the call's latency in the rolling histograms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RequestMetricsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Recorder {
+        final LatencyRecorder latencyRecorder = new LatencyRecorder(new LatencyMetricsProperties());
+        final ServletPayloadSizeEstimator payloadSizeEstimator = new ServletPayloadSizeEstimator();
+    }
+
+    @State(Scope.Thread)
+    public static class CurrentRequest {
+        @Setup(Level.Trial)
+        public void bind() {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+            request.setContent(new byte[512]);
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        }
+
+        @TearDown(Level.Trial)
+        public void unbind() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Benchmark
+    public long estimatePayloadSize(Recorder recorder, CurrentRequest request) {
+        return recorder.payloadSizeEstimator.estimateRequestSize();
+    }
+
+    @Benchmark
+    public void recordLatency(Recorder recorder) {
+        recorder.latencyRecorder.record("REST", "ProductController.getProduct(..)",
+                ThreadLocalRandom.current().nextLong(50_000, 50_000_000));
+    }
+}
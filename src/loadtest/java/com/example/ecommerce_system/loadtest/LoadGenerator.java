@@ -0,0 +1,96 @@
+package com.example.ecommerce_system.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop generator: requests start on a fixed schedule at the target rate, each on its own
+ * virtual thread, whether or not earlier requests have finished. Requests beyond
+ * {@code maxInFlight} are counted as failures instead of being delayed.
+ */
+class LoadGenerator {
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final Workload workload;
+    private final int rps;
+    private final int maxInFlight;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    LoadGenerator(Workload workload, int rps, int maxInFlight, Map<Operation, Integer> mix) {
+        this.workload = workload;
+        this.rps = rps;
+        this.maxInFlight = maxInFlight;
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += mix.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * Runs the mix for the given duration and returns per-operation statistics.
+     */
+    Map<Operation, OperationStats> run(Duration duration) throws InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values())
+            stats.put(operation, new OperationStats());
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long durationNanos = duration.toNanos();
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i * intervalNanos < durationNanos; i++) {
+                long scheduled = start + i * intervalNanos;
+                waitUntil(scheduled);
+
+                Operation operation = pick();
+                if (!inFlight.tryAcquire()) {
+                    stats.get(operation).failure(System.nanoTime() - scheduled, "client saturated");
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        Operation ran = workload.execute(operation);
+                        stats.get(ran).success(System.nanoTime() - scheduled);
+                    } catch (ShopClient.CallFailedException e) {
+                        stats.get(operation).failure(System.nanoTime() - scheduled, e.reason());
+                    } catch (RuntimeException e) {
+                        stats.get(operation).failure(System.nanoTime() - scheduled, e.getClass().getSimpleName());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            if (!inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS))
+                executor.shutdownNow();
+        }
+        return stats;
+    }
+
+    private Operation pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i])
+                return operations[i];
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0)
+            LockSupport.parkNanos(remaining);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.ecommerce_system.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Prints per-operation latency percentiles and error rates, and writes the same figures as JSON.
+ */
+class LoadReport {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<Operation, OperationStats> stats;
+    private final Duration duration;
+    private final int targetRps;
+
+    LoadReport(Map<Operation, OperationStats> stats, Duration duration, int targetRps) {
+        this.stats = stats;
+        this.duration = duration;
+        this.targetRps = targetRps;
+    }
+
+    void print(PrintStream out) {
+        out.println();
+        out.printf("%-16s %-8s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "protocol", "requests", "errors", "err%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long requests = 0;
+        long errors = 0;
+        Histogram combined = new Histogram(3);
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operation = entry.getValue();
+            long count = operation.successes() + operation.errors();
+            if (count == 0)
+                continue;
+            Histogram histogram = operation.histogram();
+            combined.add(histogram);
+            requests += count;
+            errors += operation.errors();
+            out.printf("%-16s %-8s %9d %7d %6.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().key(), entry.getKey().protocol(), count, operation.errors(),
+                    100.0 * operation.errors() / count,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0);
+            operation.errorsByReason().forEach((reason, n) -> out.printf("    %-40s %d%n", reason, n));
+        }
+        out.printf("%-16s %-8s %9d %7d %6.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                "total", "", requests, errors, requests == 0 ? 0.0 : 100.0 * errors / requests,
+                millis(combined, 50), millis(combined, 90), millis(combined, 99), millis(combined, 99.9),
+                combined.getMaxValue() / 1000.0);
+        out.printf("%nachieved %.1f req/s of %d targeted over %ds%n",
+                requests / (double) duration.toSeconds(), targetRps, duration.toSeconds());
+    }
+
+    /**
+     * Successful requests per second over the measured run.
+     */
+    double throughput() {
+        long successes = stats.values().stream().mapToLong(OperationStats::successes).sum();
+        return successes / (double) duration.toSeconds();
+    }
+
+    double errorRate() {
+        long successes = stats.values().stream().mapToLong(OperationStats::successes).sum();
+        long errors = stats.values().stream().mapToLong(OperationStats::errors).sum();
+        return successes + errors == 0 ? 0.0 : (double) errors / (successes + errors);
+    }
+
+    double percentileMs(double percentile) {
+        Histogram combined = new Histogram(3);
+        stats.values().forEach(operation -> combined.add(operation.histogram()));
+        return millis(combined, percentile);
+    }
+
+    void write(Path file) throws IOException {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((operation, operationStats) -> {
+            long count = operationStats.successes() + operationStats.errors();
+            if (count == 0)
+                return;
+            Histogram histogram = operationStats.histogram();
+            Map<String, Object> latency = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES)
+                latency.put(label(percentile), millis(histogram, percentile));
+            latency.put("max", histogram.getMaxValue() / 1000.0);
+            latency.put("mean", histogram.getMean() / 1000.0);
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("protocol", operation.protocol());
+            entry.put("requests", count);
+            entry.put("errors", operationStats.errors());
+            entry.put("errorRate", (double) operationStats.errors() / count);
+            entry.put("errorsByReason", new TreeMap<>(operationStats.errorsByReason()));
+            entry.put("latencyMs", latency);
+            operations.put(operation.key(), entry);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("targetRps", targetRps);
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("operations", operations);
+
+        if (file.getParent() != null)
+            Files.createDirectories(file.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private static String label(double percentile) {
+        return percentile == Math.rint(percentile) ? "p" + (int) percentile : "p" + percentile;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.ecommerce_system.loadtest;
+
+import com.example.ecommerce_system.EcommerceApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Replays a weighted mix of REST and GraphQL calls at a fixed request rate and reports latency
+ * percentiles and error rates per operation. With {@code --embedded} the application is started
+ * in-process on H2 in PostgreSQL mode, once per {@code --threads} mode so platform and virtual
+ * request threads can be compared; otherwise it targets {@code --url}. See
+ * {@link LoadTestOptions} for the options.
+ */
+public final class LoadTest {
+    private static final String EMBEDDED_ADMIN_PASSWORD = "Load-Test-Adm1n!";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        if (!options.embedded()) {
+            ShopClient client = new ShopClient(options.url());
+            run(options, client, client.login(options.adminEmail(), options.adminPassword()), options.report());
+            return;
+        }
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<LoadTestOptions.ThreadMode, LoadReport> reports = new LinkedHashMap<>();
+        for (LoadTestOptions.ThreadMode mode : options.threadModes()) {
+            System.out.printf("%n=== %s request threads (profiles %s) ===%n", mode.label(), mode.profiles());
+            try (ConfigurableApplicationContext application = SpringApplication.run(
+                    EcommerceApplication.class, "--spring.profiles.active=" + mode.profiles())) {
+                ShopClient client = new ShopClient("http://localhost:" + application.getEnvironment().getProperty("local.server.port"));
+                String adminToken = embeddedAdmin(client, application.getBean(JdbcTemplate.class));
+                Path report = options.threadModes().size() == 1 ? options.report() : withSuffix(options.report(), mode.label());
+                reports.put(mode, run(options, client, adminToken, report));
+            }
+        }
+        if (reports.size() > 1)
+            compare(reports);
+    }
+
+    private static LoadReport run(LoadTestOptions options, ShopClient client, String adminToken, Path reportFile) throws Exception {
+        System.out.printf("Seeding %d products and %d shoppers%n", options.products(), options.users());
+        Workload workload = new Workload(client, adminToken);
+        workload.seed(options.users(), options.products());
+
+        LoadGenerator generator = new LoadGenerator(workload, options.rps(), options.maxInFlight(), options.mix());
+        if (!options.warmup().isZero()) {
+            System.out.printf("Warming up for %ds%n", options.warmup().toSeconds());
+            generator.run(options.warmup());
+        }
+
+        System.out.printf("Running %s at %d req/s for %ds%n", describe(options.mix()), options.rps(), options.duration().toSeconds());
+        LoadReport report = new LoadReport(generator.run(options.duration()), options.duration(), options.rps());
+        report.print(System.out);
+        report.write(reportFile);
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+        return report;
+    }
+
+    private static void compare(Map<LoadTestOptions.ThreadMode, LoadReport> reports) {
+        System.out.printf("%n%-10s %12s %8s %9s %9s%n", "threads", "ok req/s", "err%", "p50 ms", "p99 ms");
+        reports.forEach((mode, report) -> System.out.printf("%-10s %12.1f %7.2f%% %9.2f %9.2f%n",
+                mode.label(), report.throughput(), 100 * report.errorRate(),
+                report.percentileMs(50), report.percentileMs(99)));
+    }
+
+    private static Path withSuffix(Path file, String suffix) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String renamed = dot < 0 ? name + "-" + suffix : name.substring(0, dot) + "-" + suffix + name.substring(dot);
+        return file.resolveSibling(renamed);
+    }
+
+    private static String describe(Map<Operation, Integer> mix) {
+        return mix.entrySet().stream()
+                .map(entry -> entry.getKey().key() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Signs up an account and promotes it to admin directly in the embedded database.
+     */
+    private static String embeddedAdmin(ShopClient client, JdbcTemplate jdbcTemplate) {
+        String email = "admin-" + System.currentTimeMillis() + "@loadtest.local";
+        client.signup(email, EMBEDDED_ADMIN_PASSWORD, "Admin");
+        jdbcTemplate.update("UPDATE users SET role_id = (SELECT role_id FROM roles WHERE role_name = 'ADMIN') WHERE email = ?", email);
+        return client.login(email, EMBEDDED_ADMIN_PASSWORD);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.ecommerce_system.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line options. Unset options keep the defaults below.
+ *
+ * <pre>
+ *   --embedded                   start the application in-process on H2 (PostgreSQL mode)
+ *   --url http://localhost:8080  target an already running application instead
+ *   --admin-email / --admin-password   existing admin account, required with --url
+ *   --rps 200 --duration 60s --warmup 10s
+ *   --users 50 --products 200 --max-in-flight 2000
+ *   --mix browse-rest=15,browse-graphql=15,search-rest=10,search-graphql=10,add-to-cart=25,place-order=15,process-order=10
+ *   --threads platform           request threads of the embedded app: platform, virtual or both
+ *   --report target/load-test-report.json
+ * </pre>
+ */
+record LoadTestOptions(
+        boolean embedded,
+        String url,
+        String adminEmail,
+        String adminPassword,
+        int rps,
+        Duration duration,
+        Duration warmup,
+        int users,
+        int products,
+        int maxInFlight,
+        Map<Operation, Integer> mix,
+        List<ThreadMode> threadModes,
+        Path report
+) {
+    private static final String DEFAULT_MIX =
+            "browse-rest=15,browse-graphql=15,search-rest=10,search-graphql=10,add-to-cart=25,place-order=15,process-order=10";
+
+    static LoadTestOptions parse(String[] args) {
+        boolean embedded = false;
+        String url = null;
+        String adminEmail = null;
+        String adminPassword = null;
+        int rps = 200;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        int users = 50;
+        int products = 200;
+        int maxInFlight = 2000;
+        String mix = DEFAULT_MIX;
+        String threads = "platform";
+        Path report = Path.of("target", "load-test-report.json");
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--embedded")) {
+                embedded = true;
+                continue;
+            }
+            if (i + 1 >= args.length)
+                throw new IllegalArgumentException("Missing value for " + option);
+            String value = args[++i];
+            switch (option) {
+                case "--url" -> url = value;
+                case "--admin-email" -> adminEmail = value;
+                case "--admin-password" -> adminPassword = value;
+                case "--rps" -> rps = Integer.parseInt(value);
+                case "--duration" -> duration = parseDuration(value);
+                case "--warmup" -> warmup = parseDuration(value);
+                case "--users" -> users = Integer.parseInt(value);
+                case "--products" -> products = Integer.parseInt(value);
+                case "--max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "--mix" -> mix = value;
+                case "--threads" -> threads = value;
+                case "--report" -> report = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+
+        if (embedded == (url != null))
+            throw new IllegalArgumentException("Pass exactly one of --embedded or --url");
+        if (url != null && (adminEmail == null || adminPassword == null))
+            throw new IllegalArgumentException("--url requires --admin-email and --admin-password");
+        List<ThreadMode> threadModes = switch (threads) {
+            case "platform" -> List.of(ThreadMode.PLATFORM);
+            case "virtual" -> List.of(ThreadMode.VIRTUAL);
+            case "both" -> List.of(ThreadMode.PLATFORM, ThreadMode.VIRTUAL);
+            default -> throw new IllegalArgumentException("--threads must be platform, virtual or both");
+        };
+        if (!embedded && !threads.equals("platform"))
+            throw new IllegalArgumentException("--threads only applies to --embedded; start the target with the virtual-threads profile instead");
+        if (rps <= 0 || users <= 0 || products <= 0 || maxInFlight <= 0)
+            throw new IllegalArgumentException("--rps, --users, --products and --max-in-flight must be positive");
+
+        return new LoadTestOptions(embedded, url, adminEmail, adminPassword, rps, duration, warmup,
+                users, products, maxInFlight, parseMix(mix), threadModes, report);
+    }
+
+    /**
+     * Accepts {@code 30s}, {@code 2m} or an ISO-8601 duration such as {@code PT90S}.
+     */
+    private static Duration parseDuration(String value) {
+        if (value.startsWith("P") || value.startsWith("p"))
+            return Duration.parse(value);
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration " + value);
+        };
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("Mix entries look like operation=weight, got '" + entry + "'");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0)
+                throw new IllegalArgumentException("Mix weights cannot be negative: " + entry);
+            if (weight > 0)
+                weights.put(Operation.fromKey(parts[0].trim()), weight);
+        }
+        if (weights.isEmpty())
+            throw new IllegalArgumentException("The operation mix is empty");
+        return weights;
+    }
+
+    /**
+     * How the embedded application runs requests; {@code VIRTUAL} activates the virtual-threads profile.
+     */
+    enum ThreadMode {
+        PLATFORM("dev,loadtest"),
+        VIRTUAL("dev,loadtest,virtual-threads");
+
+        private final String profiles;
+
+        ThreadMode(String profiles) {
+            this.profiles = profiles;
+        }
+
+        String profiles() {
+            return profiles;
+        }
+
+        String label() {
+            return name().toLowerCase();
+        }
+    }
+}
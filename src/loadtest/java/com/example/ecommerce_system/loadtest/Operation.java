@@ -0,0 +1,41 @@
+package com.example.ecommerce_system.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The calls a simulated client can make. Catalog reads exist over both APIs; customer flows are
+ * GraphQL-only and order processing is REST-only, as in the application.
+ */
+enum Operation {
+    BROWSE_REST("browse-rest", "REST"),
+    BROWSE_GRAPHQL("browse-graphql", "GRAPHQL"),
+    SEARCH_REST("search-rest", "REST"),
+    SEARCH_GRAPHQL("search-graphql", "GRAPHQL"),
+    ADD_TO_CART("add-to-cart", "GRAPHQL"),
+    PLACE_ORDER("place-order", "GRAPHQL"),
+    PROCESS_ORDER("process-order", "REST");
+
+    private final String key;
+    private final String protocol;
+
+    Operation(String key, String protocol) {
+        this.key = key;
+        this.protocol = protocol;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String protocol() {
+        return protocol;
+    }
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Operation::key).toList()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.ecommerce_system.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and error counts for one operation. Latency is measured from the request's scheduled
+ * start, so time spent queued behind a slow server counts against it (no coordinated omission).
+ */
+class OperationStats {
+    private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toMicros(2);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE, 3);
+    private final Histogram total = new Histogram(HIGHEST_TRACKABLE, 3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorsByReason = new ConcurrentHashMap<>();
+
+    void success(long latencyNanos) {
+        recorder.recordValue(toMicros(latencyNanos));
+        successes.increment();
+    }
+
+    void failure(long latencyNanos, String reason) {
+        recorder.recordValue(toMicros(latencyNanos));
+        errors.increment();
+        errorsByReason.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Folds everything recorded so far into the run total and returns it.
+     */
+    synchronized Histogram histogram() {
+        total.add(recorder.getIntervalHistogram());
+        return total;
+    }
+
+    long successes() {
+        return successes.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Map<String, Long> errorsByReason() {
+        Map<String, Long> snapshot = new ConcurrentHashMap<>();
+        errorsByReason.forEach((reason, count) -> snapshot.put(reason, count.sum()));
+        return snapshot;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE, Math.max(1L, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.ecommerce_system.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin HTTP client for the REST ({@code /api/v1}) and GraphQL ({@code /graphql}) endpoints.
+ * Non-2xx responses and GraphQL errors are thrown as {@link CallFailedException}.
+ */
+class ShopClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String restBase;
+    private final URI graphqlUri;
+
+    ShopClient(String baseUrl) {
+        String root = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.restBase = root + "/api/v1";
+        this.graphqlUri = URI.create(root + "/graphql");
+        this.httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    String signup(String email, String password, String firstName) {
+        post(null, "/auth/signup", Map.of(
+                "email", email,
+                "password", password,
+                "firstName", firstName,
+                "lastName", "Load",
+                "phone", "0200000000"));
+        return login(email, password);
+    }
+
+    String login(String email, String password) {
+        return post(null, "/auth/login", Map.of("email", email, "password", password))
+                .path("data").path("token").asText();
+    }
+
+    JsonNode get(String token, String path, Map<String, ?> query) {
+        StringBuilder uri = new StringBuilder(restBase).append(path);
+        char separator = '?';
+        for (Map.Entry<String, ?> parameter : query.entrySet()) {
+            uri.append(separator).append(parameter.getKey()).append('=')
+                    .append(URLEncoder.encode(String.valueOf(parameter.getValue()), StandardCharsets.UTF_8));
+            separator = '&';
+        }
+        return send(HttpRequest.newBuilder(URI.create(uri.toString())).GET(), token);
+    }
+
+    JsonNode post(String token, String path, Object body) {
+        return send(HttpRequest.newBuilder(URI.create(restBase + path))
+                .POST(HttpRequest.BodyPublishers.ofString(json(body))), token);
+    }
+
+    JsonNode patch(String token, String path, Object body) {
+        return send(HttpRequest.newBuilder(URI.create(restBase + path))
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(json(body))), token);
+    }
+
+    /**
+     * Runs a GraphQL document and returns its {@code data} node.
+     */
+    JsonNode graphql(String token, String document, Map<String, ?> variables) {
+        JsonNode response = send(HttpRequest.newBuilder(graphqlUri)
+                .POST(HttpRequest.BodyPublishers.ofString(json(Map.of("query", document, "variables", variables)))), token);
+        JsonNode errors = response.path("errors");
+        if (errors.isArray() && !errors.isEmpty())
+            throw new CallFailedException("graphql: " + errors.get(0).path("extensions").path("classification").asText("ERROR"),
+                    errors.get(0).path("message").asText());
+        return response.path("data");
+    }
+
+    static UUID id(JsonNode node) {
+        return UUID.fromString(node.asText());
+    }
+
+    private JsonNode send(HttpRequest.Builder request, String token) {
+        request.timeout(REQUEST_TIMEOUT).header("Content-Type", "application/json");
+        if (token != null)
+            request.header("Authorization", "Bearer " + token);
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new CallFailedException("io: " + e.getClass().getSimpleName(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CallFailedException("interrupted", e.getMessage());
+        }
+
+        if (response.statusCode() / 100 != 2)
+            throw new CallFailedException("http " + response.statusCode(), response.body());
+        try {
+            return response.body().isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            throw new CallFailedException("invalid json", e.getOriginalMessage());
+        }
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    /**
+     * A failed call. {@code reason} is short and low-cardinality so failures can be grouped in the report.
+     */
+    static class CallFailedException extends RuntimeException {
+        private final String reason;
+
+        CallFailedException(String reason, String detail) {
+            super(reason + ": " + detail, null, false, false);
+            this.reason = reason;
+        }
+
+        String reason() {
+            return reason;
+        }
+    }
+}
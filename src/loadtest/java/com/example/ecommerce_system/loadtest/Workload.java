@@ -0,0 +1,131 @@
+package com.example.ecommerce_system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seeds a catalog and a pool of shoppers, then performs one {@link Operation} per call against them.
+ * Orders placed during the run are queued for {@link Operation#PROCESS_ORDER}.
+ */
+class Workload {
+    private static final String PASSWORD = "Load-Test-Pa55!";
+    private static final String[] TERMS = {"mug", "lamp", "chair", "desk", "kettle", "pan", "shelf", "rug"};
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_QUEUED_ORDERS = 10_000;
+
+    private static final String BROWSE_QUERY = """
+            query Browse($limit: Int!) {
+              getProductsPage(limit: $limit) { items { productId name price stock } nextCursor hasMore }
+            }""";
+    private static final String SEARCH_QUERY = """
+            query Search($name: String!) {
+              getAllProductsWithReviews(limit: 10, offset: 0, reviewLimit: 3, name: $name) {
+                productId name price reviews { rating comment }
+              }
+            }""";
+    private static final String ADD_TO_CART = """
+            mutation Add($productId: ID!, $quantity: Int!) {
+              addCartItem(request: {productId: $productId, quantity: $quantity}) { cartItemId quantity }
+            }""";
+    private static final String PLACE_ORDER = """
+            mutation Place($input: OrderRequest!) {
+              placeOrder(input: $input) { orderId status totalAmount }
+            }""";
+
+    private final ShopClient client;
+    private final String adminToken;
+    private final List<String> shopperTokens = new ArrayList<>();
+    private final List<UUID> productIds = new ArrayList<>();
+    private final Queue<UUID> pendingOrders = new ConcurrentLinkedQueue<>();
+
+    Workload(ShopClient client, String adminToken) {
+        this.client = client;
+        this.adminToken = adminToken;
+    }
+
+    void seed(int users, int products) {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<UUID> categoryIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            JsonNode category = client.post(adminToken, "/admin/categories", Map.of(
+                    "name", "Load " + runId + " category " + i,
+                    "description", "Seeded by the load test"));
+            categoryIds.add(ShopClient.id(category.path("data").path("categoryId")));
+        }
+
+        for (int i = 0; i < products; i++) {
+            String term = TERMS[i % TERMS.length];
+            JsonNode product = client.post(adminToken, "/admin/products", Map.of(
+                    "name", "Load " + term + " " + runId + "-" + i,
+                    "description", "A " + term + " seeded by the load test",
+                    "price", 5.0 + (i % 50),
+                    "stock", 1_000_000,
+                    "categoryId", categoryIds.get(i % categoryIds.size())));
+            productIds.add(ShopClient.id(product.path("data").path("productId")));
+        }
+
+        for (int i = 0; i < users; i++)
+            shopperTokens.add(client.signup("shopper-" + runId + "-" + i + "@loadtest.local", PASSWORD, "Shopper" + i));
+    }
+
+    /**
+     * Performs the operation and returns the one that actually ran: processing falls back to
+     * placing an order while no order is waiting.
+     */
+    Operation execute(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (operation) {
+            case BROWSE_REST -> client.get(adminToken, "/admin/products",
+                    Map.of("limit", PAGE_SIZE, "offset", random.nextInt(5)));
+            case BROWSE_GRAPHQL -> client.graphql(shopper(random), BROWSE_QUERY, Map.of("limit", PAGE_SIZE));
+            case SEARCH_REST -> client.get(adminToken, "/admin/products",
+                    Map.of("limit", PAGE_SIZE, "offset", 0, "name", term(random)));
+            case SEARCH_GRAPHQL -> client.graphql(shopper(random), SEARCH_QUERY, Map.of("name", term(random)));
+            case ADD_TO_CART -> client.graphql(shopper(random), ADD_TO_CART,
+                    Map.of("productId", product(random), "quantity", 1 + random.nextInt(3)));
+            case PLACE_ORDER -> placeOrder(random);
+            case PROCESS_ORDER -> {
+                UUID orderId = pendingOrders.poll();
+                if (orderId == null) {
+                    placeOrder(random);
+                    return Operation.PLACE_ORDER;
+                }
+                client.patch(adminToken, "/admin/orders/" + orderId, Map.of("status", "PROCESSED"));
+            }
+        }
+        return operation;
+    }
+
+    private void placeOrder(ThreadLocalRandom random) {
+        int lines = 1 + random.nextInt(3);
+        List<Map<String, Object>> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++)
+            items.add(Map.of("productId", product(random), "quantity", 1 + random.nextInt(2)));
+        JsonNode data = client.graphql(shopper(random), PLACE_ORDER, Map.of("input", Map.of(
+                "country", "Ghana",
+                "city", "Accra",
+                "postalCode", "00233",
+                "items", items)));
+        if (pendingOrders.size() < MAX_QUEUED_ORDERS)
+            pendingOrders.add(ShopClient.id(data.path("placeOrder").path("orderId")));
+    }
+
+    private String shopper(ThreadLocalRandom random) {
+        return shopperTokens.get(random.nextInt(shopperTokens.size()));
+    }
+
+    private UUID product(ThreadLocalRandom random) {
+        return productIds.get(random.nextInt(productIds.size()));
+    }
+
+    private static String term(ThreadLocalRandom random) {
+        return TERMS[random.nextInt(TERMS.length)];
+    }
+}
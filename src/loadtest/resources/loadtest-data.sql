@@ -0,0 +1,8 @@
+INSERT INTO roles (role_id, role_name, description) VALUES
+    (RANDOM_UUID(), 'ADMIN', 'System administrator with full access'),
+    (RANDOM_UUID(), 'CUSTOMER', 'Regular customer account');
+
+INSERT INTO order_statuses (status_id, status_name, description) VALUES
+    (RANDOM_UUID(), 'PENDING', 'Order placed, awaiting processing'),
+    (RANDOM_UUID(), 'PROCESSED', 'Order processed'),
+    (RANDOM_UUID(), 'CANCELLED', 'Order cancelled');
@@ -1,20 +1,52 @@
 package com.example.ecommerce_system.config;
 
+import com.example.ecommerce_system.util.cache.CoalescingCaffeineCache;
+import com.example.ecommerce_system.util.cache.DependencyTrackingCache;
+import com.example.ecommerce_system.util.cache.PageAwareCacheResolver;
+import com.example.ecommerce_system.util.cache.PageWeigher;
+import com.example.ecommerce_system.util.cache.RefreshAheadCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.CacheResolver;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @EnableCaching
-public class CacheConfig {
+@EnableConfigurationProperties({
+        PageCacheProperties.class,
+        CacheRefreshProperties.class,
+        NegativeCacheProperties.class,
+        CacheWarmupProperties.class
+})
+@AllArgsConstructor
+public class CacheConfig implements CachingConfigurer {
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final PageCacheProperties pageCacheProperties;
+    private final CacheRefreshProperties refreshProperties;
+    private final NegativeCacheProperties negativeProperties;
+
+    @Override
+    public CacheResolver cacheResolver() {
+        return new PageAwareCacheResolver(cacheManager.getObject());
+    }
 
     @Bean
     @Profile("dev")
@@ -37,34 +69,91 @@ public class CacheConfig {
     private CacheManager createCacheManager(Duration baseTtl, int baseSize) {
         SimpleCacheManager cacheManager = new SimpleCacheManager();
 
-        cacheManager.setCaches(Arrays.asList(
-            buildCache("categories", baseTtl, 2, baseSize, 2),
-            buildCache("products", baseTtl, 2, baseSize, 4),
+        List<CoalescingCaffeineCache> caches = new ArrayList<>(Arrays.asList(
+            buildRefreshingCache("categories", baseTtl, 2, baseSize, 2),
+            buildRefreshingCache("products", baseTtl, 2, baseSize, 4),
             buildCache("users", baseTtl, 3, baseSize, 1),
-            buildCache("customers", baseTtl, 3, baseSize, 2),
-            buildCache("orders", baseTtl, 2, baseSize, 4),
+            buildCache("customers", baseTtl, 3, baseSize, 2, negativeTtl()),
+            buildCache("customer_identities", baseTtl, 3, baseSize, 4),
+            buildCache("orders", baseTtl, 2, baseSize, 4, negativeTtl()),
             buildCache("order_items", baseTtl, 2, baseSize, 10),
             buildCache("carts", baseTtl, 1, baseSize, 2),
-            buildCache("reviews", baseTtl, 2, baseSize, 6),
-            buildCache("paginated", baseTtl.dividedBy(2), baseSize, 3)
+            buildCache("reviews", baseTtl, 2, baseSize, 6)
         ));
+        pageCacheProperties.regions().forEach((name, region) -> caches.add(buildPageCache(name, region)));
+
+        cacheManager.setCaches(caches);
 
         return cacheManager;
     }
 
-    private CaffeineCache buildCache(String name, Duration baseTtl, int ttlMultiplier, int baseSize, int sizeMultiplier) {
-        return new CaffeineCache(name, Caffeine.newBuilder()
+    private CoalescingCaffeineCache buildCache(String name, Duration baseTtl, int ttlMultiplier, int baseSize, int sizeMultiplier) {
+        return buildCache(name, baseTtl, ttlMultiplier, baseSize, sizeMultiplier, null);
+    }
+
+    private CoalescingCaffeineCache buildCache(String name, Duration baseTtl, int ttlMultiplier, int baseSize, int sizeMultiplier, Duration negativeTtl) {
+        return new CoalescingCaffeineCache(name, Caffeine.newBuilder()
             .expireAfterWrite(baseTtl.multipliedBy(ttlMultiplier))
             .maximumSize((long) baseSize * sizeMultiplier)
             .recordStats()
-            .build());
+            .build(),
+            negativeTtl);
+    }
+
+    private Duration negativeTtl() {
+        return negativeProperties.isEnabled() ? negativeProperties.getTtl() : null;
+    }
+
+    /**
+     * Background executor for refresh-ahead reloads. A full queue drops the refresh; the cached value is
+     * served regardless and the next read tries again.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(refreshProperties.getLoaderThreads());
+        executor.setMaxPoolSize(refreshProperties.getLoaderThreads());
+        executor.setQueueCapacity(refreshProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("cache-refresh-");
+        return executor;
     }
 
-    private CaffeineCache buildCache(String name, Duration ttl, int baseSize, int sizeMultiplier) {
-        return new CaffeineCache(name, Caffeine.newBuilder()
-            .expireAfterWrite(ttl)
+    private CoalescingCaffeineCache buildRefreshingCache(String name, Duration baseTtl, int ttlMultiplier, int baseSize, int sizeMultiplier) {
+        if (!refreshProperties.isEnabled())
+            return buildCache(name, baseTtl, ttlMultiplier, baseSize, sizeMultiplier, negativeTtl());
+
+        Duration ttl = baseTtl.multipliedBy(ttlMultiplier);
+        return new RefreshAheadCache(name, Caffeine.newBuilder()
+            .expireAfterWrite(ttl.plus(refreshProperties.getStaleBudget()))
             .maximumSize((long) baseSize * sizeMultiplier)
             .recordStats()
-            .build());
+            .build(),
+            Duration.ofMillis((long) (ttl.toMillis() * refreshProperties.getRefreshRatio())),
+            ttl,
+            negativeTtl(),
+            cacheRefreshExecutor(),
+            refreshTransaction());
+    }
+
+    /**
+     * Read-only transaction for background refreshes. Cache-only contexts without a transaction
+     * manager refresh without one.
+     */
+    private TransactionOperations refreshTransaction() {
+        PlatformTransactionManager manager = transactionManager.getIfAvailable();
+        if (manager == null)
+            return TransactionOperations.withoutTransaction();
+
+        TransactionTemplate template = new TransactionTemplate(manager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private CoalescingCaffeineCache buildPageCache(String name, PageCacheProperties.Region region) {
+        return DependencyTrackingCache.create(name, Caffeine.newBuilder()
+            .expireAfterWrite(region.getTtl())
+            .maximumWeight(region.getMaxWeight().toBytes())
+            .weigher(new PageWeigher())
+            .recordStats());
     }
 }
@@ -0,0 +1,24 @@
+package com.example.ecommerce_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Refresh-ahead for the {@code products} and {@code categories} regions. A read of an entry older than
+ * {@code refreshRatio} of the region TTL reloads it on the refresh executor while the cached value is served.
+ * Entries are hard-expired at TTL + {@code staleBudget}, which bounds how long a value may be served
+ * while refreshes fail.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.refresh-ahead")
+public class CacheRefreshProperties {
+    private boolean enabled = true;
+    private double refreshRatio = 0.75;
+    private Duration staleBudget = Duration.ofMinutes(5);
+    private int loaderThreads = 2;
+    private int queueCapacity = 256;
+}
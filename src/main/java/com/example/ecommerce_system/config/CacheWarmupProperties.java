@@ -0,0 +1,26 @@
+package com.example.ecommerce_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Startup cache warm-up. Every {@code snapshotInterval}, and on shutdown, the {@code keysPerRegion}
+ * hottest replayable keys of each catalogue region are written to {@code file}. On the next start they
+ * are reloaded, at most {@code maxConcurrency} at a time, before the application reports ready;
+ * keys not loaded within {@code timeout} are skipped.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.warmup")
+public class CacheWarmupProperties {
+    private boolean enabled = true;
+    private Path file = Path.of("data", "cache-hot-keys.tsv");
+    private int keysPerRegion = 500;
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+    private int maxConcurrency = 8;
+    private Duration timeout = Duration.ofMinutes(1);
+}
@@ -0,0 +1,22 @@
+package com.example.ecommerce_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Write-behind cart buffer. Changes are flushed every {@code flushInterval} and on shutdown;
+ * a cart whose flush fails {@code maxAttempts} times is dropped and counted as lost.
+ * Clean carts untouched for {@code idleEviction} are released from memory.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cart.write-behind")
+public class CartWriteBehindProperties {
+    private Duration flushInterval = Duration.ofSeconds(2);
+    private int maxAttempts = 3;
+    private Duration idleEviction = Duration.ofMinutes(30);
+    private int lockStripes = 64;
+}
@@ -0,0 +1,44 @@
+package com.example.ecommerce_system.config;
+
+import com.example.ecommerce_system.util.db.AdmissionControlledDataSource;
+import com.example.ecommerce_system.util.db.DbAdmissionLimiter;
+import com.example.ecommerce_system.util.metrics.LatencyRecorder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Puts a {@link DbAdmissionLimiter} sized to the Hikari pool in front of the application's
+ * DataSource, so request threads (virtual ones in particular) queue for a permit instead of
+ * piling up inside the pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "db.admission", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DbAdmissionProperties.class)
+public class DbAdmissionConfig {
+
+    @Bean
+    static BeanPostProcessor dbAdmissionDataSourcePostProcessor(
+            Environment environment,
+            ObjectProvider<LatencyRecorder> latencyRecorder
+    ) {
+        DbAdmissionProperties properties = Binder.get(environment)
+                .bind("db.admission", DbAdmissionProperties.class)
+                .orElseGet(DbAdmissionProperties::new);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool))
+                    return bean;
+                return new AdmissionControlledDataSource(pool,
+                        new DbAdmissionLimiter(pool.getMaximumPoolSize(), properties, latencyRecorder));
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ecommerce_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Admission limit in front of the connection pool. At most {@code permits} connections are handed
+ * out at once (0 means the Hikari maximum pool size); further callers wait in FIFO order for up
+ * to {@code maxWait}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "db.admission")
+public class DbAdmissionProperties {
+    private boolean enabled = false;
+    private int permits = 0;
+    private Duration maxWait = Duration.ofSeconds(20);
+}
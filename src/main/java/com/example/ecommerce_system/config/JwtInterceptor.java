@@ -1,22 +1,20 @@
 package com.example.ecommerce_system.config;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
-import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.ecommerce_system.util.security.JwtTokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.AllArgsConstructor;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 @Component
 @Order(1)
+@AllArgsConstructor
 public class JwtInterceptor implements HandlerInterceptor {
 
-    @Value("${jwt.token.secret-key}")
-    private String secretKey;
+    private final JwtTokenProvider jwtTokenProvider;
 
     @Override
     public boolean preHandle(HttpServletRequest request,
@@ -32,11 +30,10 @@ public class JwtInterceptor implements HandlerInterceptor {
 
         try {
             token = token.substring(7);
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            DecodedJWT decodedJWT = JWT.require(algorithm).build().verify(token);
+            JwtTokenProvider.VerifiedToken verified = jwtTokenProvider.verify(token);
 
-            String role = decodedJWT.getClaim("role").asString();
-            String userId = decodedJWT.getSubject();
+            String role = verified.role();
+            String userId = verified.subject();
             if (!"ADMIN".equals(role) && !"CUSTOMER".equals(role)) {
                 response.setStatus(HttpServletResponse.SC_FORBIDDEN);
                 return false;
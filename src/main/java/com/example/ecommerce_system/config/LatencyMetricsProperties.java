@@ -0,0 +1,21 @@
+package com.example.ecommerce_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Rolling window used by the in-process latency histograms. The window spans
+ * {@code intervals} slices of {@code rotation} each; the oldest slice is dropped on every rotation.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "performance.latency")
+public class LatencyMetricsProperties {
+    private Duration rotation = Duration.ofSeconds(10);
+    private int intervals = 6;
+    private Duration highestTrackable = Duration.ofMinutes(1);
+    private int significantDigits = 2;
+}
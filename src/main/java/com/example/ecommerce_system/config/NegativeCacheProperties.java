@@ -0,0 +1,19 @@
+package com.example.ecommerce_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Not-found results of single-entity lookups ({@code products}, {@code categories}, {@code customers},
+ * {@code orders}) are remembered for {@code ttl}, or until an entity of that type is created.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.negative")
+public class NegativeCacheProperties {
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofSeconds(30);
+}
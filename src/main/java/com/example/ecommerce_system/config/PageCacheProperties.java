@@ -0,0 +1,45 @@
+package com.example.ecommerce_system.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-domain page cache regions, each bounded by TTL and by the estimated bytes of its cached pages.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.pages")
+public class PageCacheProperties {
+    private Region products = new Region(Duration.ofMinutes(2), DataSize.ofMegabytes(8));
+    private Region orders = new Region(Duration.ofMinutes(1), DataSize.ofMegabytes(8));
+    private Region customers = new Region(Duration.ofMinutes(2), DataSize.ofMegabytes(2));
+    private Region categories = new Region(Duration.ofMinutes(5), DataSize.ofMegabytes(1));
+    private Region reviews = new Region(Duration.ofMinutes(2), DataSize.ofMegabytes(4));
+
+    public Map<String, Region> regions() {
+        Map<String, Region> regions = new LinkedHashMap<>();
+        regions.put("product_pages", products);
+        regions.put("order_pages", orders);
+        regions.put("customer_pages", customers);
+        regions.put("category_pages", categories);
+        regions.put("review_pages", reviews);
+        return regions;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private Duration ttl;
+        private DataSize maxWeight;
+    }
+}
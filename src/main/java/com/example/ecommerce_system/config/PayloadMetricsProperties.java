@@ -0,0 +1,17 @@
+package com.example.ecommerce_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Controls request/response payload sizing. A sample rate below 1 wraps only that fraction of requests
+ * with counting streams; unsampled requests fall back to the Content-Length header.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "performance.payload")
+public class PayloadMetricsProperties {
+    private boolean enabled = true;
+    private double sampleRate = 1.0;
+}
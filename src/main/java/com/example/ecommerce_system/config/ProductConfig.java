@@ -0,0 +1,8 @@
+package com.example.ecommerce_system.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({ProductSearchProperties.class, ProductImportProperties.class})
+public class ProductConfig {}
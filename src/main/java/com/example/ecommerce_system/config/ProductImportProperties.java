@@ -0,0 +1,17 @@
+package com.example.ecommerce_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bulk product import. Valid rows are inserted {@code batchSize} at a time, each chunk in its own
+ * transaction; at most {@code maxReportedErrors} rejected rows are listed in the response.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.import")
+public class ProductImportProperties {
+    private int batchSize = 1000;
+    private int maxReportedErrors = 1000;
+}
@@ -0,0 +1,24 @@
+package com.example.ecommerce_system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Selects how product name/description filters are evaluated. {@code LIKE} keeps substring
+ * semantics (served by the trigram indexes); {@code FULL_TEXT} matches words against the
+ * product's tsvector and ranks results by relevance; {@code IN_MEMORY} answers filters from an
+ * inverted index held in the application, with the same substring semantics as {@code LIKE}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.search")
+public class ProductSearchProperties {
+    private SearchMode mode = SearchMode.LIKE;
+
+    public enum SearchMode {
+        LIKE,
+        FULL_TEXT,
+        IN_MEMORY
+    }
+}
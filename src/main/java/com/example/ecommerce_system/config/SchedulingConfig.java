@@ -1,9 +1,8 @@
 package com.example.ecommerce_system.config;
 
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
-@EnableRetry
-public class RetryConfiguration {
-}
+@EnableScheduling
+public class SchedulingConfig {}
@@ -1,5 +1,6 @@
 package com.example.ecommerce_system.controller.graphql;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.orders.CreateOrderRequest;
 import com.example.ecommerce_system.dto.orders.OrderRequestDto;
 import com.example.ecommerce_system.dto.orders.OrderResponseDto;
@@ -32,6 +33,17 @@ public class OrderGraphQLController {
         return orderService.getCustomerOrders(userUuid, limitValue, offsetValue);
     }
 
+    @QueryMapping
+    public CursorPageDto<OrderResponseDto> getCustomerOrdersPage(
+            @Argument(name = "limit") Integer limit,
+            @Argument(name = "after") String after) {
+
+        UUID userUuid = UUID.fromString(RequestContextUtil.getUserId());
+        int limitValue = limit != null ? limit : 10;
+
+        return orderService.scrollCustomerOrders(userUuid, limitValue, after);
+    }
+
     @MutationMapping
     public OrderResponseDto placeOrder(
             @Argument @Validated(CreateOrderRequest.class) OrderRequestDto input) {
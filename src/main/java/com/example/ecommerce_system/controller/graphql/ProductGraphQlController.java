@@ -1,6 +1,8 @@
 package com.example.ecommerce_system.controller.graphql;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
 import com.example.ecommerce_system.dto.product.ProductWithReviewsDto;
 import com.example.ecommerce_system.service.ProductService;
 import lombok.AllArgsConstructor;
@@ -15,6 +17,9 @@ import java.util.UUID;
 @AllArgsConstructor
 public class ProductGraphQlController {
 
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+    private static final int MAX_REVIEW_LIMIT = 50;
+
     private final ProductService productService;
 
     /**
@@ -34,7 +39,6 @@ public class ProductGraphQlController {
             @Argument Integer minStock,
             @Argument Integer maxStock
     ) {
-        final int MAX_REVIEW_LIMIT = 50;
         int effectiveReviewLimit = Math.min(reviewLimit, MAX_REVIEW_LIMIT);
 
         ProductFilter filter = ProductFilter.builder()
@@ -49,6 +53,40 @@ public class ProductGraphQlController {
 
         return filter.isEmpty()
                 ? productService.getAllProductsWithReviews(limit, offset, effectiveReviewLimit)
-                : productService.searchProductsWithReviews(filter, limit, offset);
+                : productService.searchProductsWithReviews(filter, limit, offset, effectiveReviewLimit);
+    }
+
+    /**
+     * Retrieves products ordered by name using keyset pagination.
+     * Pass the returned nextCursor as {@code after} to fetch the following page.
+     */
+    @QueryMapping
+    public CursorPageDto<ProductResponseDto> getProductsPage(
+            @Argument int limit,
+            @Argument String after,
+            @Argument String name,
+            @Argument String description,
+            @Argument UUID categoryId,
+            @Argument Double minPrice,
+            @Argument Double maxPrice,
+            @Argument Integer minStock,
+            @Argument Integer maxStock
+    ) {
+        ProductFilter filter = ProductFilter.builder()
+                .name(name)
+                .description(description)
+                .categoryId(categoryId)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minStock(minStock)
+                .maxStock(maxStock)
+                .build();
+
+        return productService.scrollProducts(filter, limit, after);
+    }
+
+    @QueryMapping
+    public List<ProductResponseDto> autocompleteProducts(@Argument String prefix, @Argument int limit) {
+        return productService.autocompleteProducts(prefix, Math.min(limit, MAX_AUTOCOMPLETE_LIMIT));
     }
 }
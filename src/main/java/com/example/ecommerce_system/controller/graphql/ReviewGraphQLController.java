@@ -1,22 +1,31 @@
 package com.example.ecommerce_system.controller.graphql;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
+import com.example.ecommerce_system.dto.customer.CustomerResponseDto;
 import com.example.ecommerce_system.dto.review.ReviewRequestDto;
 import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+import com.example.ecommerce_system.service.CustomerService;
 import com.example.ecommerce_system.service.ReviewService;
 import com.example.ecommerce_system.util.RequestContextUtil;
 import lombok.AllArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Controller
 @AllArgsConstructor
 public class ReviewGraphQLController {
     private final ReviewService reviewService;
+    private final CustomerService customerService;
 
     /**
      * GraphQL query to retrieve paginated reviews for a specific product.
@@ -33,6 +42,20 @@ public class ReviewGraphQLController {
         return reviewService.getReviewsByProduct(productUuid, actualLimit, actualOffset);
     }
 
+    /**
+     * GraphQL query to retrieve a product's reviews newest first using keyset pagination.
+     */
+    @QueryMapping
+    public CursorPageDto<ReviewResponseDto> getProductReviewsPage(
+            @Argument String productId,
+            @Argument Integer limit,
+            @Argument String after) {
+        UUID productUuid = UUID.fromString(productId);
+        int actualLimit = limit != null ? limit : 10;
+
+        return reviewService.scrollReviewsByProduct(productUuid, actualLimit, after);
+    }
+
     /**
      * GraphQL mutation to create a new review for a product.
      * Validates that the customer has ordered and received (processed) the product.
@@ -46,4 +69,27 @@ public class ReviewGraphQLController {
 
         return reviewService.createReview(productUuid, userUuid, request);
     }
+
+    /**
+     * Resolves review authors with a single query for all reviews in the response.
+     * Reviews that already carry their customer are returned as they are.
+     */
+    @BatchMapping(typeName = "ReviewResponseDto")
+    public Map<ReviewResponseDto, CustomerResponseDto> customer(List<ReviewResponseDto> reviews) {
+        Set<UUID> missing = reviews.stream()
+                .filter(review -> review.getCustomer() == null && review.getCustomerId() != null)
+                .map(ReviewResponseDto::getCustomerId)
+                .collect(Collectors.toSet());
+        Map<UUID, CustomerResponseDto> customers = customerService.getCustomersByIds(missing);
+
+        Map<ReviewResponseDto, CustomerResponseDto> result = new HashMap<>();
+        for (ReviewResponseDto review : reviews) {
+            CustomerResponseDto customer = review.getCustomer() != null
+                    ? review.getCustomer()
+                    : customers.get(review.getCustomerId());
+            if (customer != null)
+                result.put(review, customer);
+        }
+        return result;
+    }
 }
@@ -3,8 +3,10 @@ package com.example.ecommerce_system.controller.rest;
 import com.example.ecommerce_system.config.RequireAdmin;
 import com.example.ecommerce_system.dto.cache.CacheComparison;
 import com.example.ecommerce_system.dto.cache.CacheSnapshot;
+import com.example.ecommerce_system.dto.cache.CacheWarmupReport;
 import com.example.ecommerce_system.dto.cache.PerformanceReport;
 import com.example.ecommerce_system.service.CacheAnalysisService;
+import com.example.ecommerce_system.service.CacheWarmupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -23,6 +25,7 @@ import java.util.List;
 public class CacheAnalysisController {
 
     private final CacheAnalysisService cacheAnalysisService;
+    private final CacheWarmupService cacheWarmupService;
 
     @Operation(summary = "Capture baseline performance")
     @ApiResponses({
@@ -94,6 +97,28 @@ public class CacheAnalysisController {
         return ResponseEntity.ok(summary);
     }
 
+    @Operation(summary = "Get the last startup cache warm-up report")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Warm-up report retrieved"),
+            @ApiResponse(responseCode = "404", description = "No warm-up has run")
+    })
+    @GetMapping("/warmup")
+    public ResponseEntity<CacheWarmupReport> getWarmupReport() {
+        return cacheWarmupService.getLastReport()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Record the hottest cache keys for the next warm-up")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Hot keys recorded")
+    })
+    @PostMapping("/warmup/snapshot")
+    public ResponseEntity<String> recordHotKeys() {
+        int recorded = cacheWarmupService.recordHotKeys();
+        return ResponseEntity.ok("Recorded " + recorded + " hot keys");
+    }
+
     @Operation(summary = "Get individual cache analysis")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Cache analysis retrieved"),
@@ -0,0 +1,41 @@
+package com.example.ecommerce_system.controller.rest;
+
+import com.example.ecommerce_system.config.RequireAdmin;
+import com.example.ecommerce_system.dto.metrics.CartStoreStats;
+import com.example.ecommerce_system.util.cart.WriteBehindCartStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/cart-store")
+@RequireAdmin
+@AllArgsConstructor
+@Tag(name = "Cart Store", description = "Write-behind cart buffer queue depth, flush latency and lost writes")
+public class CartStoreController {
+
+    private final WriteBehindCartStore cartStore;
+
+    @Operation(summary = "Get write-behind cart buffer statistics")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Cart store statistics retrieved")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<CartStoreStats> getCartStoreStats() {
+        return ResponseEntity.ok(cartStore.stats());
+    }
+
+    @Operation(summary = "Flush all buffered cart changes now")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Buffered cart changes flushed")
+    })
+    @PostMapping("/flush")
+    public ResponseEntity<CartStoreStats> flushCartStore() {
+        cartStore.flushPending();
+        return ResponseEntity.ok(cartStore.stats());
+    }
+}
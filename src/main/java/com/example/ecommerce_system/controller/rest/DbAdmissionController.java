@@ -0,0 +1,40 @@
+package com.example.ecommerce_system.controller.rest;
+
+import com.example.ecommerce_system.config.RequireAdmin;
+import com.example.ecommerce_system.dto.metrics.DbAdmissionStats;
+import com.example.ecommerce_system.util.db.AdmissionControlledDataSource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@RestController
+@RequestMapping("/admin/db-admission")
+@RequireAdmin
+@ConditionalOnProperty(prefix = "db.admission", name = "enabled", havingValue = "true")
+@Tag(name = "DB Admission", description = "Connection admission permits, queue depth and wait times")
+public class DbAdmissionController {
+
+    private final AdmissionControlledDataSource dataSource;
+
+    public DbAdmissionController(DataSource dataSource) throws SQLException {
+        this.dataSource = dataSource.unwrap(AdmissionControlledDataSource.class);
+    }
+
+    @Operation(summary = "Get database admission statistics")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Admission statistics retrieved")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<DbAdmissionStats> getDbAdmissionStats() {
+        return ResponseEntity.ok(dataSource.limiter().stats());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.ecommerce_system.controller.rest;
+
+import com.example.ecommerce_system.config.RequireAdmin;
+import com.example.ecommerce_system.dto.metrics.LatencySnapshot;
+import com.example.ecommerce_system.util.metrics.LatencyRecorder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/latency-metrics")
+@RequireAdmin
+@AllArgsConstructor
+@Tag(name = "Latency Metrics", description = "Rolling latency percentiles and throughput per REST and GraphQL operation")
+public class LatencyMetricsController {
+
+    private final LatencyRecorder latencyRecorder;
+
+    @Operation(summary = "Get latency percentiles per operation over the rolling window")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Latency snapshot retrieved")
+    })
+    @GetMapping
+    public ResponseEntity<List<LatencySnapshot>> getLatencyMetrics(@RequestParam(required = false) String type) {
+        List<LatencySnapshot> snapshots = latencyRecorder.snapshot().stream()
+                .filter(snapshot -> type == null || snapshot.getType().equalsIgnoreCase(type))
+                .toList();
+        return ResponseEntity.ok(snapshots);
+    }
+
+    @Operation(summary = "Discard all recorded latencies")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Latency histograms reset successfully")
+    })
+    @DeleteMapping("/reset")
+    public ResponseEntity<String> resetLatencyMetrics() {
+        latencyRecorder.reset();
+        return ResponseEntity.ok("Latency histograms reset");
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.ecommerce_system.controller.rest;
 
 import com.example.ecommerce_system.config.RequireAdmin;
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.SuccessResponseDto;
+import com.example.ecommerce_system.dto.orders.BulkOrderStatusRequest;
+import com.example.ecommerce_system.dto.orders.BulkOrderStatusResult;
 import com.example.ecommerce_system.dto.orders.OrderFilter;
 import com.example.ecommerce_system.dto.orders.OrderRequestDto;
 import com.example.ecommerce_system.dto.orders.OrderResponseDto;
@@ -12,6 +15,7 @@ import com.example.ecommerce_system.util.handler.SuccessResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
@@ -67,6 +71,39 @@ public class OrderAdminController {
         return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, orders);
     }
 
+    @Operation(summary = "Scroll through orders newest first using an opaque cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "A page of orders and the cursor for the next page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/scroll")
+    public SuccessResponseDto<CursorPageDto<OrderResponseDto>> scrollOrders(
+            @RequestParam @Min(1) int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(required = false) OrderStatusType status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant minOrderDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant maxOrderDate,
+            @RequestParam(required = false) @PositiveOrZero Double minAmount,
+            @RequestParam(required = false) @PositiveOrZero Double maxAmount,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) String city
+    ) {
+        OrderFilter filter = OrderFilter.builder()
+                .customerId(customerId)
+                .status(status)
+                .minOrderDate(minOrderDate)
+                .maxOrderDate(maxOrderDate)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .shippingCountry(country)
+                .shippingCity(city)
+                .build();
+
+        var page = orderService.scrollOrders(filter, limit, cursor);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, page);
+    }
+
     @Operation(summary = "Retrieve a single order by orderId")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "A single order retrieved"),
@@ -78,6 +115,21 @@ public class OrderAdminController {
         return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, order);
     }
 
+    @Operation(summary = "Process or cancel many orders at once",
+            description = "Pending orders move to the requested status; every order gets its own outcome. "
+                    + "Orders that cannot be moved are reported and do not fail the rest.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch applied; see the per-order outcomes"),
+            @ApiResponse(responseCode = "400", description = "Bad request")
+    })
+    @PatchMapping("/status")
+    public SuccessResponseDto<BulkOrderStatusResult> updateOrderStatuses(
+            @RequestBody @Valid BulkOrderStatusRequest request
+    ) {
+        var result = orderService.updateOrderStatuses(request);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, result);
+    }
+
     @Operation(summary = "Update order status by id")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Order status updated"),
@@ -2,25 +2,33 @@ package com.example.ecommerce_system.controller.rest;
 
 import com.example.ecommerce_system.config.RequireAdmin;
 import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.SuccessResponseDto;
 import com.example.ecommerce_system.dto.product.CreateProductRequest;
+import com.example.ecommerce_system.dto.product.ProductImportResult;
 import com.example.ecommerce_system.dto.product.ProductRequestDto;
 import com.example.ecommerce_system.dto.product.ProductResponseDto;
 import com.example.ecommerce_system.dto.product.UpdateProductRequest;
 import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+import com.example.ecommerce_system.exception.product.ProductImportException;
+import com.example.ecommerce_system.service.ProductImportService;
 import com.example.ecommerce_system.service.ProductService;
 import com.example.ecommerce_system.service.ReviewService;
 import com.example.ecommerce_system.util.handler.SuccessResponseHandler;
+import com.example.ecommerce_system.util.importer.ProductImportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +40,7 @@ import java.util.UUID;
 public class ProductAdminController {
     private final ProductService productService;
     private final ReviewService reviewService;
+    private final ProductImportService productImportService;
 
     @Operation(summary = "Retrieve all products")
     @ApiResponses({
@@ -66,6 +75,37 @@ public class ProductAdminController {
         return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, products);
     }
 
+    @Operation(summary = "Scroll through products ordered by name using an opaque cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "A page of products and the cursor for the next page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/scroll")
+    public SuccessResponseDto<CursorPageDto<ProductResponseDto>> scrollProducts(
+            @RequestParam @Min(1) int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) @PositiveOrZero Double minPrice,
+            @RequestParam(required = false) @PositiveOrZero Double maxPrice,
+            @RequestParam(required = false) @Min(0) Integer minStock,
+            @RequestParam(required = false) @Min(0) Integer maxStock
+    ) {
+        ProductFilter filter = ProductFilter.builder()
+                .name(name)
+                .description(description)
+                .categoryId(categoryId)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minStock(minStock)
+                .maxStock(maxStock)
+                .build();
+
+        var page = productService.scrollProducts(filter, limit, cursor);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, page);
+    }
+
     @Operation(summary = "Retrieve a single product by productId")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "A single product retrieved"),
@@ -92,6 +132,22 @@ public class ProductAdminController {
         return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, product);
     }
 
+    @Operation(summary = "Scroll through a product's reviews newest first using an opaque cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "A page of reviews and the cursor for the next page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "404", description = "Product not found")
+    })
+    @GetMapping("/{id}/reviews/scroll")
+    public SuccessResponseDto<CursorPageDto<ReviewResponseDto>> scrollProductReviews(
+            @PathVariable UUID id,
+            @RequestParam @Min(1) int limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        var page = reviewService.scrollReviewsByProduct(id, limit, cursor);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, page);
+    }
+
     @Operation(summary = "Create a new product")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Product created"),
@@ -105,6 +161,25 @@ public class ProductAdminController {
         return SuccessResponseHandler.generateSuccessResponse(HttpStatus.CREATED, productCreated);
     }
 
+    @Operation(summary = "Bulk import products from an NDJSON or CSV body",
+            description = "Each row carries name, description, price, stock and categoryId. Valid rows are "
+                    + "inserted in batches; rejected rows are reported with their line number.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import finished; see the counts and per-row errors"),
+            @ApiResponse(responseCode = "400", description = "Body could not be read"),
+            @ApiResponse(responseCode = "415", description = "Body is neither NDJSON nor CSV")
+    })
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public SuccessResponseDto<ProductImportResult> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) {
+        ProductImportFormat format = ProductImportFormat.fromMediaType(contentType)
+                .orElseThrow(() -> new ProductImportException("unsupported content type " + contentType));
+        var result = productImportService.importProducts(body, format);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, result);
+    }
+
     @Operation(summary = "Update a product by id")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Product updated"),
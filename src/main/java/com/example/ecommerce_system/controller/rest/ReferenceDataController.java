@@ -0,0 +1,74 @@
+package com.example.ecommerce_system.controller.rest;
+
+import com.example.ecommerce_system.config.RequireAdmin;
+import com.example.ecommerce_system.dto.metrics.ReferenceDataStats;
+import com.example.ecommerce_system.model.OrderStatus;
+import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.util.registry.OrderStatusRegistry;
+import com.example.ecommerce_system.util.registry.RoleRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+
+@RestController
+@RequestMapping("/admin/reference-data")
+@RequireAdmin
+@AllArgsConstructor
+@Tag(name = "Reference Data", description = "In-memory order statuses and roles")
+public class ReferenceDataController {
+
+    private final OrderStatusRegistry orderStatusRegistry;
+    private final RoleRegistry roleRegistry;
+
+    @Operation(summary = "Show the order statuses and roles currently held in memory")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reference data retrieved")
+    })
+    @GetMapping
+    public ResponseEntity<ReferenceDataStats> getReferenceData() {
+        return ResponseEntity.ok(stats(orderStatusRegistry.getAll(), roleRegistry.getAll(), null));
+    }
+
+    @Operation(summary = "Reload order statuses and roles from the database")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reference data reloaded"),
+            @ApiResponse(responseCode = "500", description = "A required status or role is missing; the previous data stays in use")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<ReferenceDataStats> refreshReferenceData() {
+        return ResponseEntity.ok(stats(orderStatusRegistry.refresh(), roleRegistry.refresh(), Instant.now()));
+    }
+
+    private static ReferenceDataStats stats(
+            Map<OrderStatusType, OrderStatus> statuses,
+            Map<RoleType, Role> roles,
+            Instant refreshedAt
+    ) {
+        return ReferenceDataStats.builder()
+                .orderStatuses(ids(statuses, OrderStatus::getStatusId))
+                .roles(ids(roles, Role::getRoleId))
+                .refreshedAt(refreshedAt)
+                .build();
+    }
+
+    private static <K extends Enum<K>, V> Map<K, UUID> ids(Map<K, V> entries, Function<V, UUID> id) {
+        Map<K, UUID> ids = new TreeMap<>();
+        entries.forEach((key, value) -> ids.put(key, id.apply(value)));
+        return ids;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ecommerce_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A keyset-paginated slice of results. Pass {@code nextCursor} back to fetch the following page.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
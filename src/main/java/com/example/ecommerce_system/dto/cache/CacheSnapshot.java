@@ -19,6 +19,16 @@ public class CacheSnapshot {
     private long requestCount;
     private long loadCount;
     private double averageLoadTime;
+    private long coalescedWaiters;
+    private long negativeHitCount;
+    private long negativeEntryCount;
+    private long refreshCount;
+    private long refreshFailureCount;
+    private long staleHitCount;
     private long evictionCount;
+    private long evictionWeight;
+    private long entryCount;
+    private Long weightedSize;
+    private Long maximumWeight;
     private LocalDateTime timestamp;
 }
@@ -0,0 +1,18 @@
+package com.example.ecommerce_system.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheWarmupRegion {
+    private String cacheName;
+    private int keysRecorded;
+    private int keysLoaded;
+    private int keysFailed;
+    private long entryCount;
+}
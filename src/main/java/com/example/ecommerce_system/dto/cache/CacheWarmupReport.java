@@ -0,0 +1,24 @@
+package com.example.ecommerce_system.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheWarmupReport {
+    private LocalDateTime startedAt;
+    private double durationMs;
+    private int keysRecorded;
+    private int keysLoaded;
+    private int keysFailed;
+    private int keysSkipped;
+    private double coverage;
+    private List<CacheWarmupRegion> regions;
+}
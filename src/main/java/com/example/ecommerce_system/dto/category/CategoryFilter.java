@@ -26,4 +26,14 @@ public class CategoryFilter {
     public boolean isEmpty() {
         return !hasName() && !hasDescription();
     }
+
+    /**
+     * Immutable, value-equal snapshot of the filter for use in cache keys.
+     */
+    public Key cacheKey() {
+        return new Key(name, description);
+    }
+
+    public record Key(String name, String description) {
+    }
 }
@@ -0,0 +1,10 @@
+package com.example.ecommerce_system.dto.customer;
+
+import java.util.UUID;
+
+/**
+ * What customer-facing endpoints need to know about the caller: their customer row, their cart
+ * (null until one is written) and whether the account is active.
+ */
+public record CustomerIdentity(UUID userId, UUID customerId, UUID cartId, Boolean active) {
+}
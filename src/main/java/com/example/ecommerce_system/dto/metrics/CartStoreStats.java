@@ -0,0 +1,24 @@
+package com.example.ecommerce_system.dto.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartStoreStats {
+    private int cachedCarts;
+    private int pendingCarts;
+    private int pendingChanges;
+    private long flushes;
+    private long failedFlushes;
+    private long flushedCarts;
+    private long flushedRows;
+    private long lostCarts;
+    private long lostWrites;
+    private double lastFlushMs;
+    private double maxFlushMs;
+}
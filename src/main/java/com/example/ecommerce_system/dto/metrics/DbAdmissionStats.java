@@ -0,0 +1,20 @@
+package com.example.ecommerce_system.dto.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DbAdmissionStats {
+    private int permits;
+    private int inUse;
+    private int waiting;
+    private long admitted;
+    private long queued;
+    private long timedOut;
+    private double maxWaitMs;
+}
@@ -0,0 +1,24 @@
+package com.example.ecommerce_system.dto.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencySnapshot {
+    private String type;
+    private String operation;
+    private long count;
+    private double throughputPerSecond;
+    private double windowSeconds;
+    private double meanMs;
+    private double p50Ms;
+    private double p90Ms;
+    private double p99Ms;
+    private double p999Ms;
+    private double maxMs;
+}
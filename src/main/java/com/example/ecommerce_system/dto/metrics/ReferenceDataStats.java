@@ -0,0 +1,22 @@
+package com.example.ecommerce_system.dto.metrics;
+
+import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.model.RoleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceDataStats {
+    private Map<OrderStatusType, UUID> orderStatuses;
+    private Map<RoleType, UUID> roles;
+    private Instant refreshedAt;
+}
@@ -0,0 +1,26 @@
+package com.example.ecommerce_system.dto.orders;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderOutcome {
+    private UUID orderId;
+    private Result result;
+    private String message;
+
+    public enum Result {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        INVALID_TRANSITION,
+        INSUFFICIENT_STOCK
+    }
+}
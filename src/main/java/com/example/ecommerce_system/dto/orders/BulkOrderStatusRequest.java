@@ -0,0 +1,26 @@
+package com.example.ecommerce_system.dto.orders;
+
+import com.example.ecommerce_system.model.OrderStatusType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@Getter
+public class BulkOrderStatusRequest {
+    public static final int MAX_ORDERS = 5000;
+
+    @NotNull(message = "status is required and cannot be empty")
+    private OrderStatusType status;
+
+    @NotEmpty(message = "orderIds is required")
+    @Size(max = MAX_ORDERS, message = "at most " + MAX_ORDERS + " orders can be updated at once")
+    private List<@NotNull(message = "orderIds cannot contain null") UUID> orderIds;
+}
@@ -0,0 +1,22 @@
+package com.example.ecommerce_system.dto.orders;
+
+import com.example.ecommerce_system.model.OrderStatusType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderStatusResult {
+    private OrderStatusType status;
+    private int requested;
+    private int updated;
+    private int unchanged;
+    private int failed;
+    private List<BulkOrderOutcome> outcomes;
+}
@@ -69,4 +69,23 @@ public class OrderFilter {
         return !hasCustomerId() && !hasStatus() && !hasOrderDateRange() &&
                !hasAmountRange() && !hasShippingCountry() && !hasShippingCity();
     }
+
+    /**
+     * Immutable, value-equal snapshot of the filter for use in cache keys.
+     */
+    public Key cacheKey() {
+        return new Key(customerId, status, minOrderDate, maxOrderDate, minAmount, maxAmount, shippingCountry, shippingCity);
+    }
+
+    public record Key(
+            UUID customerId,
+            OrderStatusType status,
+            Instant minOrderDate,
+            Instant maxOrderDate,
+            Double minAmount,
+            Double maxAmount,
+            String shippingCountry,
+            String shippingCity
+    ) {
+    }
 }
@@ -0,0 +1,9 @@
+package com.example.ecommerce_system.dto.orders;
+
+import java.util.UUID;
+
+/**
+ * Quantity of one product on one order, read without loading the order items themselves.
+ */
+public record OrderLineQuantity(UUID orderId, UUID productId, long quantity) {
+}
@@ -51,4 +51,22 @@ public class ProductFilter {
                 && !hasMinPrice() && !hasMaxPrice()
                 && !hasMinStock() && !hasMaxStock();
     }
+
+    /**
+     * Immutable, value-equal snapshot of the filter for use in cache keys.
+     */
+    public Key cacheKey() {
+        return new Key(name, description, categoryId, minPrice, maxPrice, minStock, maxStock);
+    }
+
+    public record Key(
+            String name,
+            String description,
+            UUID categoryId,
+            Double minPrice,
+            Double maxPrice,
+            Integer minStock,
+            Integer maxStock
+    ) {
+    }
 }
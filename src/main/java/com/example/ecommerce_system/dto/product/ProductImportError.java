@@ -0,0 +1,15 @@
+package com.example.ecommerce_system.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportError {
+    private long line;
+    private String message;
+}
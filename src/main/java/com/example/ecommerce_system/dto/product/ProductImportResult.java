@@ -0,0 +1,21 @@
+package com.example.ecommerce_system.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResult {
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private List<ProductImportError> errors;
+    private boolean errorsTruncated;
+    private double elapsedMs;
+}
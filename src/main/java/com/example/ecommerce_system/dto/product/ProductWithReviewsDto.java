@@ -15,6 +15,7 @@ import java.util.UUID;
 @Builder
 public class ProductWithReviewsDto {
     private UUID productId;
+    private UUID categoryId;
     private CategoryResponseDto category;
     private String name;
     private String description;
@@ -0,0 +1,11 @@
+package com.example.ecommerce_system.exception;
+
+/**
+ * A lookup of an entity that does not exist. Stale links and deleted ids make these routine,
+ * and they always end as a 404, so no stack trace is captured.
+ */
+public abstract class ResourceNotFoundException extends RuntimeException {
+    protected ResourceNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
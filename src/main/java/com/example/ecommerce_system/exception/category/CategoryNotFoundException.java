@@ -1,6 +1,8 @@
 package com.example.ecommerce_system.exception.category;
 
-public class CategoryNotFoundException extends RuntimeException {
+import com.example.ecommerce_system.exception.ResourceNotFoundException;
+
+public class CategoryNotFoundException extends ResourceNotFoundException {
     public CategoryNotFoundException(String identifier) {
         super("The Category '" + identifier + "' was not found.");
     }
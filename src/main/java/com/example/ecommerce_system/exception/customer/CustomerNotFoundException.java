@@ -1,6 +1,8 @@
 package com.example.ecommerce_system.exception.customer;
 
-public class CustomerNotFoundException extends RuntimeException {
+import com.example.ecommerce_system.exception.ResourceNotFoundException;
+
+public class CustomerNotFoundException extends ResourceNotFoundException {
     public CustomerNotFoundException(String identifier) {
         super("Customer with identifier '" + identifier + "' not found.");
     }
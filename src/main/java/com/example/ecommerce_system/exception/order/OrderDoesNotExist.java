@@ -1,6 +1,8 @@
 package com.example.ecommerce_system.exception.order;
 
-public class OrderDoesNotExist extends RuntimeException {
+import com.example.ecommerce_system.exception.ResourceNotFoundException;
+
+public class OrderDoesNotExist extends ResourceNotFoundException {
     public OrderDoesNotExist(String identifier) {
         super("The order '" + identifier + "' does not exist.");
     }
@@ -0,0 +1,18 @@
+package com.example.ecommerce_system.exception.order;
+
+import java.util.Collection;
+
+public class UnavailableOrderItemsException extends RuntimeException {
+    public UnavailableOrderItemsException(Collection<String> missingProductIds, Collection<String> insufficientStockProductIds) {
+        super(buildMessage(missingProductIds, insufficientStockProductIds));
+    }
+
+    private static String buildMessage(Collection<String> missingProductIds, Collection<String> insufficientStockProductIds) {
+        StringBuilder message = new StringBuilder("Order cannot be placed.");
+        if (!missingProductIds.isEmpty())
+            message.append(" Products not found: ").append(missingProductIds).append('.');
+        if (!insufficientStockProductIds.isEmpty())
+            message.append(" Insufficient stock for products: ").append(insufficientStockProductIds).append('.');
+        return message.toString();
+    }
+}
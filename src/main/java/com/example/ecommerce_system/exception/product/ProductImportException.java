@@ -0,0 +1,7 @@
+package com.example.ecommerce_system.exception.product;
+
+public class ProductImportException extends RuntimeException {
+    public ProductImportException(String reason) {
+        super("Failed to import products: " + reason);
+    }
+}
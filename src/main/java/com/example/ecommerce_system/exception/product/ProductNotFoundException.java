@@ -1,6 +1,8 @@
 package com.example.ecommerce_system.exception.product;
 
-public class ProductNotFoundException extends RuntimeException {
+import com.example.ecommerce_system.exception.ResourceNotFoundException;
+
+public class ProductNotFoundException extends ResourceNotFoundException {
     public ProductNotFoundException(String identifier) {
         super("Product '" + identifier + "' was not found.");
     }
@@ -0,0 +1,7 @@
+package com.example.ecommerce_system.exception.user;
+
+public class RoleConfigurationException extends RuntimeException {
+    public RoleConfigurationException(String roleName) {
+        super("Required role '" + roleName + "' is not configured in the system.");
+    }
+}
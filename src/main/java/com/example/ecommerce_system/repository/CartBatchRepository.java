@@ -0,0 +1,26 @@
+package com.example.ecommerce_system.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface CartBatchRepository {
+
+    /**
+     * Writes buffered cart changes as one JDBC batch per statement shape: new carts, cart
+     * timestamps, new items, quantity changes and removed items, in that order.
+     */
+    void writeCartChanges(
+            Collection<CartRow> newCarts,
+            Collection<CartRow> touchedCarts,
+            Collection<CartItemRow> newItems,
+            Collection<CartItemRow> changedItems,
+            Collection<UUID> removedItemIds
+    );
+
+    record CartRow(UUID cartId, UUID customerId, Instant createdAt, Instant updatedAt) {
+    }
+
+    record CartItemRow(UUID cartItemId, UUID cartId, UUID productId, int quantity, Instant addedAt) {
+    }
+}
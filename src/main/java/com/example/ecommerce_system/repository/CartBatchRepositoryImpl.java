@@ -0,0 +1,72 @@
+package com.example.ecommerce_system.repository;
+
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Flushes the write-behind cart buffer with batched statements, so a flush costs a handful of
+ * round trips however many carts and items it carries.
+ */
+@AllArgsConstructor
+public class CartBatchRepositoryImpl implements CartBatchRepository {
+
+    private static final String INSERT_CART = """
+        INSERT INTO cart (cart_id, customer_id, created_at, updated_at)
+        VALUES (:cartId, :customerId, :createdAt, :updatedAt)
+        """;
+    private static final String TOUCH_CART = "UPDATE cart SET updated_at = :updatedAt WHERE cart_id = :cartId";
+    private static final String INSERT_ITEM = """
+        INSERT INTO cart_item (cart_item_id, cart_id, product_id, quantity, added_at)
+        VALUES (:cartItemId, :cartId, :productId, :quantity, :addedAt)
+        """;
+    private static final String UPDATE_ITEM = "UPDATE cart_item SET quantity = :quantity WHERE cart_item_id = :cartItemId";
+    private static final String DELETE_ITEM = "DELETE FROM cart_item WHERE cart_item_id = :cartItemId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void writeCartChanges(
+            Collection<CartRow> newCarts,
+            Collection<CartRow> touchedCarts,
+            Collection<CartItemRow> newItems,
+            Collection<CartItemRow> changedItems,
+            Collection<UUID> removedItemIds
+    ) {
+        batch(INSERT_CART, newCarts.stream().map(CartBatchRepositoryImpl::cartParams).toList());
+        batch(TOUCH_CART, touchedCarts.stream().map(CartBatchRepositoryImpl::cartParams).toList());
+        batch(INSERT_ITEM, newItems.stream().map(CartBatchRepositoryImpl::itemParams).toList());
+        batch(UPDATE_ITEM, changedItems.stream().map(CartBatchRepositoryImpl::itemParams).toList());
+        batch(DELETE_ITEM, removedItemIds.stream()
+                .map(id -> (SqlParameterSource) new MapSqlParameterSource("cartItemId", id))
+                .toList());
+    }
+
+    private void batch(String sql, List<SqlParameterSource> rows) {
+        if (!rows.isEmpty())
+            jdbcTemplate.batchUpdate(sql, rows.toArray(SqlParameterSource[]::new));
+    }
+
+    private static SqlParameterSource cartParams(CartRow row) {
+        return new MapSqlParameterSource()
+                .addValue("cartId", row.cartId())
+                .addValue("customerId", row.customerId())
+                .addValue("createdAt", Timestamp.from(row.createdAt()))
+                .addValue("updatedAt", Timestamp.from(row.updatedAt()));
+    }
+
+    private static SqlParameterSource itemParams(CartItemRow row) {
+        return new MapSqlParameterSource()
+                .addValue("cartItemId", row.cartItemId())
+                .addValue("cartId", row.cartId())
+                .addValue("productId", row.productId())
+                .addValue("quantity", row.quantity())
+                .addValue("addedAt", Timestamp.from(row.addedAt()));
+    }
+}
@@ -6,6 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface CartRepository extends JpaRepository<Cart, UUID> {
+public interface CartRepository extends JpaRepository<Cart, UUID>, CartBatchRepository {
     Optional<Cart> findCartByCustomer_CustomerId(UUID customerCustomerId);
 }
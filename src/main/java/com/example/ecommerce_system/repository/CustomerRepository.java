@@ -1,13 +1,17 @@
 package com.example.ecommerce_system.repository;
 
+import com.example.ecommerce_system.dto.customer.CustomerIdentity;
 import com.example.ecommerce_system.model.Customer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,6 +19,14 @@ import java.util.UUID;
 public interface CustomerRepository extends JpaRepository<Customer, UUID> {
     Optional<Customer> findCustomerByUser_UserId(UUID userId);
 
+    @Query("SELECT new com.example.ecommerce_system.dto.customer.CustomerIdentity(u.userId, c.customerId, cart.cartId, c.active) " +
+           "FROM Customer c JOIN c.user u LEFT JOIN Cart cart ON cart.customer = c " +
+           "WHERE u.userId = :userId")
+    Optional<CustomerIdentity> findIdentityByUserId(@Param("userId") UUID userId);
+
+    @EntityGraph(attributePaths = {"user", "user.role"})
+    List<Customer> findAllByCustomerIdIn(Collection<UUID> customerIds);
+
     @Query("SELECT c FROM Customer c WHERE " +
            "LOWER(c.firstName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(c.lastName) LIKE LOWER(CONCAT('%', :query, '%'))")
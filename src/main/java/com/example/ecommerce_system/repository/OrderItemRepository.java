@@ -1,9 +1,13 @@
 package com.example.ecommerce_system.repository;
 
+import com.example.ecommerce_system.dto.orders.OrderLineQuantity;
 import com.example.ecommerce_system.model.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,4 +15,12 @@ import java.util.UUID;
 public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
 
     List<OrderItem> findByOrder_OrderId(UUID orderId);
+
+    /**
+     * Per-order, per-product quantities for a set of orders, summed across duplicate lines.
+     */
+    @Query("SELECT new com.example.ecommerce_system.dto.orders.OrderLineQuantity(oi.order.orderId, oi.product.productId, SUM(oi.quantity)) " +
+           "FROM OrderItem oi WHERE oi.order.orderId IN :orderIds " +
+           "GROUP BY oi.order.orderId, oi.product.productId")
+    List<OrderLineQuantity> findLineQuantities(@Param("orderIds") Collection<UUID> orderIds);
 }
@@ -1,21 +1,49 @@
 package com.example.ecommerce_system.repository;
 
+import com.example.ecommerce_system.model.OrderStatus;
 import com.example.ecommerce_system.model.Orders;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Orders, UUID>, JpaSpecificationExecutor<Orders> {
 
+    Slice<Orders> findAllBy(Pageable pageable);
+
     List<Orders> findAllByCustomer_CustomerId(UUID customerId, Pageable pageable);
 
     @Query("SELECT COUNT(o) > 0 FROM Orders o JOIN o.orderItems oi WHERE o.customer.customerId = :customerId AND oi.product.productId = :productId AND o.status.statusName = 'PROCESSED'")
     boolean hasProcessedOrderWithProduct(@Param("customerId") UUID customerId, @Param("productId") UUID productId);
+
+    /**
+     * Loads and row-locks one order, so concurrent status changes of the same order run one after the other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Orders o WHERE o.orderId = :orderId")
+    Optional<Orders> findByIdForUpdate(@Param("orderId") UUID orderId);
+
+    /**
+     * Loads and row-locks the given orders in id order, so concurrent bulk transitions
+     * over overlapping orders queue behind each other instead of deadlocking.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Orders o WHERE o.orderId IN :orderIds ORDER BY o.orderId")
+    List<Orders> findAllForUpdate(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Orders o SET o.status = :status WHERE o.orderId IN :orderIds")
+    int updateStatus(@Param("orderIds") Collection<UUID> orderIds, @Param("status") OrderStatus status);
 }
@@ -0,0 +1,45 @@
+package com.example.ecommerce_system.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProductBatchRepository {
+
+    /**
+     * The order product rows are locked in. It compares ids as unsigned bytes, as PostgreSQL sorts
+     * {@code uuid}; {@link UUID#compareTo} compares signed longs and disagrees when the first bit differs.
+     */
+    Comparator<UUID> LOCK_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    /**
+     * Inserts the rows as a single JDBC batch, bypassing the persistence context.
+     */
+    void insertProducts(Collection<ProductRow> rows);
+
+    /**
+     * Row-locks the given products in {@link #LOCK_ORDER} and returns their current stock.
+     */
+    Map<UUID, Integer> lockStock(Collection<UUID> productIds);
+
+    /**
+     * Subtracts each product's quantity in one set-based UPDATE per chunk of products and
+     * returns the number of rows changed. Callers are expected to hold the rows' locks.
+     */
+    int decrementStock(Map<UUID, Integer> quantities, Instant updatedAt);
+
+    record ProductRow(
+            UUID productId,
+            String name,
+            String description,
+            double price,
+            int stockQuantity,
+            UUID categoryId,
+            Instant createdAt
+    ) {
+    }
+}
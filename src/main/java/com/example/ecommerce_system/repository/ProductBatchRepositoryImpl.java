@@ -0,0 +1,95 @@
+package com.example.ecommerce_system.repository;
+
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based product writes: imported products go in with one batched INSERT per chunk (sent as
+ * multi-row inserts with the PostgreSQL driver's {@code reWriteBatchedInserts=true}), and bulk
+ * stock changes are applied with a single CASE update per chunk of products.
+ */
+@AllArgsConstructor
+public class ProductBatchRepositoryImpl implements ProductBatchRepository {
+
+    private static final String INSERT_PRODUCT = """
+        INSERT INTO product (product_id, name, description, price, stock_quantity, version, category_id, created_at, updated_at)
+        VALUES (:productId, :name, :description, :price, :stockQuantity, 0, :categoryId, :createdAt, :createdAt)
+        """;
+
+    private static final String LOCK_STOCK = """
+        SELECT product_id, stock_quantity FROM product
+        WHERE product_id IN (:productIds)
+        ORDER BY product_id
+        FOR UPDATE
+        """;
+    private static final int STOCK_CHUNK_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertProducts(Collection<ProductRow> rows) {
+        if (!rows.isEmpty())
+            jdbcTemplate.batchUpdate(INSERT_PRODUCT, rows.stream()
+                    .map(ProductBatchRepositoryImpl::productParams)
+                    .toArray(SqlParameterSource[]::new));
+    }
+
+    private static SqlParameterSource productParams(ProductRow row) {
+        return new MapSqlParameterSource()
+                .addValue("productId", row.productId())
+                .addValue("name", row.name())
+                .addValue("description", row.description())
+                .addValue("price", row.price())
+                .addValue("stockQuantity", row.stockQuantity())
+                .addValue("categoryId", row.categoryId())
+                .addValue("createdAt", Timestamp.from(row.createdAt()));
+    }
+
+    @Override
+    public Map<UUID, Integer> lockStock(Collection<UUID> productIds) {
+        Map<UUID, Integer> stock = new HashMap<>();
+        for (List<UUID> chunk : chunks(productIds.stream().sorted(LOCK_ORDER).toList()))
+            jdbcTemplate.query(LOCK_STOCK, new MapSqlParameterSource("productIds", chunk), row -> {
+                stock.put(row.getObject("product_id", UUID.class), row.getInt("stock_quantity"));
+            });
+        return stock;
+    }
+
+    @Override
+    public int decrementStock(Map<UUID, Integer> quantities, Instant updatedAt) {
+        int updated = 0;
+        for (List<UUID> chunk : chunks(quantities.keySet().stream().sorted(LOCK_ORDER).toList())) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("productIds", chunk)
+                    .addValue("updatedAt", Timestamp.from(updatedAt));
+            StringBuilder delta = new StringBuilder("CASE product_id");
+            for (int i = 0; i < chunk.size(); i++) {
+                delta.append(" WHEN :id").append(i).append(" THEN :qty").append(i);
+                params.addValue("id" + i, chunk.get(i)).addValue("qty" + i, quantities.get(chunk.get(i)));
+            }
+            delta.append(" END");
+            updated += jdbcTemplate.update("UPDATE product SET stock_quantity = stock_quantity - " + delta
+                    + ", version = COALESCE(version, 0) + 1, updated_at = :updatedAt"
+                    + " WHERE product_id IN (:productIds)", params);
+        }
+        return updated;
+    }
+
+    private static List<List<UUID>> chunks(List<UUID> ids) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += STOCK_CHUNK_SIZE)
+            chunks.add(ids.subList(from, Math.min(from + STOCK_CHUNK_SIZE, ids.size())));
+        return chunks;
+    }
+}
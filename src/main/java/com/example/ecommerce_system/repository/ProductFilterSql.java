@@ -0,0 +1,56 @@
+package com.example.ecommerce_system.repository;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.util.StringJoiner;
+
+/**
+ * Translates a {@link ProductFilter} into SQL predicates over the {@code product p} alias,
+ * mirroring {@code ProductSpecification} for the native query paths.
+ */
+final class ProductFilterSql {
+
+    private ProductFilterSql() {
+    }
+
+    static StringJoiner conditions() {
+        StringJoiner where = new StringJoiner(" AND ");
+        where.add("1 = 1");
+        return where;
+    }
+
+    static void addTextConditions(StringJoiner where, ProductFilter filter, MapSqlParameterSource params) {
+        if (filter.hasName()) {
+            where.add("LOWER(p.name) LIKE :name");
+            params.addValue("name", "%" + filter.getName().toLowerCase() + "%");
+        }
+        if (filter.hasDescription()) {
+            where.add("LOWER(p.description) LIKE :description");
+            params.addValue("description", "%" + filter.getDescription().toLowerCase() + "%");
+        }
+    }
+
+    static void addRangeConditions(StringJoiner where, ProductFilter filter, MapSqlParameterSource params) {
+        if (filter.hasCategoryId()) {
+            where.add("p.category_id = :categoryId");
+            params.addValue("categoryId", filter.getCategoryId());
+        }
+        if (filter.hasMinPrice()) {
+            where.add("p.price >= :minPrice");
+            params.addValue("minPrice", filter.getMinPrice());
+        }
+        if (filter.hasMaxPrice()) {
+            where.add("p.price <= :maxPrice");
+            params.addValue("maxPrice", filter.getMaxPrice());
+        }
+        if (filter.hasMinStock()) {
+            where.add("p.stock_quantity >= :minStock");
+            params.addValue("minStock", filter.getMinStock());
+        }
+        if (filter.hasMaxStock()) {
+            where.add("p.stock_quantity <= :maxStock");
+            params.addValue("maxStock", filter.getMaxStock());
+        }
+    }
+}
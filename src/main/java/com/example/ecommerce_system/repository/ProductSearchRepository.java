@@ -0,0 +1,16 @@
+package com.example.ecommerce_system.repository;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+
+import java.util.List;
+
+public interface ProductSearchRepository {
+
+    /**
+     * Full-text search over the product's {@code search_vector}, best matches first.
+     * Name and description terms are matched against the combined document with name
+     * matches weighted higher; category, price and stock filters apply as usual.
+     */
+    List<ProductResponseDto> searchRanked(ProductFilter filter, int limit, int offset);
+}
@@ -0,0 +1,62 @@
+package com.example.ecommerce_system.repository;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * PostgreSQL full-text search served by the GIN index on {@code product.search_vector},
+ * a stored generated column that the database keeps current on every write.
+ */
+@AllArgsConstructor
+public class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    private static final String SQL = """
+        SELECT p.product_id, p.category_id, p.name, p.description, p.price, p.stock_quantity, p.updated_at
+        FROM product p, plainto_tsquery('english', :terms) query
+        WHERE p.search_vector @@ query AND %s
+        ORDER BY ts_rank(p.search_vector, query) DESC, p.product_id
+        LIMIT :limit OFFSET :offset
+        """;
+
+    private static final RowMapper<ProductResponseDto> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return ProductResponseDto.builder()
+                .productId(rs.getObject("product_id", UUID.class))
+                .categoryId(rs.getObject("category_id", UUID.class))
+                .name(rs.getString("name"))
+                .description(rs.getString("description"))
+                .price(rs.getDouble("price"))
+                .stock(rs.getInt("stock_quantity"))
+                .updatedAt(updatedAt != null ? updatedAt.toInstant() : null)
+                .build();
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ProductResponseDto> searchRanked(ProductFilter filter, int limit, int offset) {
+        StringJoiner terms = new StringJoiner(" ");
+        if (filter.hasName())
+            terms.add(filter.getName());
+        if (filter.hasDescription())
+            terms.add(filter.getDescription());
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("terms", terms.toString())
+                .addValue("limit", limit)
+                .addValue("offset", (long) offset * limit);
+        StringJoiner where = ProductFilterSql.conditions();
+        ProductFilterSql.addRangeConditions(where, filter, params);
+
+        return jdbcTemplate.query(SQL.formatted(where), params, ROW_MAPPER);
+    }
+}
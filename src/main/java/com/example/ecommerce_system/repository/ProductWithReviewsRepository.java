@@ -0,0 +1,15 @@
+package com.example.ecommerce_system.repository;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductWithReviewsDto;
+
+import java.util.List;
+
+public interface ProductWithReviewsRepository {
+
+    /**
+     * Loads a page of products matching the filter, each with its category and at most
+     * {@code reviewLimit} newest reviews, in a single statement. Review customers are not resolved.
+     */
+    List<ProductWithReviewsDto> findPageWithTopReviews(ProductFilter filter, int limit, int offset, int reviewLimit);
+}
@@ -0,0 +1,123 @@
+package com.example.ecommerce_system.repository;
+
+import com.example.ecommerce_system.dto.category.CategoryResponseDto;
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductWithReviewsDto;
+import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Ranks reviews with {@code ROW_NUMBER()} per product so the page, its categories and the
+ * newest reviews arrive in one round trip instead of a correlated subquery per product.
+ */
+@AllArgsConstructor
+public class ProductWithReviewsRepositoryImpl implements ProductWithReviewsRepository {
+
+    private static final String SQL = """
+        WITH page AS (
+            SELECT p.product_id, p.name, p.description, p.price, p.stock_quantity, p.updated_at, p.category_id
+            FROM product p
+            WHERE %s
+            ORDER BY p.name, p.product_id
+            LIMIT :limit OFFSET :offset
+        ), ranked AS (
+            SELECT r.review_id, r.product_id, r.customer_id, r.rating, r.comment, r.created_at,
+                   ROW_NUMBER() OVER (PARTITION BY r.product_id ORDER BY r.created_at DESC, r.review_id DESC) AS rn
+            FROM review r
+            WHERE r.product_id IN (SELECT product_id FROM page)
+        )
+        SELECT page.product_id, page.name, page.description, page.price, page.stock_quantity, page.updated_at,
+               c.category_id, c.name AS category_name, c.description AS category_description,
+               c.created_at AS category_created_at, c.updated_at AS category_updated_at,
+               ranked.review_id, ranked.customer_id, ranked.rating, ranked.comment,
+               ranked.created_at AS review_created_at
+        FROM page
+        JOIN category c ON c.category_id = page.category_id
+        LEFT JOIN ranked ON ranked.product_id = page.product_id AND ranked.rn <= :reviewLimit
+        ORDER BY page.name, page.product_id, ranked.rn
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ProductWithReviewsDto> findPageWithTopReviews(ProductFilter filter, int limit, int offset, int reviewLimit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", limit)
+                .addValue("offset", (long) offset * limit)
+                .addValue("reviewLimit", reviewLimit);
+        String sql = SQL.formatted(buildWhere(filter, params));
+
+        Map<UUID, ProductWithReviewsDto> products = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, params, (RowCallbackHandler) rs -> {
+            UUID productId = rs.getObject("product_id", UUID.class);
+            ProductWithReviewsDto product = products.get(productId);
+            if (product == null) {
+                product = toProduct(rs, productId);
+                products.put(productId, product);
+            }
+            UUID reviewId = rs.getObject("review_id", UUID.class);
+            if (reviewId != null)
+                product.getReviews().add(toReview(rs, reviewId, productId));
+        });
+        return new ArrayList<>(products.values());
+    }
+
+    private static String buildWhere(ProductFilter filter, MapSqlParameterSource params) {
+        StringJoiner where = ProductFilterSql.conditions();
+        if (filter != null) {
+            ProductFilterSql.addTextConditions(where, filter, params);
+            ProductFilterSql.addRangeConditions(where, filter, params);
+        }
+        return where.toString();
+    }
+
+    private static ProductWithReviewsDto toProduct(ResultSet rs, UUID productId) throws SQLException {
+        UUID categoryId = rs.getObject("category_id", UUID.class);
+        return ProductWithReviewsDto.builder()
+                .productId(productId)
+                .categoryId(categoryId)
+                .category(CategoryResponseDto.builder()
+                        .categoryId(categoryId)
+                        .name(rs.getString("category_name"))
+                        .description(rs.getString("category_description"))
+                        .createdAt(toInstant(rs.getTimestamp("category_created_at")))
+                        .updatedAt(toInstant(rs.getTimestamp("category_updated_at")))
+                        .build())
+                .name(rs.getString("name"))
+                .description(rs.getString("description"))
+                .price(rs.getObject("price", Double.class))
+                .stock(rs.getObject("stock_quantity", Integer.class))
+                .updatedAt(toInstant(rs.getTimestamp("updated_at")))
+                .reviews(new ArrayList<>())
+                .build();
+    }
+
+    private static ReviewResponseDto toReview(ResultSet rs, UUID reviewId, UUID productId) throws SQLException {
+        return ReviewResponseDto.builder()
+                .reviewId(reviewId)
+                .productId(productId)
+                .customerId(rs.getObject("customer_id", UUID.class))
+                .rating(rs.getObject("rating", Integer.class))
+                .comment(rs.getString("comment"))
+                .createdAt(toInstant(rs.getTimestamp("review_created_at")))
+                .build();
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
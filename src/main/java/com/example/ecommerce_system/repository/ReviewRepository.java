@@ -1,8 +1,13 @@
 package com.example.ecommerce_system.repository;
 
 import com.example.ecommerce_system.model.Review;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,7 +16,12 @@ import java.util.UUID;
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, UUID> {
 
-    Page<Review> findAllByProduct_ProductId(UUID productId, Pageable pageable);
+    @EntityGraph(attributePaths = {"customer", "customer.user"})
+    Slice<Review> findAllByProduct_ProductId(UUID productId, Pageable pageable);
 
-    Page<Review> findAllByCustomer_CustomerId(UUID customerId, Pageable pageable);
+    @EntityGraph(attributePaths = {"customer", "customer.user"})
+    Window<Review> findByProduct_ProductId(UUID productId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = {"customer", "customer.user"})
+    Slice<Review> findAllByCustomer_CustomerId(UUID customerId, Pageable pageable);
 }
@@ -1,7 +1,5 @@
 package com.example.ecommerce_system.service;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.example.ecommerce_system.dto.auth.AuthResponseDto;
 import com.example.ecommerce_system.dto.auth.LoginRequestDto;
 import com.example.ecommerce_system.dto.auth.SignupRequestDto;
@@ -14,33 +12,35 @@ import com.example.ecommerce_system.model.Role;
 import com.example.ecommerce_system.model.RoleType;
 import com.example.ecommerce_system.model.User;
 import com.example.ecommerce_system.repository.CustomerRepository;
-import com.example.ecommerce_system.repository.RoleRepository;
 import com.example.ecommerce_system.repository.UserRepository;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
 import com.example.ecommerce_system.util.mapper.AuthMapper;
+import com.example.ecommerce_system.util.registry.RoleRegistry;
+import com.example.ecommerce_system.util.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Date;
 import java.util.Optional;
 import java.util.UUID;
 
 @RequiredArgsConstructor
 @Service
 public class AuthService {
+    private static final Duration TOKEN_TTL = Duration.ofDays(1);
 
     private final UserRepository userRepository;
     private final CustomerRepository customerRepository;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
     private final BCryptPasswordEncoder passwordEncoder;
     private final AuthMapper authMapper;
-
-   @Value("${jwt.token.secret-key}")
-    private String secretKey;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PageCacheInvalidator pageCacheInvalidator;
 
     /**
      * Register a new user with the provided credentials.
@@ -60,12 +60,12 @@ public class AuthService {
 
         var createdUser = userRepository.save(newUser);
         customerRepository.save(newCustomer);
+        pageCacheInvalidator.created(EntityType.CUSTOMER);
         return authMapper.toDTO(createdUser, null);
     }
 
     private User createUser(SignupRequestDto request) {
-        Role customerRole = roleRepository.findRoleByRoleName(RoleType.CUSTOMER)
-                .orElseThrow(() -> new IllegalStateException("Customer role not found"));
+        Role customerRole = roleRegistry.get(RoleType.CUSTOMER);
 
         String hashedPassword = passwordEncoder.encode(request.getPassword());
         return User.builder()
@@ -104,13 +104,10 @@ public class AuthService {
     }
 
     private String generateJwtToken(User user) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        return JWT.create()
-                .withSubject(user.getUserId().toString())
-                .withClaim("role", user.getRole().getRoleName().name())
-                .withIssuedAt(new Date())
-                .withExpiresAt(new Date(System.currentTimeMillis() + 86400000))
-                .sign(algorithm);
+        return jwtTokenProvider.issue(
+                user.getUserId().toString(),
+                user.getRole().getRoleName().name(),
+                TOKEN_TTL);
     }
 
     private void validatePassword(String password) {
@@ -3,6 +3,8 @@ package com.example.ecommerce_system.service;
 import com.example.ecommerce_system.dto.cache.CacheComparison;
 import com.example.ecommerce_system.dto.cache.CacheSnapshot;
 import com.example.ecommerce_system.dto.cache.PerformanceReport;
+import com.example.ecommerce_system.util.cache.CoalescingCaffeineCache;
+import com.example.ecommerce_system.util.cache.RefreshAheadCache;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.CacheManager;
@@ -139,7 +141,9 @@ public class CacheAnalysisService {
     private CacheSnapshot getCurrentSnapshot(String cacheName) {
         var cache = cacheManager.getCache(cacheName);
         if (cache instanceof CaffeineCache caffeineCache) {
-            CacheStats stats = caffeineCache.getNativeCache().stats();
+            var nativeCache = caffeineCache.getNativeCache();
+            CacheStats stats = nativeCache.stats();
+            var eviction = nativeCache.policy().eviction();
 
             return CacheSnapshot.builder()
                     .cacheName(cacheName)
@@ -147,9 +151,29 @@ public class CacheAnalysisService {
                     .missCount(stats.missCount())
                     .hitRate(stats.hitRate())
                     .requestCount(stats.requestCount())
-                    .loadCount(stats.loadCount())
-                    .averageLoadTime(stats.averageLoadPenalty() / 1_000_000.0)
+                    .loadCount(cache instanceof CoalescingCaffeineCache coalescing
+                            ? coalescing.getLoadCount()
+                            : stats.loadCount())
+                    .averageLoadTime((cache instanceof CoalescingCaffeineCache coalescing
+                            ? coalescing.getAverageLoadNanos()
+                            : stats.averageLoadPenalty()) / 1_000_000.0)
+                    .coalescedWaiters(cache instanceof CoalescingCaffeineCache coalescing
+                            ? coalescing.getCoalescedWaiters()
+                            : 0)
+                    .negativeHitCount(cache instanceof CoalescingCaffeineCache coalescing ? coalescing.getNegativeHits() : 0)
+                    .negativeEntryCount(cache instanceof CoalescingCaffeineCache coalescing ? coalescing.getNegativeEntryCount() : 0)
+                    .refreshCount(cache instanceof RefreshAheadCache refreshing ? refreshing.getRefreshCount() : 0)
+                    .refreshFailureCount(cache instanceof RefreshAheadCache refreshing ? refreshing.getRefreshFailureCount() : 0)
+                    .staleHitCount(cache instanceof RefreshAheadCache refreshing ? refreshing.getStaleHitCount() : 0)
                     .evictionCount(stats.evictionCount())
+                    .evictionWeight(stats.evictionWeight())
+                    .entryCount(nativeCache.estimatedSize())
+                    .weightedSize(eviction.filter(policy -> policy.isWeighted())
+                            .map(policy -> policy.weightedSize().orElse(0))
+                            .orElse(null))
+                    .maximumWeight(eviction.filter(policy -> policy.isWeighted())
+                            .map(policy -> policy.getMaximum())
+                            .orElse(null))
                     .timestamp(LocalDateTime.now())
                     .build();
         }
@@ -207,6 +231,24 @@ public class CacheAnalysisService {
                         snapshot.getEvictionCount() + " evictions). Consider increasing cache size or reducing TTL.");
             }
 
+            if (snapshot.getMaximumWeight() != null && snapshot.getWeightedSize() != null
+                    && snapshot.getWeightedSize() > snapshot.getMaximumWeight() * 0.9) {
+                recommendations.add("INFO: Page region '" + cacheName + "' is using " +
+                        snapshot.getWeightedSize() / 1024 + " KB of its " + snapshot.getMaximumWeight() / 1024 +
+                        " KB bound. Consider raising its max-weight if evictions keep growing.");
+            }
+
+            if (snapshot.getCoalescedWaiters() > snapshot.getLoadCount()) {
+                recommendations.add("INFO: Cache '" + cacheName + "' coalesced " + snapshot.getCoalescedWaiters() +
+                        " concurrent misses onto " + snapshot.getLoadCount() + " loads. Its hot keys expire under load; " +
+                        "consider a longer TTL or refreshing them ahead of expiry.");
+            }
+
+            if (snapshot.getRefreshFailureCount() > 0) {
+                recommendations.add("WARNING: Cache '" + cacheName + "' failed " + snapshot.getRefreshFailureCount() +
+                        " background refreshes and is serving its last good values. Check database health.");
+            }
+
             if (snapshot.getHitCount() == 0 && snapshot.getRequestCount() > 5) {
                 recommendations.add("ERROR: Cache '" + cacheName + "' is not providing any hits despite " +
                         snapshot.getRequestCount() + " requests. Review caching implementation.");
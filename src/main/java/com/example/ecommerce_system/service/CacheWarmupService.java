@@ -0,0 +1,293 @@
+package com.example.ecommerce_system.service;
+
+import com.example.ecommerce_system.config.CacheWarmupProperties;
+import com.example.ecommerce_system.dto.cache.CacheWarmupRegion;
+import com.example.ecommerce_system.dto.cache.CacheWarmupReport;
+import com.example.ecommerce_system.util.cache.HotKeyFile;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Carries the hottest catalogue cache keys across restarts. Caffeine ranks each region's entries
+ * with its frequency sketch; the top replayable keys are saved periodically and on shutdown, and
+ * reloaded through the cached service methods once the application is ready. Spring publishes the
+ * readiness change after the ready listeners return, so traffic is admitted to a warm cache.
+ * Each key loads in its own read-only transaction: the worker threads have no request session, and the
+ * cached methods map lazy associations.
+ */
+@Service
+public class CacheWarmupService {
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmupService.class);
+    private static final String CATEGORY_NAME_PREFIX = "name_";
+    private static final Pattern ALL_PRODUCTS = Pattern.compile("all_products_(\\d+)_(\\d+)");
+    private static final Pattern PRODUCTS_WITH_REVIEWS = Pattern.compile("products_with_reviews_(\\d+)_(\\d+)_(\\d+)");
+    private static final Pattern ALL_CATEGORIES = Pattern.compile("all_categories_(\\d+)_(\\d+)");
+
+    private final CacheManager cacheManager;
+    private final CacheWarmupProperties warmupProperties;
+    private final HotKeyFile hotKeyFile;
+    private final TransactionTemplate loadTransaction;
+    private final List<WarmableRegion> regions;
+    private volatile CacheWarmupReport lastReport;
+
+    public CacheWarmupService(
+            CacheManager cacheManager,
+            ProductService productService,
+            CategoryService categoryService,
+            CacheWarmupProperties warmupProperties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.cacheManager = cacheManager;
+        this.warmupProperties = warmupProperties;
+        this.hotKeyFile = new HotKeyFile(warmupProperties.getFile());
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+        this.regions = List.of(
+                new WarmableRegion("products", key -> uuid(key)
+                        .<Runnable>map(id -> () -> productService.getProduct(id))
+                        .orElse(null)),
+                new WarmableRegion("categories", key -> key.startsWith(CATEGORY_NAME_PREFIX)
+                        ? () -> categoryService.getCategory(key.substring(CATEGORY_NAME_PREFIX.length()))
+                        : uuid(key).<Runnable>map(id -> () -> categoryService.getCategory(id)).orElse(null)),
+                new WarmableRegion("product_pages", key -> {
+                    Runnable load = page(ALL_PRODUCTS, key, args -> productService.getAllProducts(args[0], args[1]));
+                    return load != null ? load : page(PRODUCTS_WITH_REVIEWS, key,
+                            args -> productService.getAllProductsWithReviews(args[0], args[1], args[2]));
+                }),
+                new WarmableRegion("category_pages", key ->
+                        page(ALL_CATEGORIES, key, args -> categoryService.getAllCategories(args[0], args[1])))
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (warmupProperties.isEnabled())
+            warmUp();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.warmup.snapshot-interval:5m}", initialDelayString = "${cache.warmup.snapshot-interval:5m}")
+    public void snapshotOnSchedule() {
+        if (warmupProperties.isEnabled())
+            recordHotKeys();
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshotOnSchedule();
+    }
+
+    /**
+     * Write the hottest replayable keys of every warmable region. An empty ranking, as right after
+     * a start without traffic, leaves the previous snapshot in place.
+     */
+    public int recordHotKeys() {
+        Map<String, List<String>> hottest = new LinkedHashMap<>();
+        int recorded = 0;
+        for (WarmableRegion region : regions) {
+            List<String> keys = hottestKeys(region);
+            hottest.put(region.cacheName(), keys);
+            recorded += keys.size();
+        }
+        if (recorded == 0)
+            return 0;
+
+        try {
+            hotKeyFile.write(hottest);
+        } catch (IOException e) {
+            logger.warn("[cache] Could not write hot keys to {}: {}", warmupProperties.getFile(), e.getMessage());
+            return 0;
+        }
+        return recorded;
+    }
+
+    /**
+     * Reload the recorded keys on bounded worker threads (virtual on JDK 21+).
+     * Keys still queued when the timeout elapses are skipped rather than delaying startup further.
+     */
+    public CacheWarmupReport warmUp() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        long deadline = start + warmupProperties.getTimeout().toNanos();
+
+        Map<String, List<String>> recorded;
+        try {
+            recorded = hotKeyFile.read();
+        } catch (IOException e) {
+            logger.warn("[cache] Could not read hot keys from {}: {}", warmupProperties.getFile(), e.getMessage());
+            recorded = Map.of();
+        }
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("cache-warmup-");
+        executor.setVirtualThreads(JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE));
+        executor.setConcurrencyLimit(warmupProperties.getMaxConcurrency());
+
+        AtomicInteger skipped = new AtomicInteger();
+        List<RegionProgress> progress = new ArrayList<>();
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        for (WarmableRegion region : regions) {
+            RegionProgress regionProgress = new RegionProgress(region.cacheName());
+            progress.add(regionProgress);
+            for (String key : recorded.getOrDefault(region.cacheName(), List.of())) {
+                regionProgress.recorded++;
+                Runnable load = region.loaderFor().apply(key);
+                if (load == null) {
+                    regionProgress.failed.incrementAndGet();
+                    continue;
+                }
+                loads.add(CompletableFuture.runAsync(() -> {
+                    if (System.nanoTime() > deadline) {
+                        skipped.incrementAndGet();
+                        return;
+                    }
+                    try {
+                        loadTransaction.executeWithoutResult(status -> load.run());
+                        regionProgress.loaded.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        regionProgress.failed.incrementAndGet();
+                        logger.debug("[cache] Warm-up of '{}' key {} failed: {}", region.cacheName(), key, e.getMessage());
+                    }
+                }, executor));
+            }
+        }
+        awaitLoads(loads, deadline);
+
+        CacheWarmupReport report = buildReport(startedAt, start, progress, skipped.get());
+        lastReport = report;
+        if (report.getKeysRecorded() > 0)
+            logger.info("[cache] Warmed {} of {} hot keys ({}% coverage, {} failed, {} skipped) in {}ms",
+                    report.getKeysLoaded(), report.getKeysRecorded(), Math.round(report.getCoverage() * 100),
+                    report.getKeysFailed(), report.getKeysSkipped(), Math.round(report.getDurationMs()));
+        return report;
+    }
+
+    public Optional<CacheWarmupReport> getLastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    private List<String> hottestKeys(WarmableRegion region) {
+        if (!(cacheManager.getCache(region.cacheName()) instanceof CaffeineCache cache))
+            return List.of();
+        return cache.getNativeCache().policy().eviction()
+                .map(eviction -> eviction.hottest(entries -> entries
+                        .map(entry -> entry.getKey())
+                        .filter(key -> key instanceof UUID || key instanceof String)
+                        .map(String::valueOf)
+                        .filter(key -> HotKeyFile.canHold(key) && region.loaderFor().apply(key) != null)
+                        .limit(warmupProperties.getKeysPerRegion())
+                        .toList()))
+                .orElse(List.of());
+    }
+
+    private void awaitLoads(List<CompletableFuture<Void>> loads, long deadline) {
+        try {
+            CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("[cache] Warm-up did not finish within {}; continuing with a partly warm cache",
+                    warmupProperties.getTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warn("[cache] Warm-up failed: {}", e.getCause().getMessage());
+        }
+    }
+
+    private CacheWarmupReport buildReport(LocalDateTime startedAt, long start, List<RegionProgress> progress, int skipped) {
+        List<CacheWarmupRegion> regionReports = progress.stream()
+                .map(region -> CacheWarmupRegion.builder()
+                        .cacheName(region.cacheName)
+                        .keysRecorded(region.recorded)
+                        .keysLoaded(region.loaded.get())
+                        .keysFailed(region.failed.get())
+                        .entryCount(cacheManager.getCache(region.cacheName) instanceof CaffeineCache cache
+                                ? cache.getNativeCache().estimatedSize()
+                                : 0)
+                        .build())
+                .toList();
+        int recorded = regionReports.stream().mapToInt(CacheWarmupRegion::getKeysRecorded).sum();
+        int loaded = regionReports.stream().mapToInt(CacheWarmupRegion::getKeysLoaded).sum();
+
+        return CacheWarmupReport.builder()
+                .startedAt(startedAt)
+                .durationMs((System.nanoTime() - start) / 1_000_000.0)
+                .keysRecorded(recorded)
+                .keysLoaded(loaded)
+                .keysFailed(regionReports.stream().mapToInt(CacheWarmupRegion::getKeysFailed).sum())
+                .keysSkipped(skipped)
+                .coverage(recorded > 0 ? (double) loaded / recorded : 0.0)
+                .regions(regionReports)
+                .build();
+    }
+
+    private static Optional<UUID> uuid(String key) {
+        try {
+            return Optional.of(UUID.fromString(key));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Matches a page key written by a {@code @Cacheable} key expression and binds its numeric arguments.
+     */
+    private static Runnable page(Pattern pattern, String key, Consumer<int[]> load) {
+        Matcher matcher = pattern.matcher(key);
+        if (!matcher.matches())
+            return null;
+        int[] args = new int[matcher.groupCount()];
+        try {
+            for (int i = 0; i < args.length; i++)
+                args[i] = Integer.parseInt(matcher.group(i + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return () -> load.accept(args);
+    }
+
+    /**
+     * A cache region whose keys can be replayed: {@code loaderFor} turns a recorded key into a call of
+     * the cached method that produces it, or returns null for keys it cannot replay.
+     */
+    private record WarmableRegion(String cacheName, Function<String, Runnable> loaderFor) {
+    }
+
+    private static final class RegionProgress {
+        private final String cacheName;
+        private final AtomicInteger loaded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private int recorded;
+
+        private RegionProgress(String cacheName) {
+            this.cacheName = cacheName;
+        }
+    }
+}
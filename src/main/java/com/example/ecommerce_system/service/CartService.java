@@ -2,38 +2,30 @@ package com.example.ecommerce_system.service;
 
 import com.example.ecommerce_system.dto.cart.CartItemRequestDto;
 import com.example.ecommerce_system.dto.cart.CartItemResponseDto;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
 import com.example.ecommerce_system.exception.cart.CartItemNotFoundException;
 import com.example.ecommerce_system.exception.cart.CartItemAuthorizationException;
-import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
-import com.example.ecommerce_system.exception.product.ProductNotFoundException;
-import com.example.ecommerce_system.model.Cart;
-import com.example.ecommerce_system.model.CartItem;
-import com.example.ecommerce_system.model.Customer;
-import com.example.ecommerce_system.model.Product;
 import com.example.ecommerce_system.repository.CartItemRepository;
-import com.example.ecommerce_system.repository.CartRepository;
-import com.example.ecommerce_system.repository.CustomerRepository;
-import com.example.ecommerce_system.repository.ProductRepository;
-import com.example.ecommerce_system.util.CartItemSpecification;
+import com.example.ecommerce_system.util.cart.CartLine;
+import com.example.ecommerce_system.util.cart.WriteBehindCartStore;
 import com.example.ecommerce_system.util.mapper.CartItemMapper;
 import lombok.AllArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
 import java.util.UUID;
 
+/**
+ * Cart operations served from the write-behind cart store. Carts are read and changed in memory;
+ * the store writes them to the database in batches. Product details come from the product cache.
+ */
 @Service
 @AllArgsConstructor
 public class CartService {
-    private final CartRepository cartRepository;
+    private final WriteBehindCartStore cartStore;
     private final CartItemRepository cartItemRepository;
-    private final CustomerRepository customerRepository;
-    private final ProductRepository productRepository;
+    private final ProductService productService;
 
     private final CartItemMapper cartItemMapper;
 
@@ -42,51 +34,9 @@ public class CartService {
      * Creates a cart if the customer doesn't have one yet. Validates customer and product existence.
      */
     public CartItemResponseDto addToCart(UUID userId, CartItemRequestDto request) {
-        var customer = retrieveCustomerFromRepository(userId);
-
-        var product = retrieveProductFromRepository(request.getProductId());
-
-        var cart = getOrCreateCartForCustomer(customer.getCustomerId());
-
-        CartItem cartItem = CartItem.builder()
-                .cartItemId(UUID.randomUUID())
-                .cart(cart)
-                .product(product)
-                .quantity(request.getQuantity())
-                .addedAt(Instant.now())
-                .build();
-
-        cart.getCartItems().add(cartItem);
-        cartRepository.save(cart);
-        return cartItemMapper.toDTO(cartItem);
-    }
-
-    private Customer retrieveCustomerFromRepository(UUID userId) {
-        return customerRepository.findCustomerByUser_UserId(userId).orElseThrow(
-                () -> new CustomerNotFoundException(userId.toString())
-        );
-    }
-
-    private Product retrieveProductFromRepository(UUID productId) {
-        return productRepository.findById(productId).orElseThrow(
-                () -> new ProductNotFoundException(productId.toString())
-        );
-    }
-
-    private Cart getOrCreateCartForCustomer(UUID customerId) {
-        Optional<Cart> existingCart = cartRepository.findCartByCustomer_CustomerId(customerId);
-        if (existingCart.isPresent()) return existingCart.get();
-
-        var customer = retrieveCustomerFromRepository(customerId);
-
-        Cart newCart = Cart.builder()
-                .cartId(UUID.randomUUID())
-                .customer(customer)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .build();
-
-        return cartRepository.save(newCart);
+        var product = productService.getProduct(request.getProductId());
+        var line = cartStore.add(userId, product.getProductId(), request.getQuantity());
+        return cartItemMapper.toDTO(line, product);
     }
 
     /**
@@ -94,39 +44,28 @@ public class CartService {
      * Validates that the cart item exists and belongs to the customer before removal.
      */
     public void removeFromCart(UUID userId, UUID cartItemId) {
-        var customer = retrieveCustomerFromRepository(userId);
-
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new CartItemNotFoundException(cartItemId.toString()));
-
-        checkCartItemAuthorization(customer.getCustomerId(), cartItem);
-
-        cartItemRepository.deleteById(cartItemId);
+        if (!cartStore.remove(userId, cartItemId))
+            throw missingCartItem(cartItemId);
     }
 
     /**
      * Update the quantity of a cart item in the customer's cart.
      * Validates that the cart item exists and belongs to the customer. Returns the updated cart item with full product details.
      */
-    @Transactional
     public CartItemResponseDto updateCartItem(UUID userId, UUID cartItemId, CartItemRequestDto request) {
-        var customer = retrieveCustomerFromRepository(userId);
-
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new CartItemNotFoundException(cartItemId.toString()));
-
-        checkCartItemAuthorization(customer.getCustomerId(), cartItem);
-
-        cartItem.setQuantity(request.getQuantity());
-
-        return cartItemMapper.toDTO(cartItem);
+        var line = cartStore.updateQuantity(userId, cartItemId, request.getQuantity())
+                .orElseThrow(() -> missingCartItem(cartItemId));
+        return toDTO(line);
     }
 
-    private void checkCartItemAuthorization(UUID customerId, CartItem cartItem) {
-        Optional<Cart> cartOpt = cartRepository.findCartByCustomer_CustomerId(customerId);
-        if (cartOpt.isEmpty() || !cartItem.getCart().getCartId().equals(cartOpt.get().getCartId())) {
-            throw new CartItemAuthorizationException(cartItem.getCartItemId().toString());
-        }
+    /**
+     * Items outside the customer's cart are reported as unauthorized when they exist elsewhere,
+     * including items still buffered in another customer's cart.
+     */
+    private RuntimeException missingCartItem(UUID cartItemId) {
+        if (cartStore.itemExists(cartItemId, cartItemRepository::existsById))
+            return new CartItemAuthorizationException(cartItemId.toString());
+        return new CartItemNotFoundException(cartItemId.toString());
     }
 
     /**
@@ -134,15 +73,9 @@ public class CartService {
      * Returns an empty list if the customer has no cart. Each cart item includes full product details.
      */
     public List<CartItemResponseDto> getCartItemsByCustomer(UUID userId) {
-        var customer = retrieveCustomerFromRepository(userId);
-
-        Optional<Cart> cartOpt = cartRepository.findCartByCustomer_CustomerId(customer.getCustomerId());
-
-        if (cartOpt.isEmpty()) return List.of();
-
-        List<CartItem> cartItems = cartOpt.get().getCartItems();
-
-        return cartItemMapper.toDTOList(cartItems);
+        return cartStore.lines(userId).stream()
+                .map(this::toDTO)
+                .toList();
     }
 
     /**
@@ -150,18 +83,21 @@ public class CartService {
      * Returns an empty list if the customer has no cart or no items match the search term.
      */
     public List<CartItemResponseDto> searchCartItems(UUID userId, String searchTerm, int limit, int offset) {
-        var customer = retrieveCustomerFromRepository(userId);
-
-        Optional<Cart> cartOpt = cartRepository.findCartByCustomer_CustomerId(customer.getCustomerId());
-
-        if (cartOpt.isEmpty()) return List.of();
-
-        UUID cartId = cartOpt.get().getCartId();
-        Specification<CartItem> spec = CartItemSpecification.searchByProductNameOrDescription(cartId, searchTerm);
-        PageRequest pageRequest = PageRequest.of(offset / limit, limit);
+        String term = searchTerm.toLowerCase(Locale.ROOT);
+        return cartStore.lines(userId).stream()
+                .map(this::toDTO)
+                .filter(item -> contains(item.getProduct().getName(), term) || contains(item.getProduct().getDescription(), term))
+                .skip((long) (offset / limit) * limit)
+                .limit(limit)
+                .toList();
+    }
 
-        List<CartItem> cartItems = cartItemRepository.findAll(spec, pageRequest).getContent();
+    private CartItemResponseDto toDTO(CartLine line) {
+        ProductResponseDto product = productService.getProduct(line.productId());
+        return cartItemMapper.toDTO(line, product);
+    }
 
-        return cartItemMapper.toDTOList(cartItems);
+    private static boolean contains(String text, String term) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(term);
     }
 }
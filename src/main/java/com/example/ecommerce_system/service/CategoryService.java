@@ -7,7 +7,11 @@ import com.example.ecommerce_system.exception.category.CategoryNotFoundException
 import com.example.ecommerce_system.exception.category.DuplicateCategoryException;
 import com.example.ecommerce_system.model.Category;
 import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.util.cache.CachedPage;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
 import com.example.ecommerce_system.util.mapper.CategoryMapper;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -28,12 +32,13 @@ public class CategoryService {
 
     private final CategoryMapper mapper;
     private final CategoryRepository categoryRepository;
+    private final PageCacheInvalidator pageCacheInvalidator;
+    private final ProductSearchIndex productSearchIndex;
 
     /**
      * Create a new category with the provided name and description.
      * Validates that no category with the same name already exists before creation.
      */
-    @CacheEvict(value = {"categories", "paginated"}, allEntries = true)
     public CategoryResponseDto createCategory(CategoryRequestDto request) {
         Optional<Category> existing = categoryRepository.findCategoryByName(request.getName());
         if (existing.isPresent()) throw new DuplicateCategoryException(request.getName());
@@ -45,14 +50,16 @@ public class CategoryService {
                 Instant.now()
         );
         Category saved = categoryRepository.save(category);
+        pageCacheInvalidator.created(EntityType.CATEGORY);
         return mapper.toDTO(saved);
     }
 
     /**
      * Update the category identified by the given ID with new values.
      * Validates that the category exists and the new name doesn't conflict with existing categories.
+     * The small categories cache is still cleared since entries are also keyed by the previous name.
      */
-    @CacheEvict(value = {"categories", "paginated"}, allEntries = true)
+    @CacheEvict(value = "categories", allEntries = true)
     @Transactional
     public CategoryResponseDto updateCategory(UUID id, CategoryRequestDto request) {
         Category existingOption = categoryRepository.findById(id)
@@ -62,22 +69,25 @@ public class CategoryService {
         if (isDuplicate) throw new DuplicateCategoryException(request.getName());
 
         existingOption.setUpdatedAt(Instant.now());
-        if(request.getName() != null)
+        if(request.getName() != null) {
             existingOption.setName(request.getName());
+            productSearchIndex.categoryRenamed(id, request.getName());
+        }
         if(request.getDescription() != null)
             existingOption.setDescription(request.getDescription());
 
+        pageCacheInvalidator.updated(EntityType.CATEGORY, id);
         return mapper.toDTO(existingOption);
     }
 
-    @Cacheable(value = "categories", key = "#id")
+    @Cacheable(value = "categories", key = "#id", sync = true)
     public CategoryResponseDto getCategory(UUID id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new CategoryNotFoundException(id.toString()));
         return mapper.toDTO(category);
     }
 
-    @Cacheable(value = "categories", key = "'name_' + #name")
+    @Cacheable(value = "categories", key = "'name_' + #name", sync = true)
     public CategoryResponseDto getCategory(String name) {
         Category category = categoryRepository.findCategoryByName(name)
                 .orElseThrow(() -> new CategoryNotFoundException(name));
@@ -87,7 +97,8 @@ public class CategoryService {
     /**
      * Search for a category with name or description containing query.
      */
-    @Cacheable(value = "paginated", key = "'search_categories_' + #filter.toString() + '_' + #limit + '_' + #offset")
+    @CachedPage(value = EntityType.CATEGORY, filtered = true)
+    @Cacheable(value = "category_pages", keyGenerator = "pageKeyGenerator", sync = true)
     public List<CategoryResponseDto> getCategories(CategoryFilter filter, int limit, int offset) {
         Category probe = Category.builder()
                 .name(filter.getName())
@@ -106,7 +117,8 @@ public class CategoryService {
         return mapper.toDTOList(categories);
     }
 
-    @Cacheable(value = "paginated", key = "'all_categories_' + #limit + '_' + #offset")
+    @CachedPage(EntityType.CATEGORY)
+    @Cacheable(value = "category_pages", key = "'all_categories_' + #limit + '_' + #offset", sync = true)
     public List<CategoryResponseDto> getAllCategories(int limit, int offset) {
         List<Category> categories = categoryRepository.findAll(PageRequest.of(offset, limit)).getContent();
         return mapper.toDTOList(categories);
@@ -116,9 +128,10 @@ public class CategoryService {
      * Delete a category by ID.
      * Validates that the category exists before deletion.
      */
-    @CacheEvict(value = {"categories", "paginated"}, allEntries = true)
+    @CacheEvict(value = "categories", allEntries = true)
     public void deleteCategory(UUID id) {
         categoryRepository.findById(id).orElseThrow(() -> new CategoryNotFoundException(id.toString()));
         categoryRepository.deleteById(id);
+        pageCacheInvalidator.deleted(EntityType.CATEGORY, id);
     }
 }
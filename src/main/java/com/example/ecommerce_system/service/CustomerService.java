@@ -5,16 +5,22 @@ import com.example.ecommerce_system.dto.customer.CustomerResponseDto;
 import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
 import com.example.ecommerce_system.model.Customer;
 import com.example.ecommerce_system.repository.CustomerRepository;
+import com.example.ecommerce_system.util.cache.CachedPage;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
 import com.example.ecommerce_system.util.mapper.CustomerMapper;
 import lombok.AllArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -22,24 +28,38 @@ public class CustomerService {
 
     private final CustomerMapper customerMapper;
     private final CustomerRepository customerRepository;
+    private final PageCacheInvalidator pageCacheInvalidator;
+    private final CustomerIdentityResolver customerIdentityResolver;
 
     /**
      * Retrieves a customer by their unique identifier.
      * The result is cached to improve performance for subsequent requests.
      */
-    @Cacheable(value = "customers", key = "#customerId")
+    @Cacheable(value = "customers", key = "#customerId", sync = true)
     public CustomerResponseDto getCustomer(UUID customerId) {
         Customer customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> new CustomerNotFoundException(customerId.toString()));
         return customerMapper.toDTO(customer);
     }
 
+    /**
+     * Retrieves several customers in one query, keyed by customer id.
+     * Missing ids are simply absent from the result.
+     */
+    public Map<UUID, CustomerResponseDto> getCustomersByIds(Collection<UUID> customerIds) {
+        if (customerIds.isEmpty())
+            return Map.of();
+        return customerRepository.findAllByCustomerIdIn(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getCustomerId, customerMapper::toDTO));
+    }
+
     /**
      * Retrieves all customers with pagination.
      * Results are cached based on limit and offset parameters.
      * Uses zero-based page indexing where offset represents the page number.
      */
-    @Cacheable(value = "paginated", key = "'all_customers_' + #limit + '_' + #offset")
+    @CachedPage(EntityType.CUSTOMER)
+    @Cacheable(value = "customer_pages", key = "'all_customers_' + #limit + '_' + #offset", sync = true)
     public List<CustomerResponseDto> getAllCustomers(int limit, int offset) {
         List<Customer> customers = customerRepository
                 .findAll(PageRequest.of(offset, limit))
@@ -52,7 +72,8 @@ public class CustomerService {
      * Results are cached based on the search query and pagination parameters.
      * The search is case-insensitive and supports partial matching.
      */
-    @Cacheable(value = "paginated", key = "'search_customers_' + #query + '_' + #limit + '_' + #offset")
+    @CachedPage(value = EntityType.CUSTOMER, filtered = true)
+    @Cacheable(value = "customer_pages", key = "'search_customers_' + #query + '_' + #limit + '_' + #offset", sync = true)
     public List<CustomerResponseDto> searchCustomers(String query, int limit, int offset) {
         List<Customer> customers = customerRepository
                 .searchCustomersByName(query, PageRequest.of(offset, limit))
@@ -63,10 +84,9 @@ public class CustomerService {
     /**
      * Updates a customer's phone number and active status.
      * Only updates fields that are provided in the request (non-null values).
-     * This operation evicts all customer-related caches to maintain data consistency.
+     * This operation evicts the cached customer, their cached identity and the pages that show or search customers.
      * Changes are persisted automatically due to the transactional context.
      */
-    @CacheEvict(value = {"customers", "paginated"}, allEntries = true)
     @Transactional
     public CustomerResponseDto updateCustomer(UUID customerId, CustomerRequestDto request) {
         Customer existing = customerRepository.findById(customerId)
@@ -77,6 +97,8 @@ public class CustomerService {
         if(request.getActive() != null)
             existing.setActive(request.getActive());
 
+        pageCacheInvalidator.updated(EntityType.CUSTOMER, customerId);
+        customerIdentityResolver.evict(existing.getUser().getUserId());
         return customerMapper.toDTO(existing);
     }
 }
@@ -1,39 +1,52 @@
 package com.example.ecommerce_system.service;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
+import com.example.ecommerce_system.dto.orders.BulkOrderOutcome;
+import com.example.ecommerce_system.dto.orders.BulkOrderStatusRequest;
+import com.example.ecommerce_system.dto.orders.BulkOrderStatusResult;
 import com.example.ecommerce_system.dto.orders.OrderFilter;
 import com.example.ecommerce_system.dto.orders.OrderItemDto;
+import com.example.ecommerce_system.dto.orders.OrderLineQuantity;
 import com.example.ecommerce_system.dto.orders.OrderRequestDto;
 import com.example.ecommerce_system.dto.orders.OrderResponseDto;
 import com.example.ecommerce_system.model.OrderStatusType;
-import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
 import com.example.ecommerce_system.exception.order.InvalidOrderCancellationException;
 import com.example.ecommerce_system.exception.order.InvalidOrderStatusException;
 import com.example.ecommerce_system.exception.order.OrderDoesNotExist;
-import com.example.ecommerce_system.exception.order.OrderStatusNotFoundException;
+import com.example.ecommerce_system.exception.order.UnavailableOrderItemsException;
 import com.example.ecommerce_system.exception.product.InsufficientProductStock;
-import com.example.ecommerce_system.exception.product.ProductNotFoundException;
-import com.example.ecommerce_system.exception.product.ProductOptimisticLockException;
 import com.example.ecommerce_system.model.*;
 import com.example.ecommerce_system.repository.*;
+import com.example.ecommerce_system.util.CursorPagination;
 import com.example.ecommerce_system.util.OrderSpecification;
+import com.example.ecommerce_system.util.cache.CachedPage;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
 import com.example.ecommerce_system.util.mapper.OrderMapper;
+import com.example.ecommerce_system.util.registry.OrderStatusRegistry;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
 import lombok.AllArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import jakarta.persistence.OptimisticLockException;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.example.ecommerce_system.model.OrderStatusType.CANCELLED;
 import static com.example.ecommerce_system.model.OrderStatusType.PROCESSED;
@@ -42,26 +55,32 @@ import static com.example.ecommerce_system.model.OrderStatusType.PROCESSED;
 @Service
 public class OrderService {
 
+    private static final Sort SCROLL_SORT = Sort.by(Sort.Order.desc("orderDate"), Sort.Order.desc("orderId"));
+    private static final Set<String> SCROLL_KEYS = Set.of("orderDate", "orderId");
+
     private OrderRepository orderRepository;
-    private OrderStatusRepository orderStatusRepository;
+    private OrderStatusRegistry orderStatusRegistry;
     private CustomerRepository customerRepository;
     private ProductRepository productRepository;
+    private OrderItemRepository orderItemRepository;
 
     private OrderMapper orderMapper;
+    private PageCacheInvalidator pageCacheInvalidator;
+    private ProductSearchIndex productSearchIndex;
+    private CustomerIdentityResolver customerIdentityResolver;
 
     /**
      * Places a new order for the specified customer.
      * Validates order items, checks product availability and stock, calculates total amount,
      * and creates the order with PENDING status.
      */
-    @CacheEvict(value = {"orders", "paginated"}, allEntries = true)
     @Transactional
     public OrderResponseDto placeOrder(OrderRequestDto request, UUID userId) {
-        var customer = checkIfCustomerExists(userId);
+        var identity = customerIdentityResolver.resolve(userId);
+        var customer = customerRepository.getReferenceById(identity.customerId());
         var orderId = UUID.randomUUID();
 
-        var status = orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING)
-                .orElseThrow(() -> new OrderStatusNotFoundException(OrderStatusType.PENDING.name()));
+        var status = orderStatusRegistry.get(OrderStatusType.PENDING);
 
         List<OrderItem> items = validateOrderItems(request.getItems());
         double totalAmount = items.stream()
@@ -72,6 +91,7 @@ public class OrderService {
         Orders savedOrder = orderRepository.save(newOrder);
 
         saveOrderItems(savedOrder, items);
+        pageCacheInvalidator.created(EntityType.ORDER);
         return orderMapper.toDto(savedOrder);
     }
 
@@ -82,31 +102,48 @@ public class OrderService {
         savedOrder.setOrderItems(items);
     }
 
-    private Customer checkIfCustomerExists(UUID userId) {
-        return customerRepository
-                .findCustomerByUser_UserId(userId)
-                .orElseThrow(() -> new CustomerNotFoundException(userId.toString()));
+    /**
+     * Merges duplicate product lines, loads every referenced product in a single query
+     * and reports all missing or under-stocked products together.
+     */
+    private List<OrderItem> validateOrderItems(List<OrderItemDto> orderedItems) {
+        Map<UUID, Integer> quantities = mergeQuantitiesByProduct(orderedItems);
+
+        Map<UUID, Product> products = productRepository.findAllById(quantities.keySet())
+                .stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+        List<String> missing = new ArrayList<>();
+        List<String> insufficient = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            var product = products.get(productId);
+            if (product == null)
+                missing.add(productId.toString());
+            else if (product.getStockQuantity() < quantity)
+                insufficient.add(productId.toString());
+        });
+
+        if (!missing.isEmpty() || !insufficient.isEmpty())
+            throw new UnavailableOrderItemsException(missing, insufficient);
+
+        List<OrderItem> items = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> {
+            var product = products.get(productId);
+            items.add(OrderItem.builder()
+                    .orderItemId(UUID.randomUUID())
+                    .product(product)
+                    .quantity(quantity)
+                    .priceAtPurchase(product.getPrice())
+                    .build());
+        });
+        return items;
     }
 
-    private List<OrderItem> validateOrderItems(List<OrderItemDto> orderedItems) {
-        return orderedItems.stream()
-                .map(itemDto -> {
-                    var productId = itemDto.getProductId();
-                    var product = productRepository.findById(productId)
-                            .orElseThrow(() -> new ProductNotFoundException(productId.toString()));
-
-                    if (product.getStockQuantity() < itemDto.getQuantity()) {
-                        throw new InsufficientProductStock(productId.toString());
-                    }
-
-                    return OrderItem.builder()
-                            .orderItemId(UUID.randomUUID())
-                            .product(product)
-                            .quantity(itemDto.getQuantity())
-                            .priceAtPurchase(product.getPrice())
-                            .build();
-                })
-                .toList();
+    private Map<UUID, Integer> mergeQuantitiesByProduct(List<OrderItemDto> orderedItems) {
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItemDto itemDto : orderedItems)
+            quantities.merge(itemDto.getProductId(), itemDto.getQuantity(), Integer::sum);
+        return quantities;
     }
 
     private Orders createOrder(
@@ -131,7 +168,7 @@ public class OrderService {
     /**
      * Retrieves an order and its items by order ID.
      */
-    @Cacheable(value = "orders", key = "#orderId")
+    @Cacheable(value = "orders", key = "#orderId", sync = true)
     public OrderResponseDto getOrder(UUID orderId) {
         Orders order = orderRepository.findById(orderId).orElseThrow(
                 () -> new OrderDoesNotExist(orderId.toString()));
@@ -141,26 +178,61 @@ public class OrderService {
     /**
      * Retrieves all orders with pagination.
      */
-    @Cacheable(value = "paginated", key = "'all_orders_' + #limit + '_' + #offset")
+    @CachedPage(EntityType.ORDER)
+    @Cacheable(value = "order_pages", key = "'all_orders_' + #limit + '_' + #offset", sync = true)
     public List<OrderResponseDto> getAllOrders(int limit, int offset) {
         PageRequest pageRequest = PageRequest.of(
                 offset,
                 limit,
                 Sort.by("orderDate").descending()
         );
-        List<Orders> orders = orderRepository.findAll(pageRequest).getContent();
+        List<Orders> orders = orderRepository.findAllBy(pageRequest).getContent();
         return orderMapper.toDtoList(orders);
     }
 
     /**
      * Searches orders using filter criteria with pagination.
      */
-    @Cacheable(value = "paginated", key = "'search_orders_' + #filter.toString() + '_' + #limit + '_' + #offset")
+    @CachedPage(value = EntityType.ORDER, filtered = true)
+    @Cacheable(value = "order_pages", keyGenerator = "pageKeyGenerator", sync = true)
     public List<OrderResponseDto> searchOrders(OrderFilter filter, int limit, int offset) {
         var orders = queryRepositoryWithFilter(filter, limit, offset);
         return orderMapper.toDtoList(orders);
     }
 
+    /**
+     * Retrieves orders matching the filter newest first, seeking past the given cursor.
+     * Uses keyset pagination on (orderDate, orderId), so no OFFSET scan or COUNT query is issued.
+     */
+    @CachedPage(value = EntityType.ORDER, filtered = true)
+    @Cacheable(value = "order_pages", keyGenerator = "pageKeyGenerator", sync = true)
+    public CursorPageDto<OrderResponseDto> scrollOrders(OrderFilter filter, int limit, String cursor) {
+        return scrollRepositoryWithFilter(filter, limit, cursor);
+    }
+
+    /**
+     * Retrieves a customer's orders newest first using keyset pagination.
+     */
+    @CachedPage(EntityType.ORDER)
+    @Cacheable(value = "order_pages", key = "'scroll_customer_orders_' + #userId + '_' + #limit + '_' + #cursor", sync = true)
+    public CursorPageDto<OrderResponseDto> scrollCustomerOrders(UUID userId, int limit, String cursor) {
+        var identity = customerIdentityResolver.resolve(userId);
+
+        var filter = OrderFilter.builder()
+                .customerId(identity.customerId())
+                .build();
+        return scrollRepositoryWithFilter(filter, limit, cursor);
+    }
+
+    private CursorPageDto<OrderResponseDto> scrollRepositoryWithFilter(OrderFilter filter, int limit, String cursor) {
+        Specification<Orders> spec = OrderSpecification.buildSpecification(filter);
+        Window<Orders> window = orderRepository.findBy(spec, query -> query
+                .sortBy(SCROLL_SORT)
+                .limit(limit)
+                .scroll(CursorPagination.decode(cursor, SCROLL_KEYS)));
+        return CursorPagination.toPage(window, orderMapper::toDtoList);
+    }
+
     private List<Orders> queryRepositoryWithFilter(OrderFilter filter, int limit, int offset) {
         Specification<Orders> spec = OrderSpecification.buildSpecification(filter);
         PageRequest pageRequest = PageRequest.of(
@@ -174,119 +246,177 @@ public class OrderService {
     /**
      * Retrieves all orders for a specific customer with pagination.
      */
-    @Cacheable(value = "paginated", key = "'customer_orders_' + #userId + '_' + #limit + '_' + #offset")
+    @CachedPage(EntityType.ORDER)
+    @Cacheable(value = "order_pages", key = "'customer_orders_' + #userId + '_' + #limit + '_' + #offset", sync = true)
     public List<OrderResponseDto> getCustomerOrders(UUID userId, int limit, int offset) {
-        var customer = checkIfCustomerExists(userId);
+        var identity = customerIdentityResolver.resolve(userId);
 
         var filter = OrderFilter.builder()
-                .customerId(customer.getCustomerId())
+                .customerId(identity.customerId())
                 .build();
         var orders = queryRepositoryWithFilter(filter, limit, offset);
         return orderMapper.toDtoList(orders);
     }
 
     /**
-     * Updates order status to either PROCESSED or CANCELLED with retry mechanism.
-     * Processing deducts stock quantities, cancellation is only allowed for pending orders.
+     * Updates order status to either PROCESSED or CANCELLED.
+     * The order row is locked first, so a concurrent change of the same order, single or bulk, waits
+     * and then sees the new status. Only pending orders move; processing reserves stock with conditional updates.
      */
-    @CacheEvict(value = {"orders", "products", "paginated"}, allEntries = true)
     @Transactional
-    @Retryable(
-        retryFor = {OptimisticLockException.class, ObjectOptimisticLockingFailureException.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 100, multiplier = 2)
-    )
     public OrderResponseDto updateOrderStatus(UUID orderId, OrderRequestDto request) {
-        Orders existingOrder = orderRepository.findById(orderId)
+        Orders existingOrder = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new OrderDoesNotExist(orderId.toString()));
 
         switch (request.getStatus()) {
-            case PROCESSED -> processOrderWithRetry(existingOrder);
+            case PROCESSED -> processOrder(existingOrder);
             case CANCELLED -> cancelOrder(existingOrder);
             default -> throw new InvalidOrderStatusException("this status is not allowed");
         }
 
+        pageCacheInvalidator.updated(EntityType.ORDER, orderId);
         return orderMapper.toDto(existingOrder);
     }
 
-    @Retryable(
-        retryFor = {OptimisticLockException.class, ObjectOptimisticLockingFailureException.class},
-        maxAttempts = 5,
-        backoff = @Backoff(delay = 50, multiplier = 1.5, maxDelay = 1000)
-    )
-    private void processOrderWithRetry(Orders existingOrder) {
-        var orderId = existingOrder.getOrderId();
-        try {
-            processOrder(existingOrder);
-        } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
-            // Refresh the order and its items from database before retry
-            existingOrder = orderRepository.findById(existingOrder.getOrderId())
-                    .orElseThrow(() -> new OrderDoesNotExist(orderId.toString()));
-            throw e;
-        }
-    }
-
     private void processOrder(Orders existingOrder) {
-        if (existingOrder.getStatus().getStatusName() == PROCESSED)
+        OrderStatusType current = existingOrder.getStatus().getStatusName();
+        if (current == PROCESSED)
             return;
+        if (current != OrderStatusType.PENDING)
+            throw new InvalidOrderStatusException("Only pending orders can be processed");
 
-        for (OrderItem item : existingOrder.getOrderItems()) {
-            // Refresh product from database to get latest version
-            var product = item.getProduct();
+        reserveStock(existingOrder.getOrderItems());
 
-            int newStock = product.getStockQuantity() - item.getQuantity();
-            if (newStock < 0)
-                throw new InsufficientProductStock(product.getProductId().toString());
+        var status = orderStatusRegistry.get(PROCESSED);
+        existingOrder.setStatus(status);
+    }
 
-            product.setStockQuantity(newStock);
-            product.setUpdatedAt(Instant.now());
+    /**
+     * Decrements stock with one conditional update per product, visiting products in the lock order
+     * the bulk path uses, so concurrent single and bulk processing lock rows consistently. A zero row count means the stock ran out,
+     * and the exception rolls back every reservation made for this order.
+     */
+    private void reserveStock(List<OrderItem> items) {
+        Map<UUID, Integer> quantities = new TreeMap<>(ProductBatchRepository.LOCK_ORDER);
+        for (OrderItem item : items)
+            quantities.merge(item.getProduct().getProductId(), item.getQuantity(), Integer::sum);
+
+        Instant now = Instant.now();
+        quantities.forEach((productId, quantity) -> {
+            if (productRepository.decrementStock(productId, quantity, now) == 0)
+                throw new InsufficientProductStock(productId.toString());
+        });
+        pageCacheInvalidator.updated(EntityType.PRODUCT, quantities.keySet());
+        productSearchIndex.stockReserved(quantities);
+    }
 
-            try {
-                productRepository.save(product);
-            } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
-                throw new ProductOptimisticLockException(product.getProductId().toString(), e);
-            }
-        }
+    private void cancelOrder(Orders existingOrder) {
+        if (existingOrder.getStatus().getStatusName() != OrderStatusType.PENDING)
+            throw new InvalidOrderCancellationException("Only pending orders can be cancelled");
 
-        var status = retrieveOrderStatus(PROCESSED);
+        var status = orderStatusRegistry.get(CANCELLED);
         existingOrder.setStatus(status);
     }
 
     /**
-     * Recover handlers used when optimistic lock keeps
-     * occurring and proper error needs to be thrown.
-     * Not explicitly called but referenced by retry context.
+     * Processes or cancels many orders in one transaction. Only pending orders move; orders already
+     * in the target status are reported unchanged. When processing, the orders' quantities are read
+     * in one aggregate query, stock is allocated to orders in request order against row-locked stock,
+     * and the accepted totals are applied with one set-based update. Orders whose stock ran out are
+     * skipped and reported rather than failing the batch. Caches are invalidated once for the batch.
      */
-    @Recover
-    public OrderResponseDto recoverFromOptimisticLock(
-            OptimisticLockException ex,
-            UUID orderId,
-            OrderRequestDto request) {
-        throw new ProductOptimisticLockException("Failed to process order after multiple retries: " + orderId);
+    @Transactional
+    public BulkOrderStatusResult updateOrderStatuses(BulkOrderStatusRequest request) {
+        OrderStatusType target = request.getStatus();
+        if (target != PROCESSED && target != CANCELLED)
+            throw new InvalidOrderStatusException("this status is not allowed");
+
+        Set<UUID> orderIds = new LinkedHashSet<>(request.getOrderIds());
+        Map<UUID, Orders> orders = orderRepository.findAllForUpdate(orderIds).stream()
+                .collect(Collectors.toMap(Orders::getOrderId, Function.identity()));
+
+        Map<UUID, BulkOrderOutcome> outcomes = new LinkedHashMap<>();
+        List<UUID> candidates = new ArrayList<>();
+        for (UUID orderId : orderIds) {
+            Orders order = orders.get(orderId);
+            OrderStatusType current = order == null ? null : order.getStatus().getStatusName();
+            if (order == null)
+                outcomes.put(orderId, outcome(orderId, BulkOrderOutcome.Result.NOT_FOUND, "order does not exist"));
+            else if (current == target)
+                outcomes.put(orderId, outcome(orderId, BulkOrderOutcome.Result.UNCHANGED, "order is already " + target));
+            else if (current != OrderStatusType.PENDING)
+                outcomes.put(orderId, outcome(orderId, BulkOrderOutcome.Result.INVALID_TRANSITION,
+                        "only pending orders can be " + target.name().toLowerCase()));
+            else {
+                outcomes.put(orderId, null);
+                candidates.add(orderId);
+            }
+        }
+
+        List<UUID> accepted = target == PROCESSED ? reserveStockInBulk(candidates, outcomes) : candidates;
+        if (!accepted.isEmpty()) {
+            orderRepository.updateStatus(accepted, orderStatusRegistry.get(target));
+            pageCacheInvalidator.updated(EntityType.ORDER, accepted);
+        }
+        accepted.forEach(orderId -> outcomes.put(orderId, outcome(orderId, BulkOrderOutcome.Result.UPDATED, null)));
+
+        List<BulkOrderOutcome> results = List.copyOf(outcomes.values());
+        int unchanged = (int) results.stream()
+                .filter(outcome -> outcome.getResult() == BulkOrderOutcome.Result.UNCHANGED)
+                .count();
+        return BulkOrderStatusResult.builder()
+                .status(target)
+                .requested(results.size())
+                .updated(accepted.size())
+                .unchanged(unchanged)
+                .failed(results.size() - accepted.size() - unchanged)
+                .outcomes(results)
+                .build();
     }
 
     /**
-     * Recover handlers used when optimistic lock keeps
-     * occurring and proper error needs to be thrown.
-     * Not explicitly called but referenced by retry context.
+     * Allocates stock to the candidate orders in request order and returns those that fit.
+     * Orders that do not fit are recorded in {@code outcomes} with the products that ran short.
      */
-    @Recover
-    public OrderResponseDto recoverFromOptimisticLock(
-            ObjectOptimisticLockingFailureException ex,
-            UUID orderId,
-            OrderRequestDto request) {
-        throw new ProductOptimisticLockException("Failed to process order after multiple retries: " + orderId);
-    }
-
-    private void cancelOrder(Orders existingOrder) {
-        if (existingOrder.getStatus().getStatusName() != OrderStatusType.PENDING)
-            throw new InvalidOrderCancellationException("Only pending orders can be cancelled");
+    private List<UUID> reserveStockInBulk(List<UUID> candidates, Map<UUID, BulkOrderOutcome> outcomes) {
+        if (candidates.isEmpty())
+            return candidates;
+
+        Map<UUID, Map<UUID, Integer>> linesByOrder = new HashMap<>();
+        for (OrderLineQuantity line : orderItemRepository.findLineQuantities(candidates))
+            linesByOrder.computeIfAbsent(line.orderId(), id -> new TreeMap<>())
+                    .put(line.productId(), Math.toIntExact(line.quantity()));
+
+        Set<UUID> productIds = new LinkedHashSet<>();
+        linesByOrder.values().forEach(lines -> productIds.addAll(lines.keySet()));
+        Map<UUID, Integer> available = productIds.isEmpty() ? Map.of() : productRepository.lockStock(productIds);
+
+        Map<UUID, Integer> reserved = new TreeMap<>(ProductBatchRepository.LOCK_ORDER);
+        List<UUID> accepted = new ArrayList<>();
+        for (UUID orderId : candidates) {
+            Map<UUID, Integer> lines = linesByOrder.getOrDefault(orderId, Map.of());
+            List<String> shortOf = lines.entrySet().stream()
+                    .filter(line -> available.getOrDefault(line.getKey(), 0) - reserved.getOrDefault(line.getKey(), 0) < line.getValue())
+                    .map(line -> line.getKey().toString())
+                    .toList();
+            if (!shortOf.isEmpty()) {
+                outcomes.put(orderId, outcome(orderId, BulkOrderOutcome.Result.INSUFFICIENT_STOCK,
+                        "insufficient stock for products " + shortOf));
+                continue;
+            }
+            lines.forEach((productId, quantity) -> reserved.merge(productId, quantity, Integer::sum));
+            accepted.add(orderId);
+        }
 
-        var status = retrieveOrderStatus(CANCELLED);
-        existingOrder.setStatus(status);
+        if (!reserved.isEmpty()) {
+            productRepository.decrementStock(reserved, Instant.now());
+            pageCacheInvalidator.updated(EntityType.PRODUCT, reserved.keySet());
+            productSearchIndex.stockReserved(reserved);
+        }
+        return accepted;
     }
 
-    private OrderStatus retrieveOrderStatus(OrderStatusType type) {
-        return orderStatusRepository.findOrderStatusByStatusName(type).orElseThrow();
+    private static BulkOrderOutcome outcome(UUID orderId, BulkOrderOutcome.Result result, String message) {
+        return BulkOrderOutcome.builder().orderId(orderId).result(result).message(message).build();
     }
 }
@@ -0,0 +1,200 @@
+package com.example.ecommerce_system.service;
+
+import com.example.ecommerce_system.config.ProductImportProperties;
+import com.example.ecommerce_system.dto.product.CreateProductRequest;
+import com.example.ecommerce_system.dto.product.ProductImportError;
+import com.example.ecommerce_system.dto.product.ProductImportResult;
+import com.example.ecommerce_system.dto.product.ProductRequestDto;
+import com.example.ecommerce_system.exception.product.ProductImportException;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.repository.ProductBatchRepository.ProductRow;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.importer.ImportRecord;
+import com.example.ecommerce_system.util.importer.ImportRecordReader;
+import com.example.ecommerce_system.util.importer.ProductImportFormat;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a supplier catalogue into the product table. Rows are validated as they are read,
+ * against the same constraints as a single create and a category set loaded once up front,
+ * then inserted in JDBC batches so memory stays flat however large the body is.
+ * Each batch commits on its own; product caches and the search index are refreshed once at the end.
+ */
+@Service
+@AllArgsConstructor
+public class ProductImportService {
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportService.class);
+    private static final int MAX_NAME_LENGTH = 100;
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final PageCacheInvalidator pageCacheInvalidator;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductImportProperties importProperties;
+
+    /**
+     * Import every valid row of the body and report the rest by line number.
+     * A batch the database rejects is retried row by row, so one bad row does not sink its neighbours.
+     */
+    public ProductImportResult importProducts(InputStream body, ProductImportFormat format) {
+        long start = System.nanoTime();
+        Set<UUID> categoryIds = categoryRepository.findAll().stream()
+                .map(Category::getCategoryId)
+                .collect(Collectors.toCollection(HashSet::new));
+        Progress progress = new Progress(importProperties.getMaxReportedErrors());
+        List<PendingRow> batch = new ArrayList<>(importProperties.getBatchSize());
+
+        try (ImportRecordReader reader = ImportRecordReader.open(format, body, objectMapper)) {
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                progress.rowsRead++;
+                if (record.isMalformed()) {
+                    progress.reject(record.line(), record.error());
+                    continue;
+                }
+                ProductRow row = toRow(record.fields(), categoryIds, progress, record.line());
+                if (row == null)
+                    continue;
+                batch.add(new PendingRow(record.line(), row));
+                if (batch.size() >= importProperties.getBatchSize()) {
+                    write(batch, progress);
+                    batch.clear();
+                }
+            }
+            write(batch, progress);
+        } catch (IOException e) {
+            throw new ProductImportException(e.getMessage());
+        } finally {
+            if (progress.imported > 0)
+                refreshAfterImport();
+        }
+
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+        logger.info("[import] {} rows read, {} imported, {} rejected in {}ms",
+                progress.rowsRead, progress.imported, progress.rejected, Math.round(elapsedMs));
+        return ProductImportResult.builder()
+                .rowsRead(progress.rowsRead)
+                .imported(progress.imported)
+                .rejected(progress.rejected)
+                .errors(progress.errors)
+                .errorsTruncated(progress.rejected > progress.errors.size())
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    private ProductRow toRow(Map<String, String> fields, Set<UUID> categoryIds, Progress progress, long line) {
+        ProductRequestDto request;
+        try {
+            request = new ProductRequestDto(
+                    fields.get("name"),
+                    fields.get("description"),
+                    fields.containsKey("price") ? Double.valueOf(fields.get("price")) : null,
+                    fields.containsKey("stock") ? Integer.valueOf(fields.get("stock")) : null,
+                    fields.containsKey("categoryId") ? UUID.fromString(fields.get("categoryId")) : null
+            );
+        } catch (IllegalArgumentException e) {
+            progress.reject(line, "invalid number or categoryId: " + e.getMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<ProductRequestDto>> violations = validator.validate(request, CreateProductRequest.class);
+        if (!violations.isEmpty()) {
+            progress.reject(line, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        if (request.getName().length() > MAX_NAME_LENGTH) {
+            progress.reject(line, "name cannot be longer than " + MAX_NAME_LENGTH + " characters");
+            return null;
+        }
+        if (!categoryIds.contains(request.getCategoryId())) {
+            progress.reject(line, "category '" + request.getCategoryId() + "' does not exist");
+            return null;
+        }
+
+        return new ProductRow(
+                UUID.randomUUID(),
+                request.getName(),
+                request.getDescription(),
+                request.getPrice(),
+                request.getStock(),
+                request.getCategoryId(),
+                Instant.now()
+        );
+    }
+
+    private void write(List<PendingRow> batch, Progress progress) {
+        if (batch.isEmpty())
+            return;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    productRepository.insertProducts(batch.stream().map(PendingRow::row).toList()));
+            progress.imported += batch.size();
+        } catch (DataAccessException batchFailure) {
+            for (PendingRow pending : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            productRepository.insertProducts(List.of(pending.row())));
+                    progress.imported++;
+                } catch (DataAccessException rowFailure) {
+                    progress.reject(pending.line(), "rejected by the database: " + rowFailure.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void refreshAfterImport() {
+        pageCacheInvalidator.created(EntityType.PRODUCT);
+        if (productSearchIndex.isEnabled())
+            productSearchIndex.rebuild();
+    }
+
+    private record PendingRow(long line, ProductRow row) {
+    }
+
+    private static final class Progress {
+        private final int maxReportedErrors;
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+
+        private Progress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors)
+                errors.add(ProductImportError.builder().line(line).message(message).build());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.ecommerce_system.service;
 
+import com.example.ecommerce_system.config.ProductSearchProperties;
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.product.ProductFilter;
 import com.example.ecommerce_system.dto.product.ProductRequestDto;
 import com.example.ecommerce_system.dto.product.ProductResponseDto;
@@ -10,32 +12,44 @@ import com.example.ecommerce_system.model.Category;
 import com.example.ecommerce_system.model.Product;
 import com.example.ecommerce_system.repository.CategoryRepository;
 import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.util.CursorPagination;
 import com.example.ecommerce_system.util.ProductSpecification;
+import com.example.ecommerce_system.util.cache.CachedPage;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
 import com.example.ecommerce_system.util.mapper.ProductMapper;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
 import lombok.AllArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @AllArgsConstructor
 public class ProductService {
 
+    private static final Sort SCROLL_SORT = Sort.by(Sort.Order.asc("name"), Sort.Order.asc("productId"));
+    private static final Set<String> SCROLL_KEYS = Set.of("name", "productId");
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final ProductMapper productMapper;
+    private final PageCacheInvalidator pageCacheInvalidator;
+    private final ProductSearchProperties searchProperties;
+    private final ProductSearchIndex productSearchIndex;
 
     /**
      * Create a new product.
      * Validates that the category exists before creating the product.
      */
-    @CacheEvict(value = {"products", "paginated"}, allEntries = true)
     public ProductResponseDto createProduct(ProductRequestDto request) {
         var category = getCategory(request.getCategoryId());
 
@@ -51,7 +65,10 @@ public class ProductService {
                 .updatedAt(Instant.now())
                 .build();
         var saved = productRepository.save(product);
-        return productMapper.toDTO(saved);
+        pageCacheInvalidator.created(EntityType.PRODUCT);
+        var dto = productMapper.toDTO(saved);
+        productSearchIndex.indexProduct(dto);
+        return dto;
     }
 
     private Category getCategory(UUID categoryId) {
@@ -59,7 +76,7 @@ public class ProductService {
                 .orElseThrow(() -> new CategoryNotFoundException(categoryId.toString()));
     }
 
-    @Cacheable(value = "products", key = "#productId")
+    @Cacheable(value = "products", key = "#productId", sync = true)
     public ProductResponseDto getProduct(UUID productId) {
         var product = retrieveProductFromRepository(productId);
         return productMapper.toDTO(product);
@@ -73,9 +90,10 @@ public class ProductService {
     /**
      * Retrieve all products with pagination.
      */
-    @Cacheable(value = "paginated", key = "'all_products_' + #limit + '_' + #offset")
+    @CachedPage(EntityType.PRODUCT)
+    @Cacheable(value = "product_pages", key = "'all_products_' + #limit + '_' + #offset", sync = true)
     public List<ProductResponseDto> getAllProducts(int limit, int offset) {
-        List<Product> products = productRepository.findAll(PageRequest.of(offset, limit)).getContent();
+        List<Product> products = productRepository.findAllBy(PageRequest.of(offset, limit)).getContent();
         return productMapper.toDTOList(products);
     }
 
@@ -83,31 +101,71 @@ public class ProductService {
      * Delete a product by ID.
      * Validates that the product exists before deletion.
      */
-    @CacheEvict(value = {"products", "paginated"}, allEntries = true)
     public void deleteProduct(UUID productId) {
         var existing = retrieveProductFromRepository(productId);
         productRepository.deleteById(existing.getProductId());
+        pageCacheInvalidator.deleted(EntityType.PRODUCT, productId);
+        productSearchIndex.removeProduct(productId);
     }
 
     /**
      * Search for products using a filter with pagination.
+     * In full-text mode, name and description terms are ranked by relevance instead of matched as substrings.
+     * In in-memory mode, the filter is answered by the product search index once it has been built.
      */
-    @Cacheable(value = "paginated", key = "'search_products_' + #filter.toString() + '_' + #limit + '_' + #offset")
+    @CachedPage(value = EntityType.PRODUCT, filtered = true)
+    @Cacheable(value = "product_pages", keyGenerator = "pageKeyGenerator", sync = true)
     public List<ProductResponseDto> searchProducts(ProductFilter filter, int limit, int offset) {
+        if (productSearchIndex.isReady())
+            return productSearchIndex.search(filter, limit, offset);
+        if (useFullTextSearch(filter))
+            return productRepository.searchRanked(filter, limit, offset);
+
         var products = queryRepositoryWithFilter(filter, limit, offset);
         return productMapper.toDTOList(products);
     }
 
+    /**
+     * Suggest products whose name, description or category contains words starting with the typed prefix.
+     * Without the in-memory index, falls back to a name substring search.
+     */
+    public List<ProductResponseDto> autocompleteProducts(String prefix, int limit) {
+        if (productSearchIndex.isReady())
+            return productSearchIndex.complete(prefix, limit);
+
+        var filter = ProductFilter.builder().name(prefix).build();
+        return productMapper.toDTOList(queryRepositoryWithFilter(filter, limit, 0));
+    }
+
+    /**
+     * Retrieve products matching the filter ordered by name, seeking past the given cursor.
+     * Uses keyset pagination on (name, productId), so no OFFSET scan or COUNT query is issued.
+     */
+    @CachedPage(value = EntityType.PRODUCT, filtered = true)
+    @Cacheable(value = "product_pages", keyGenerator = "pageKeyGenerator", sync = true)
+    public CursorPageDto<ProductResponseDto> scrollProducts(ProductFilter filter, int limit, String cursor) {
+        Specification<Product> spec = ProductSpecification.buildSpecification(filter);
+        Window<Product> window = productRepository.findBy(spec, query -> query
+                .sortBy(SCROLL_SORT)
+                .limit(limit)
+                .scroll(CursorPagination.decode(cursor, SCROLL_KEYS)));
+        return CursorPagination.toPage(window, productMapper::toDTOList);
+    }
+
+    private boolean useFullTextSearch(ProductFilter filter) {
+        return searchProperties.getMode() == ProductSearchProperties.SearchMode.FULL_TEXT
+                && (filter.hasName() || filter.hasDescription());
+    }
+
     private List<Product> queryRepositoryWithFilter(ProductFilter filter, int limit, int offset) {
         Specification<Product> spec = ProductSpecification.buildSpecification(filter);
-        return productRepository.findAll(spec, PageRequest.of(offset, limit)).getContent();
+        return productRepository.findAll(spec, PageRequest.of(offset, limit, SCROLL_SORT)).getContent();
     }
 
     /**
      * Update an existing product.
      * Validates product existence and merges provided fields with existing values.
      */
-    @CacheEvict(value = {"products", "paginated"}, allEntries = true)
     public ProductResponseDto updateProduct(UUID productId, ProductRequestDto request) {
         var existingProduct = retrieveProductFromRepository(productId);
 
@@ -124,29 +182,29 @@ public class ProductService {
                 .build();
 
         productRepository.save(updated);
-        return productMapper.toDTO(updated);
+        pageCacheInvalidator.updated(EntityType.PRODUCT, productId);
+        var dto = productMapper.toDTO(updated);
+        productSearchIndex.indexProduct(dto);
+        return dto;
     }
 
     /**
      * Get all products with their categories and reviews.
-     * Each product includes a limited number of reviews based on reviewLimit parameter.
+     * Each product includes at most reviewLimit of its newest reviews, loaded in the same statement.
      */
-    @Cacheable(value = "paginated", key = "'products_with_reviews_' + #limit + '_' + #offset + '_' + #reviewLimit")
+    @CachedPage(EntityType.PRODUCT)
+    @Cacheable(value = "product_pages", key = "'products_with_reviews_' + #limit + '_' + #offset + '_' + #reviewLimit", sync = true)
     public List<ProductWithReviewsDto> getAllProductsWithReviews(int limit, int offset, int reviewLimit) {
-        var productsPage = productRepository.findAllWithLimitedReviews(
-                reviewLimit,
-                PageRequest.of(offset, limit)
-        );
-        return productMapper.toProductWithReviewsDTOList(productsPage.getContent());
+        return productRepository.findPageWithTopReviews(null, limit, offset, reviewLimit);
     }
 
     /**
      * Search for products with reviews using a filter with pagination.
-     * Each product includes a limited number of reviews based on reviewLimit parameter.
+     * Each product includes at most reviewLimit of its newest reviews, loaded in the same statement.
      */
-    @Cacheable(value = "paginated", key = "'search_products_with_reviews_' + #filter.toString() + '_' + #limit + '_' + #offset")
-    public List<ProductWithReviewsDto> searchProductsWithReviews(ProductFilter filter, int limit, int offset) {
-        var products = queryRepositoryWithFilter(filter, limit, offset);
-        return productMapper.toProductWithReviewsDTOList(products);
+    @CachedPage(value = EntityType.PRODUCT, filtered = true)
+    @Cacheable(value = "product_pages", keyGenerator = "pageKeyGenerator", sync = true)
+    public List<ProductWithReviewsDto> searchProductsWithReviews(ProductFilter filter, int limit, int offset, int reviewLimit) {
+        return productRepository.findPageWithTopReviews(filter, limit, offset, reviewLimit);
     }
 }
@@ -1,49 +1,63 @@
 package com.example.ecommerce_system.service;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.review.ReviewRequestDto;
 import com.example.ecommerce_system.dto.review.ReviewResponseDto;
 import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
 import com.example.ecommerce_system.exception.product.ProductNotFoundException;
 import com.example.ecommerce_system.exception.review.CustomerHasNotOrderedProductException;
-import com.example.ecommerce_system.model.Customer;
 import com.example.ecommerce_system.model.Product;
 import com.example.ecommerce_system.model.Review;
 import com.example.ecommerce_system.repository.CustomerRepository;
 import com.example.ecommerce_system.repository.OrderRepository;
 import com.example.ecommerce_system.repository.ProductRepository;
 import com.example.ecommerce_system.repository.ReviewRepository;
+import com.example.ecommerce_system.util.CursorPagination;
+import com.example.ecommerce_system.util.cache.CachedPage;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
 import com.example.ecommerce_system.util.mapper.ReviewMapper;
 import lombok.AllArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @AllArgsConstructor
 public class ReviewService {
+    private static final Sort SCROLL_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("reviewId"));
+    private static final Set<String> SCROLL_KEYS = Set.of("createdAt", "reviewId");
+
     private final ReviewRepository reviewRepository;
     private final ProductRepository productRepository;
     private final CustomerRepository customerRepository;
     private final OrderRepository orderRepository;
 
     private final ReviewMapper reviewMapper;
+    private final PageCacheInvalidator pageCacheInvalidator;
+    private final CustomerIdentityResolver customerIdentityResolver;
 
     /**
      * Create a new review for a product.
      * Validates that the product exists, the customer exists, and the customer has ordered and received (PROCESSED status) the product.
      */
-    @CacheEvict(value = {"reviews", "products", "paginated"}, allEntries = true)
+    @Transactional
     public ReviewResponseDto createReview(UUID productId, UUID userId, ReviewRequestDto request) {
         var product = checkThatProductExists(productId);
-        var customer = checkThatCustomerExists(userId);
+        var identity = customerIdentityResolver.resolve(userId);
 
-        validateCustomerHasProcessedProduct(customer.getCustomerId(), productId);
+        validateCustomerHasProcessedProduct(identity.customerId(), productId);
+        var customer = customerRepository.getReferenceById(identity.customerId());
 
         Review review = Review.builder()
                 .reviewId(UUID.randomUUID())
@@ -55,14 +69,11 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        pageCacheInvalidator.created(EntityType.REVIEW);
+        pageCacheInvalidator.contentChanged(EntityType.PRODUCT, productId);
         return reviewMapper.toDTO(savedReview);
     }
 
-    private Customer checkThatCustomerExists(UUID userId) {
-        return customerRepository.findCustomerByUser_UserId(userId)
-                .orElseThrow(() -> new CustomerNotFoundException(userId.toString()));
-    }
-
     private Product checkThatProductExists(UUID productId) {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException(productId.toString()));
@@ -83,7 +94,8 @@ public class ReviewService {
      * Retrieve paginated reviews for a specific product.
      * Validates product existence before fetching reviews. Each review includes customer details.
      */
-    @Cacheable(value = "paginated", key = "'product_reviews_' + #productId + '_' + #limit + '_' + #offset")
+    @CachedPage(EntityType.REVIEW)
+    @Cacheable(value = "review_pages", key = "'product_reviews_' + #productId + '_' + #limit + '_' + #offset", sync = true)
     public List<ReviewResponseDto> getReviewsByProduct(UUID productId, int limit, int offset) {
         checkThatProductExists(productId);
         PageRequest pageRequest = PageRequest.of(
@@ -95,11 +107,29 @@ public class ReviewService {
         return reviewMapper.toDTOList(reviews);
     }
 
+    /**
+     * Retrieve a product's reviews newest first, seeking past the given cursor.
+     * Uses keyset pagination on (createdAt, reviewId), so no OFFSET scan or COUNT query is issued.
+     */
+    @CachedPage(EntityType.REVIEW)
+    @Cacheable(value = "review_pages", key = "'scroll_product_reviews_' + #productId + '_' + #limit + '_' + #cursor", sync = true)
+    public CursorPageDto<ReviewResponseDto> scrollReviewsByProduct(UUID productId, int limit, String cursor) {
+        checkThatProductExists(productId);
+        Window<Review> window = reviewRepository.findByProduct_ProductId(
+                productId,
+                CursorPagination.decode(cursor, SCROLL_KEYS),
+                SCROLL_SORT,
+                Limit.of(limit)
+        );
+        return CursorPagination.toPage(window, reviewMapper::toDTOList);
+    }
+
     /**
      * Retrieve paginated reviews made by a specific customer.
      * Validates customer existence before fetching reviews.
      */
-    @Cacheable(value = "paginated", key = "'customer_reviews_' + #customerId + '_' + #limit + '_' + #offset")
+    @CachedPage(EntityType.REVIEW)
+    @Cacheable(value = "review_pages", key = "'customer_reviews_' + #customerId + '_' + #limit + '_' + #offset", sync = true)
     public List<ReviewResponseDto> getReviewsByCustomer(UUID customerId, int limit, int offset) {
         var customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> new CustomerNotFoundException(customerId.toString()));
@@ -0,0 +1,93 @@
+package com.example.ecommerce_system.util;
+
+import com.example.ecommerce_system.dto.CursorPageDto;
+import com.example.ecommerce_system.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Converts keyset scroll positions to opaque cursors and back.
+ * A cursor carries the sort key values of the last row returned, so the next page seeks past it
+ * instead of counting and skipping rows with OFFSET.
+ */
+public class CursorPagination {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorPagination() {}
+
+    /**
+     * Decodes a cursor into a forward keyset position, or the first page when no cursor is given.
+     * The cursor must carry exactly the expected sort keys.
+     */
+    public static KeysetScrollPosition decode(String cursor, Set<String> expectedKeys) {
+        if (cursor == null || cursor.isBlank())
+            return ScrollPosition.keyset();
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String payload = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            for (String entry : payload.split(",")) {
+                String[] parts = entry.split("=", 2);
+                keys.put(parts[0], decodeValue(parts[1]));
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor);
+        }
+
+        if (!keys.keySet().equals(expectedKeys))
+            throw new InvalidCursorException(cursor);
+        return ScrollPosition.forward(keys);
+    }
+
+    public static <E, D> CursorPageDto<D> toPage(Window<E> window, Function<List<E>, List<D>> mapper) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encode((KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+
+        return CursorPageDto.<D>builder()
+                .items(mapper.apply(window.getContent()))
+                .nextCursor(nextCursor)
+                .hasMore(nextCursor != null)
+                .build();
+    }
+
+    static String encode(KeysetScrollPosition position) {
+        StringJoiner payload = new StringJoiner(",");
+        position.getKeys().forEach((key, value) -> payload.add(key + "=" + encodeValue(value)));
+        return ENCODER.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String encodeValue(Object value) {
+        String type;
+        if (value instanceof Instant) type = "t";
+        else if (value instanceof UUID) type = "u";
+        else if (value instanceof String) type = "s";
+        else throw new IllegalArgumentException("Unsupported cursor key type: " + value);
+
+        return type + ":" + ENCODER.encodeToString(value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object decodeValue(String encoded) {
+        String value = new String(DECODER.decode(encoded.substring(2)), StandardCharsets.UTF_8);
+        return switch (encoded.substring(0, 2)) {
+            case "t:" -> Instant.parse(value);
+            case "u:" -> UUID.fromString(value);
+            case "s:" -> value;
+            default -> throw new IllegalArgumentException("Unknown cursor key type: " + encoded);
+        };
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.ecommerce_system.util.aspect;
 
+import com.example.ecommerce_system.util.metrics.LatencyRecorder;
+import com.example.ecommerce_system.util.metrics.PayloadSizeEstimator;
+import lombok.AllArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -7,16 +10,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
-import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
 
 @SuppressWarnings("SpellCheckingInspection")
 @Aspect
 @Component
+@AllArgsConstructor
 public class PerformanceAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(PerformanceAspect.class);
 
+    private final PayloadSizeEstimator payloadSizeEstimator;
+    private final LatencyRecorder latencyRecorder;
+
     @Around("within(@org.springframework.web.bind.annotation.RestController *)")
     public Object measureRest(ProceedingJoinPoint joinPoint) throws Throwable {
         return measure(joinPoint, "REST");
@@ -28,38 +34,23 @@ public class PerformanceAspect {
     }
 
     private Object measure(ProceedingJoinPoint joinPoint, String type) throws Throwable {
-        long start = System.currentTimeMillis();
-        long payloadSize = calculatePayloadSize(joinPoint.getArgs());
-
-        Object result = joinPoint.proceed();
-        long duration = System.currentTimeMillis() - start;
+        String operation = joinPoint.getSignature().toShortString();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } finally {
+            latencyRecorder.record(type, operation, System.nanoTime() - start);
+        }
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long payloadSize = payloadSizeEstimator.estimateRequestSize();
 
         logger.info("[{}] {} - Duration: {}ms, Payload Size: {} bytes",
                 type,
-                joinPoint.getSignature().toShortString(),
+                operation,
                 duration,
                 payloadSize);
 
         return result;
     }
-
-    private long calculatePayloadSize(Object[] args) {
-        if (args == null || args.length == 0) {
-            return 0L;
-        }
-
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             ObjectOutputStream oos = new ObjectOutputStream(baos)) {
-            for (Object arg : args) {
-                if (arg != null) {
-                    oos.writeObject(arg);
-                }
-            }
-            oos.flush();
-            return baos.size();
-        } catch (Exception e) {
-            logger.debug("Unable to calculate payload size: {}", e.getMessage());
-            return -1L;
-        }
-    }
 }
@@ -0,0 +1,18 @@
+package com.example.ecommerce_system.util.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the entity type listed by a cached page so that writes can evict only the pages they affect.
+ * Set {@code filtered} for search pages whose membership depends on mutable entity attributes.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedPage {
+    EntityType value();
+
+    boolean filtered() default false;
+}
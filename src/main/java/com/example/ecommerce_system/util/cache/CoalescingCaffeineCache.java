@@ -0,0 +1,248 @@
+package com.example.ecommerce_system.util.cache;
+
+import com.example.ecommerce_system.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.CacheOperationInvoker;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caffeine cache whose misses are single-flight: {@code @Cacheable(sync = true)} loads through
+ * {@link #get(Object, Callable)}, where the first caller for a missing key runs the query and concurrent
+ * callers for the same key wait for its result instead of running their own. Those waiters are counted.
+ * <p>
+ * The load runs outside Caffeine's {@code compute}, which would hold a lock on the key's hash bin for the
+ * whole query: evictions issued after a commit (while the writer still holds its pooled connection) and
+ * loads of unrelated keys sharing the bin would block behind a loader that is itself waiting for a
+ * connection, and the pool deadlocks until its timeout. An eviction that lands while a load is in flight
+ * detaches that load, so its result is handed to the waiting callers but not stored. So does a write of the
+ * key, whose value is newer than anything the load read.
+ * <p>
+ * With a negative TTL, a load that fails with a {@link ResourceNotFoundException} is remembered too:
+ * until the TTL passes, a write to the key or {@link #evictMisses()}, lookups of that key rethrow the
+ * same exception without reaching the database or allocating a new one.
+ */
+public class CoalescingCaffeineCache extends CaffeineCache {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder coalescedWaiters = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final Cache<Object, ValueRetrievalException> misses;
+    private final AtomicLong missGenerations = new AtomicLong();
+
+    public CoalescingCaffeineCache(String name, Cache<Object, Object> cache) {
+        this(name, cache, null);
+    }
+
+    public CoalescingCaffeineCache(String name, Cache<Object, Object> cache, Duration negativeTtl) {
+        super(name, cache, true);
+        this.misses = negativeTtl == null || negativeTtl.isZero()
+                ? null
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(negativeTtl)
+                        .maximumSize(cache.policy().eviction().map(eviction -> eviction.getMaximum()).orElse(10_000L))
+                        .build();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (misses != null) {
+            ValueRetrievalException knownMiss = misses.getIfPresent(key);
+            if (knownMiss != null) {
+                negativeHits.increment();
+                throw knownMiss;
+            }
+        }
+
+        Object stored = lookup(key);
+        if (stored != null)
+            return (T) fromStoreValue(stored);
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, load);
+        if (running != null) {
+            coalescedWaiters.increment();
+            return (T) fromStoreValue(await(running));
+        }
+        Object loadedMeanwhile = getNativeCache().asMap().get(key);
+        if (loadedMeanwhile != null) {
+            inFlight.remove(key, load);
+            load.complete(loadedMeanwhile);
+            return (T) fromStoreValue(loadedMeanwhile);
+        }
+
+        long missGeneration = missGenerations.get();
+        long start = System.nanoTime();
+        try {
+            Object value = toStoreValue(valueLoader.call());
+            store(key, value, load);
+            load.complete(value);
+            return (T) fromStoreValue(value);
+        } catch (Exception ex) {
+            ValueRetrievalException failure = new ValueRetrievalException(key, valueLoader, ex);
+            if (misses != null && isNotFound(failure))
+                rememberMiss(key, failure, load, missGeneration);
+            load.completeExceptionally(failure);
+            throw failure;
+        } finally {
+            inFlight.remove(key, load);
+            if (!load.isDone())
+                load.cancel(false);
+            loads.increment();
+            loadNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        inFlight.remove(key);
+        super.put(key, value);
+        forgetMiss(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        inFlight.remove(key);
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        forgetMiss(key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        inFlight.remove(key);
+        super.evict(key);
+        forgetMiss(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        inFlight.remove(key);
+        forgetMiss(key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        inFlight.clear();
+        super.clear();
+        evictMisses();
+    }
+
+    @Override
+    public boolean invalidate() {
+        inFlight.clear();
+        evictMisses();
+        return super.invalidate();
+    }
+
+    /**
+     * Forget every remembered not-found result, e.g. once a new entity may have taken one of their keys.
+     */
+    public void evictMisses() {
+        missGenerations.incrementAndGet();
+        if (misses != null)
+            misses.invalidateAll();
+    }
+
+    /**
+     * Misses that were answered by a load another caller already had in flight.
+     */
+    public long getCoalescedWaiters() {
+        return coalescedWaiters.sum();
+    }
+
+    /**
+     * Loads run by {@link #get(Object, Callable)}; Caffeine's own load statistics stay empty because the
+     * load does not go through the native cache.
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    public double getAverageLoadNanos() {
+        long count = loads.sum();
+        return count == 0 ? 0.0 : (double) loadNanos.sum() / count;
+    }
+
+    /**
+     * Lookups answered from a remembered not-found result.
+     */
+    public long getNegativeHits() {
+        return negativeHits.sum();
+    }
+
+    public long getNegativeEntryCount() {
+        return misses == null ? 0 : misses.estimatedSize();
+    }
+
+    /**
+     * Stores a loaded value only if its load is still the registered one; an eviction since the load
+     * started has detached it, and its result may predate the write that caused the eviction.
+     */
+    private void store(Object key, Object value, CompletableFuture<Object> load) {
+        inFlight.computeIfPresent(key, (k, registered) -> {
+            if (registered != load)
+                return registered;
+            getNativeCache().put(k, value);
+            return null;
+        });
+    }
+
+    /**
+     * Remembers a not-found result only if nothing invalidated it while the load was running: a write or
+     * eviction of the key detaches the load, and {@link #evictMisses()} starts a new generation. A miss
+     * stored while {@code evictMisses} runs is taken back once the new generation is visible.
+     */
+    private void rememberMiss(Object key, ValueRetrievalException failure, CompletableFuture<Object> load, long generation) {
+        inFlight.computeIfPresent(key, (k, registered) -> {
+            if (registered == load && missGenerations.get() == generation) {
+                misses.put(k, failure);
+                if (missGenerations.get() != generation)
+                    misses.asMap().remove(k, failure);
+            }
+            return registered;
+        });
+    }
+
+    /**
+     * Waits for another caller's load; a failed load rethrows the same exception its loader saw.
+     */
+    private static Object await(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CancellationException | CompletionException e) {
+            if (e.getCause() instanceof ValueRetrievalException failure)
+                throw failure;
+            throw e;
+        }
+    }
+
+    private void forgetMiss(Object key) {
+        if (misses != null)
+            misses.invalidate(key);
+    }
+
+    /**
+     * The cached method's exception arrives wrapped by the cache interceptor's invoker.
+     */
+    private static boolean isNotFound(ValueRetrievalException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof CacheOperationInvoker.ThrowableWrapper wrapper)
+            cause = wrapper.getOriginal();
+        return cause instanceof ResourceNotFoundException;
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.ecommerce_system.util.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * Caffeine cache that remembers which entities and entity types every cached page depends on,
+ * so that a write can evict only the pages it affects instead of clearing the whole region.
+ * <p>
+ * A page's dependencies are registered before it is stored, so that a write committing in between
+ * finds it. That write's eviction forgets the dependencies again; a stored page is only kept if its
+ * dependencies are still registered afterwards, otherwise it is evicted rather than left in the cache
+ * with nothing pointing at it. Loads need no such check, as an eviction detaches an in-flight load
+ * and its page is never stored.
+ */
+public class DependencyTrackingCache extends CoalescingCaffeineCache {
+
+    private final DependencyIndex index;
+
+    private DependencyTrackingCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, DependencyIndex index) {
+        super(name, cache);
+        this.index = index;
+    }
+
+    public static DependencyTrackingCache create(String name, Caffeine<Object, Object> builder) {
+        DependencyIndex index = new DependencyIndex();
+        return new DependencyTrackingCache(
+                name,
+                builder.evictionListener((key, value, cause) -> index.forget(key)).build(),
+                index
+        );
+    }
+
+    /**
+     * Returns a view of this cache that tags every stored page with the given dependencies.
+     */
+    public Cache withDependencies(Set<PageTag> declaredTags) {
+        return new TaggedView(declaredTags);
+    }
+
+    public void evictDependents(Collection<PageTag> tags) {
+        for (Object key : index.keysFor(tags))
+            evict(key);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        put(key, value, Set.of());
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return putIfAbsent(key, value, Set.of());
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        index.forget(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        index.forget(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        index.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        index.clear();
+        return invalidated;
+    }
+
+    private void put(Object key, Object value, Set<PageTag> declaredTags) {
+        Set<PageTag> tags = dependenciesOf(value, declaredTags);
+        index.register(key, tags);
+        super.put(key, value);
+        evictIfForgotten(key, tags);
+    }
+
+    /**
+     * Adds the new value's dependencies to those already registered: if the key is present, the
+     * existing page stays, and over-invalidating it is harmless.
+     */
+    private ValueWrapper putIfAbsent(Object key, Object value, Set<PageTag> declaredTags) {
+        Set<PageTag> tags = dependenciesOf(value, declaredTags);
+        index.add(key, tags);
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        evictIfForgotten(key, tags);
+        return existing;
+    }
+
+    private void evictIfForgotten(Object key, Set<PageTag> tags) {
+        if (!index.holds(key, tags))
+            evict(key);
+    }
+
+    private <T> T get(Object key, Callable<T> valueLoader, Set<PageTag> declaredTags) {
+        return super.get(key, () -> {
+            T value = valueLoader.call();
+            index.register(key, dependenciesOf(value, declaredTags));
+            return value;
+        });
+    }
+
+    private static Set<PageTag> dependenciesOf(Object value, Set<PageTag> declaredTags) {
+        Set<PageTag> tags = PageDependencyExtractor.extract(value);
+        tags.addAll(declaredTags);
+        return tags;
+    }
+
+    private class TaggedView implements Cache {
+        private final Set<PageTag> declaredTags;
+
+        private TaggedView(Set<PageTag> declaredTags) {
+            this.declaredTags = declaredTags;
+        }
+
+        @Override
+        public String getName() {
+            return DependencyTrackingCache.this.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return DependencyTrackingCache.this.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return DependencyTrackingCache.this.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return DependencyTrackingCache.this.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return DependencyTrackingCache.this.get(key, valueLoader, declaredTags);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            DependencyTrackingCache.this.put(key, value, declaredTags);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return DependencyTrackingCache.this.putIfAbsent(key, value, declaredTags);
+        }
+
+        @Override
+        public void evict(Object key) {
+            DependencyTrackingCache.this.evict(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            return DependencyTrackingCache.this.evictIfPresent(key);
+        }
+
+        @Override
+        public void clear() {
+            DependencyTrackingCache.this.clear();
+        }
+
+        @Override
+        public boolean invalidate() {
+            return DependencyTrackingCache.this.invalidate();
+        }
+    }
+
+    /**
+     * Both directions of the key-to-tag mapping, updated together under the index's lock so that a
+     * concurrent register and forget of one key cannot leave it half linked. No cache operation runs
+     * under the lock: Caffeine's eviction listener calls {@link #forget}.
+     */
+    private static class DependencyIndex {
+        private final Map<PageTag, Set<Object>> keysByTag = new HashMap<>();
+        private final Map<Object, Set<PageTag>> tagsByKey = new HashMap<>();
+
+        synchronized void register(Object key, Set<PageTag> tags) {
+            forget(key);
+            add(key, tags);
+        }
+
+        synchronized void add(Object key, Set<PageTag> tags) {
+            tagsByKey.computeIfAbsent(key, k -> new HashSet<>()).addAll(tags);
+            for (PageTag tag : tags)
+                keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key);
+        }
+
+        synchronized boolean holds(Object key, Set<PageTag> tags) {
+            Set<PageTag> registered = tagsByKey.get(key);
+            return registered != null && registered.containsAll(tags);
+        }
+
+        synchronized void forget(Object key) {
+            Set<PageTag> tags = tagsByKey.remove(key);
+            if (tags == null)
+                return;
+            for (PageTag tag : tags) {
+                Set<Object> keys = keysByTag.get(tag);
+                if (keys == null)
+                    continue;
+                keys.remove(key);
+                if (keys.isEmpty())
+                    keysByTag.remove(tag);
+            }
+        }
+
+        synchronized Set<Object> keysFor(Collection<PageTag> tags) {
+            Set<Object> keys = new HashSet<>();
+            for (PageTag tag : tags) {
+                Set<Object> tagged = keysByTag.get(tag);
+                if (tagged != null)
+                    keys.addAll(tagged);
+            }
+            return keys;
+        }
+
+        synchronized void clear() {
+            tagsByKey.clear();
+            keysByTag.clear();
+        }
+    }
+}
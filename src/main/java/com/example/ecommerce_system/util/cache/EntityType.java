@@ -0,0 +1,19 @@
+package com.example.ecommerce_system.util.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Entity types tracked by the page cache, together with the cache holding single entities of that type.
+ */
+@Getter
+@AllArgsConstructor
+public enum EntityType {
+    PRODUCT("products"),
+    CATEGORY("categories"),
+    ORDER("orders"),
+    CUSTOMER("customers"),
+    REVIEW(null);
+
+    private final String entityCacheName;
+}
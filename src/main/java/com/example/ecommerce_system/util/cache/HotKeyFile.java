@@ -0,0 +1,57 @@
+package com.example.ecommerce_system.util.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tab-separated {@code region, key} lines, hottest first within each region.
+ * Written to a sibling file and moved into place, so a crash mid-write keeps the previous snapshot.
+ */
+public class HotKeyFile {
+    private static final String HEADER = "# region\tkey, hottest first";
+
+    private final Path path;
+
+    public HotKeyFile(Path path) {
+        this.path = path;
+    }
+
+    public Map<String, List<String>> read() throws IOException {
+        Map<String, List<String>> keys = new LinkedHashMap<>();
+        if (!Files.exists(path))
+            return keys;
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            int tab = line.indexOf('\t');
+            if (line.startsWith("#") || tab <= 0)
+                continue;
+            keys.computeIfAbsent(line.substring(0, tab), region -> new ArrayList<>()).add(line.substring(tab + 1));
+        }
+        return keys;
+    }
+
+    public void write(Map<String, List<String>> keys) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        keys.forEach((region, regionKeys) -> regionKeys.forEach(key -> lines.add(region + "\t" + key)));
+
+        Path absolute = path.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Keys containing line breaks or tabs cannot be written as one line and are left out of snapshots.
+     */
+    public static boolean canHold(String key) {
+        return key.indexOf('\n') < 0 && key.indexOf('\r') < 0 && key.indexOf('\t') < 0;
+    }
+}
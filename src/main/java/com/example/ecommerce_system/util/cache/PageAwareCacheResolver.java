@@ -0,0 +1,51 @@
+package com.example.ecommerce_system.util.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.SimpleCacheResolver;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves caches as usual, but hands {@link CachedPage} methods a view of dependency-tracking caches
+ * that records the page's declared entity type alongside the entities found in its content.
+ */
+public class PageAwareCacheResolver extends SimpleCacheResolver {
+
+    private final Map<Method, Optional<Set<PageTag>>> declaredTags = new ConcurrentHashMap<>();
+
+    public PageAwareCacheResolver(CacheManager cacheManager) {
+        super(cacheManager);
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        Collection<? extends Cache> caches = super.resolveCaches(context);
+        Optional<Set<PageTag>> tags = declaredTags.computeIfAbsent(context.getMethod(), this::findDeclaredTags);
+        if (tags.isEmpty())
+            return caches;
+
+        return caches.stream()
+                .map(cache -> cache instanceof DependencyTrackingCache tracking
+                        ? tracking.withDependencies(tags.get())
+                        : cache)
+                .collect(Collectors.toList());
+    }
+
+    private Optional<Set<PageTag>> findDeclaredTags(Method method) {
+        CachedPage page = AnnotatedElementUtils.findMergedAnnotation(method, CachedPage.class);
+        if (page == null)
+            return Optional.empty();
+        return Optional.of(page.filtered()
+                ? Set.of(PageTag.type(page.value()), PageTag.filtered(page.value()))
+                : Set.of(PageTag.type(page.value())));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.ecommerce_system.util.cache;
+
+import lombok.AllArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Evicts the cached entities and pages affected by a write. Evictions run after the surrounding
+ * transaction commits so that a concurrent reader cannot re-cache the pre-commit state.
+ */
+@Component
+@AllArgsConstructor
+public class PageCacheInvalidator {
+    private final CacheManager cacheManager;
+
+    /**
+     * A new entity may appear on any page listing its type, and under a key that was remembered as not found.
+     */
+    public void created(EntityType type) {
+        afterCommit(() -> {
+            evictMisses(type);
+            evictPages(List.of(PageTag.type(type)));
+        });
+    }
+
+    /**
+     * Updated entities invalidate their cached copies, the pages showing them and every filtered page of their type.
+     */
+    public void updated(EntityType type, Collection<UUID> ids) {
+        if (ids.isEmpty())
+            return;
+        List<PageTag> tags = new ArrayList<>();
+        tags.add(PageTag.filtered(type));
+        ids.forEach(id -> tags.add(PageTag.entity(type, id)));
+        afterCommit(() -> {
+            evictEntities(type, ids);
+            evictPages(tags);
+        });
+    }
+
+    public void updated(EntityType type, UUID id) {
+        updated(type, List.of(id));
+    }
+
+    public void deleted(EntityType type, UUID id) {
+        afterCommit(() -> {
+            evictEntities(type, List.of(id));
+            evictPages(List.of(PageTag.type(type), PageTag.entity(type, id)));
+        });
+    }
+
+    /**
+     * Evicts only the pages embedding the entity, for changes that do not touch its own attributes.
+     */
+    public void contentChanged(EntityType type, UUID id) {
+        afterCommit(() -> evictPages(List.of(PageTag.entity(type, id))));
+    }
+
+    private void evictEntities(EntityType type, Collection<UUID> ids) {
+        if (type.getEntityCacheName() == null)
+            return;
+        Cache cache = cacheManager.getCache(type.getEntityCacheName());
+        if (cache != null)
+            ids.forEach(cache::evict);
+    }
+
+    private void evictMisses(EntityType type) {
+        if (type.getEntityCacheName() != null
+                && cacheManager.getCache(type.getEntityCacheName()) instanceof CoalescingCaffeineCache cache)
+            cache.evictMisses();
+    }
+
+    private void evictPages(Collection<PageTag> tags) {
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof DependencyTrackingCache cache)
+                cache.evictDependents(tags);
+        }
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.ecommerce_system.util.cache;
+
+import com.example.ecommerce_system.dto.CursorPageDto;
+import com.example.ecommerce_system.dto.category.CategoryResponseDto;
+import com.example.ecommerce_system.dto.customer.CustomerResponseDto;
+import com.example.ecommerce_system.dto.orders.OrderItemDto;
+import com.example.ecommerce_system.dto.orders.OrderResponseDto;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.dto.product.ProductWithReviewsDto;
+import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Collects the entities referenced by a cached page from the DTOs it contains.
+ */
+public class PageDependencyExtractor {
+
+    private PageDependencyExtractor() {}
+
+    public static Set<PageTag> extract(Object value) {
+        Set<PageTag> tags = new HashSet<>();
+        if (value instanceof CursorPageDto<?> page)
+            value = page.getItems();
+        if (value instanceof Collection<?> elements) {
+            for (Object element : elements)
+                addElement(tags, element);
+        } else {
+            addElement(tags, value);
+        }
+        return tags;
+    }
+
+    private static void addElement(Set<PageTag> tags, Object element) {
+        if (element instanceof ProductResponseDto product) {
+            add(tags, EntityType.PRODUCT, product.getProductId());
+            add(tags, EntityType.CATEGORY, product.getCategoryId());
+            if (product.getReviews() != null)
+                product.getReviews().forEach(review -> addElement(tags, review));
+        } else if (element instanceof ProductWithReviewsDto product) {
+            add(tags, EntityType.PRODUCT, product.getProductId());
+            add(tags, EntityType.CATEGORY, product.getCategoryId());
+            if (product.getCategory() != null)
+                addElement(tags, product.getCategory());
+            if (product.getReviews() != null)
+                product.getReviews().forEach(review -> addElement(tags, review));
+        } else if (element instanceof OrderResponseDto order) {
+            add(tags, EntityType.ORDER, order.getOrderId());
+            if (order.getItems() != null)
+                for (OrderItemDto item : order.getItems())
+                    add(tags, EntityType.PRODUCT, item.getProductId());
+        } else if (element instanceof ReviewResponseDto review) {
+            add(tags, EntityType.PRODUCT, review.getProductId());
+            add(tags, EntityType.CUSTOMER, review.getCustomerId());
+            if (review.getCustomer() != null)
+                addElement(tags, review.getCustomer());
+        } else if (element instanceof CategoryResponseDto category) {
+            add(tags, EntityType.CATEGORY, category.getCategoryId());
+        } else if (element instanceof CustomerResponseDto customer) {
+            add(tags, EntityType.CUSTOMER, customer.getCustomerId());
+        }
+    }
+
+    private static void add(Set<PageTag> tags, EntityType type, UUID id) {
+        if (id != null)
+            tags.add(PageTag.entity(type, id));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.ecommerce_system.util.cache;
+
+import java.util.List;
+
+/**
+ * Cache key for a page query: the method name plus its arguments, with filters replaced by their
+ * value snapshots. Equal queries produce equal keys however the filter objects were built.
+ */
+public record PageKey(String method, List<Object> arguments) {
+}
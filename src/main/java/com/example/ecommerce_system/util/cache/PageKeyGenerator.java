@@ -0,0 +1,38 @@
+package com.example.ecommerce_system.util.cache;
+
+import com.example.ecommerce_system.dto.category.CategoryFilter;
+import com.example.ecommerce_system.dto.orders.OrderFilter;
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Builds {@link PageKey}s for filter-based page queries, referenced as
+ * {@code @Cacheable(keyGenerator = "pageKeyGenerator")}. Filters are mutable beans without
+ * value equality, so they are replaced by their immutable {@code cacheKey()} snapshots.
+ */
+@Component("pageKeyGenerator")
+public class PageKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        Object[] arguments = new Object[params.length];
+        for (int i = 0; i < params.length; i++)
+            arguments[i] = canonical(params[i]);
+        return new PageKey(method.getName(), Collections.unmodifiableList(Arrays.asList(arguments)));
+    }
+
+    private static Object canonical(Object argument) {
+        if (argument instanceof ProductFilter filter)
+            return filter.cacheKey();
+        if (argument instanceof OrderFilter filter)
+            return filter.cacheKey();
+        if (argument instanceof CategoryFilter filter)
+            return filter.cacheKey();
+        return argument;
+    }
+}
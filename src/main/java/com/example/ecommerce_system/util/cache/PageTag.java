@@ -0,0 +1,24 @@
+package com.example.ecommerce_system.util.cache;
+
+import java.util.UUID;
+
+/**
+ * Dependency recorded for a cached page.
+ * A type tag marks pages whose membership changes when entities are created or deleted,
+ * a filtered tag marks search pages whose membership may change on any update,
+ * and an entity tag marks pages containing that particular entity.
+ */
+public record PageTag(EntityType type, UUID entityId, boolean filtered) {
+
+    public static PageTag type(EntityType type) {
+        return new PageTag(type, null, false);
+    }
+
+    public static PageTag filtered(EntityType type) {
+        return new PageTag(type, null, true);
+    }
+
+    public static PageTag entity(EntityType type, UUID entityId) {
+        return new PageTag(type, entityId, false);
+    }
+}
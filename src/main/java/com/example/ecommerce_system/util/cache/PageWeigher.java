@@ -0,0 +1,92 @@
+package com.example.ecommerce_system.util.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Estimates the retained bytes of a cached page so regions can be bounded by memory rather than entry count.
+ * The estimate walks the DTO graph with approximate JVM object sizes; it is meant for relative sizing, not accounting.
+ */
+public class PageWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int MAX_DEPTH = 6;
+
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()))
+                        continue;
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return fields;
+        }
+    };
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = estimate(key, 0) + estimate(value, 0);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, bytes));
+    }
+
+    static long estimate(Object value, int depth) {
+        if (value == null)
+            return 0;
+        if (value instanceof CharSequence text)
+            return 40L + text.length();
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum<?>)
+            return OBJECT_HEADER;
+        if (value instanceof UUID)
+            return 32;
+        if (value instanceof Temporal)
+            return 24;
+        if (depth >= MAX_DEPTH)
+            return OBJECT_HEADER;
+        if (value instanceof Collection<?> elements) {
+            long bytes = OBJECT_HEADER + 16L + (long) REFERENCE * elements.size();
+            for (Object element : elements)
+                bytes += estimate(element, depth + 1);
+            return bytes;
+        }
+        if (value instanceof Map<?, ?> entries) {
+            long bytes = OBJECT_HEADER + 32L * entries.size();
+            for (Map.Entry<?, ?> entry : entries.entrySet())
+                bytes += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            return bytes;
+        }
+        if (value.getClass().getModule().isNamed())
+            return OBJECT_HEADER * 2;
+        return estimateFields(value, depth);
+    }
+
+    private static long estimateFields(Object value, int depth) {
+        long bytes = OBJECT_HEADER;
+        for (Field field : FIELDS.get(value.getClass())) {
+            if (field.getType().isPrimitive()) {
+                bytes += 8;
+                continue;
+            }
+            bytes += REFERENCE;
+            try {
+                bytes += estimate(field.get(value), depth + 1);
+            } catch (IllegalAccessException e) {
+                bytes += OBJECT_HEADER;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.ecommerce_system.util.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single-flight cache that reloads entries in the background instead of letting them expire under readers.
+ * A read of an entry older than {@code refreshAfter} returns the cached value at once and hands the
+ * caller's loader to {@code refreshExecutor}. Past {@code staleAfter} (the region's TTL) the value is
+ * stale but still served while it revalidates. The native cache's {@code expireAfterWrite} is the hard
+ * ceiling: if refreshes keep failing, the last good value lives until then and the next miss loads inline.
+ * <p>
+ * The loader is the intercepted service call, which on the refresh thread has neither the caller's
+ * request-scoped session nor its transaction, so it runs inside {@code refreshTransaction}: entities
+ * it loads stay attached while their lazy associations are mapped.
+ */
+public class RefreshAheadCache extends CoalescingCaffeineCache {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+    private final Duration refreshAfter;
+    private final Duration staleAfter;
+    private final Executor refreshExecutor;
+    private final TransactionOperations refreshTransaction;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+
+    public RefreshAheadCache(String name, Cache<Object, Object> cache, Duration refreshAfter,
+                             Duration staleAfter, Duration negativeTtl, Executor refreshExecutor,
+                             TransactionOperations refreshTransaction) {
+        super(name, cache, negativeTtl);
+        this.refreshAfter = refreshAfter;
+        this.staleAfter = staleAfter;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshTransaction = refreshTransaction;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Duration age = ageOf(key).orElse(null);
+        if (age == null || age.compareTo(refreshAfter) < 0)
+            return super.get(key, valueLoader);
+
+        Object current = getNativeCache().getIfPresent(key);
+        if (current == null)
+            return super.get(key, valueLoader);
+
+        if (age.compareTo(staleAfter) >= 0)
+            staleHits.increment();
+        scheduleRefresh(key, current, valueLoader);
+        return (T) fromStoreValue(current);
+    }
+
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    /**
+     * Reads answered with a value already past the region's TTL while a refresh was pending.
+     */
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
+    private Optional<Duration> ageOf(Object key) {
+        return getNativeCache().policy().expireAfterWrite().flatMap(expiration -> expiration.ageOf(key));
+    }
+
+    /**
+     * Runs at most one refresh per key. The result only replaces the exact value that was served,
+     * so a refresh that races an eviction cannot put data read before the write back into the cache.
+     */
+    private void scheduleRefresh(Object key, Object current, Callable<?> valueLoader) {
+        if (!refreshing.add(key))
+            return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object fresh = toStoreValue(refreshTransaction.execute(status -> load(key, valueLoader)));
+                    if (getNativeCache().asMap().replace(key, current, fresh))
+                        refreshes.increment();
+                } catch (Exception e) {
+                    refreshFailures.increment();
+                    logger.warn("[cache] Refresh of '{}' key {} failed, keeping the last good value: {}",
+                            getName(), key, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private static Object load(Object key, Callable<?> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+}
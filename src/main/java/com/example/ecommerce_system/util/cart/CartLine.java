@@ -0,0 +1,14 @@
+package com.example.ecommerce_system.util.cart;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable view of one buffered cart item.
+ */
+public record CartLine(UUID cartItemId, UUID cartId, UUID productId, int quantity, Instant addedAt) {
+
+    static CartLine of(CartState cart, CartState.Item item) {
+        return new CartLine(item.cartItemId, cart.cartId, item.productId, item.quantity, item.addedAt);
+    }
+}
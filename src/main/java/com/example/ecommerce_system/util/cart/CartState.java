@@ -0,0 +1,172 @@
+package com.example.ecommerce_system.util.cart;
+
+import com.example.ecommerce_system.repository.CartBatchRepository.CartItemRow;
+import com.example.ecommerce_system.repository.CartBatchRepository.CartRow;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One customer's cart as held by {@link WriteBehindCartStore}. Each row remembers whether it
+ * already exists in the database and whether it changed since the last flush. A cart that does not
+ * exist yet stays clean until its first change, so one that is only viewed is never written and can
+ * be evicted once idle. Guarded by the store's lock stripe for the owning user.
+ */
+final class CartState {
+    final UUID userId;
+    final UUID customerId;
+    final UUID cartId;
+    final Instant createdAt;
+    final Map<UUID, Item> items = new LinkedHashMap<>();
+    final Set<UUID> removedItemIds = new LinkedHashSet<>();
+
+    boolean cartPersisted;
+    boolean cartDirty;
+    Instant updatedAt;
+    int failedFlushes;
+    long lastAccessNanos = System.nanoTime();
+
+    CartState(UUID userId, UUID customerId, UUID cartId, Instant createdAt, Instant updatedAt, boolean persisted) {
+        this.userId = userId;
+        this.customerId = customerId;
+        this.cartId = cartId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.cartPersisted = persisted;
+    }
+
+    static final class Item {
+        final UUID cartItemId;
+        final UUID productId;
+        final Instant addedAt;
+        int quantity;
+        boolean persisted;
+        boolean dirty;
+
+        Item(UUID cartItemId, UUID productId, int quantity, Instant addedAt, boolean persisted) {
+            this.cartItemId = cartItemId;
+            this.productId = productId;
+            this.quantity = quantity;
+            this.addedAt = addedAt;
+            this.persisted = persisted;
+            this.dirty = !persisted;
+        }
+
+        CartItemRow toRow(UUID cartId) {
+            return new CartItemRow(cartItemId, cartId, productId, quantity, addedAt);
+        }
+    }
+
+    Item add(UUID productId, int quantity, Instant now) {
+        Item item = new Item(UUID.randomUUID(), productId, quantity, now, false);
+        items.put(item.cartItemId, item);
+        touch(now);
+        return item;
+    }
+
+    void updateQuantity(Item item, int quantity, Instant now) {
+        item.quantity = quantity;
+        item.dirty = true;
+        touch(now);
+    }
+
+    void remove(Item item, Instant now) {
+        items.remove(item.cartItemId);
+        if (item.persisted)
+            removedItemIds.add(item.cartItemId);
+        touch(now);
+    }
+
+    boolean isDirty() {
+        return cartDirty || !removedItemIds.isEmpty() || items.values().stream().anyMatch(item -> item.dirty);
+    }
+
+    int pendingChanges() {
+        int changes = (cartDirty ? 1 : 0) + removedItemIds.size();
+        for (Item item : items.values()) {
+            if (item.dirty)
+                changes++;
+        }
+        return changes;
+    }
+
+    /**
+     * Takes the pending changes and marks them clean and persisted up front, so edits made while
+     * the flush is in flight are queued against the rows it is about to write.
+     * {@link Changes#restore} puts them back if the flush fails.
+     */
+    Changes drain() {
+        Changes changes = new Changes(this);
+        if (cartDirty) {
+            CartRow row = new CartRow(cartId, customerId, createdAt, updatedAt);
+            (cartPersisted ? changes.touchedCarts : changes.newCarts).add(row);
+            cartPersisted = true;
+            cartDirty = false;
+        }
+        for (Item item : items.values()) {
+            if (!item.dirty)
+                continue;
+            (item.persisted ? changes.changedItems : changes.newItems).add(item.toRow(cartId));
+            item.persisted = true;
+            item.dirty = false;
+        }
+        changes.removedItemIds.addAll(removedItemIds);
+        removedItemIds.clear();
+        return changes;
+    }
+
+    private void touch(Instant now) {
+        updatedAt = now;
+        cartDirty = true;
+        lastAccessNanos = System.nanoTime();
+    }
+
+    static final class Changes {
+        final CartState cart;
+        final List<CartRow> newCarts = new ArrayList<>(1);
+        final List<CartRow> touchedCarts = new ArrayList<>(1);
+        final List<CartItemRow> newItems = new ArrayList<>();
+        final List<CartItemRow> changedItems = new ArrayList<>();
+        final List<UUID> removedItemIds = new ArrayList<>();
+
+        private Changes(CartState cart) {
+            this.cart = cart;
+        }
+
+        int rows() {
+            return newCarts.size() + touchedCarts.size() + newItems.size() + changedItems.size() + removedItemIds.size();
+        }
+
+        /**
+         * Re-marks the drained rows as pending after a failed flush. Rows edited or removed in the
+         * meantime keep their newer state; a removal queued against a row that was never written
+         * is harmless.
+         */
+        void restore() {
+            if (!newCarts.isEmpty())
+                cart.cartPersisted = false;
+            if (rows() > 0)
+                cart.cartDirty = true;
+            restoreItems(newItems, false);
+            restoreItems(changedItems, true);
+            cart.removedItemIds.addAll(removedItemIds);
+        }
+
+        private void restoreItems(Collection<CartItemRow> rows, boolean persisted) {
+            for (CartItemRow row : rows) {
+                Item item = cart.items.get(row.cartItemId());
+                if (item == null)
+                    continue;
+                item.persisted = persisted;
+                item.dirty = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.example.ecommerce_system.util.cart;
+
+import com.example.ecommerce_system.config.CartWriteBehindProperties;
+import com.example.ecommerce_system.dto.metrics.CartStoreStats;
+import com.example.ecommerce_system.dto.customer.CustomerIdentity;
+import com.example.ecommerce_system.model.Cart;
+import com.example.ecommerce_system.model.CartItem;
+import com.example.ecommerce_system.repository.CartRepository;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
+import com.example.ecommerce_system.util.metrics.LatencyRecorder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Write-behind store for shopping carts. Carts are loaded once per user and then read and
+ * modified in memory under a lock stripe chosen by user id; changed carts are queued and written
+ * to {@code cart}/{@code cart_item} in batched JDBC statements on a fixed delay, on demand and
+ * on shutdown. Flushes run one at a time in their own transaction.
+ */
+@Component
+public class WriteBehindCartStore {
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindCartStore.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final CartRepository cartRepository;
+    private final CustomerIdentityResolver customerIdentityResolver;
+    private final LatencyRecorder latencyRecorder;
+    private final CartWriteBehindProperties properties;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate flushTransaction;
+
+    private final Map<UUID, CartState> carts = new ConcurrentHashMap<>();
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock[] stripes;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicLong flushedCarts = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong lostCarts = new AtomicLong();
+    private final AtomicLong lostWrites = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    public WriteBehindCartStore(
+            CartRepository cartRepository,
+            CustomerIdentityResolver customerIdentityResolver,
+            LatencyRecorder latencyRecorder,
+            CartWriteBehindProperties properties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.cartRepository = cartRepository;
+        this.customerIdentityResolver = customerIdentityResolver;
+        this.latencyRecorder = latencyRecorder;
+        this.properties = properties;
+
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.stripes = new ReentrantLock[Integer.highestOneBit(Math.max(1, properties.getLockStripes() - 1)) << 1];
+        for (int i = 0; i < stripes.length; i++)
+            stripes[i] = new ReentrantLock();
+    }
+
+    public List<CartLine> lines(UUID userId) {
+        return withCart(userId, cart -> cart.items.values().stream()
+                .map(item -> CartLine.of(cart, item))
+                .toList());
+    }
+
+    public CartLine add(UUID userId, UUID productId, int quantity) {
+        return withCart(userId, cart -> {
+            CartState.Item item = cart.add(productId, quantity, Instant.now());
+            pending.add(userId);
+            return CartLine.of(cart, item);
+        });
+    }
+
+    /**
+     * Changes the quantity of an item in the user's cart; empty when the cart has no such item.
+     */
+    public Optional<CartLine> updateQuantity(UUID userId, UUID cartItemId, int quantity) {
+        return withCart(userId, cart -> {
+            CartState.Item item = cart.items.get(cartItemId);
+            if (item == null)
+                return Optional.empty();
+            cart.updateQuantity(item, quantity, Instant.now());
+            pending.add(userId);
+            return Optional.of(CartLine.of(cart, item));
+        });
+    }
+
+    /**
+     * Removes an item from the user's cart; false when the cart has no such item.
+     */
+    public boolean remove(UUID userId, UUID cartItemId) {
+        return withCart(userId, cart -> {
+            CartState.Item item = cart.items.get(cartItemId);
+            if (item == null)
+                return false;
+            cart.remove(item, Instant.now());
+            pending.add(userId);
+            return true;
+        });
+    }
+
+    /**
+     * Whether the item is in any customer's cart. Carts held in memory answer first, since their
+     * added and removed items may not have reached the database yet; other items are checked with {@code persisted}.
+     */
+    public boolean itemExists(UUID cartItemId, Predicate<UUID> persisted) {
+        for (CartState cart : carts.values()) {
+            ReentrantLock lock = stripe(cart.userId);
+            lock.lock();
+            try {
+                if (cart.items.containsKey(cartItemId))
+                    return true;
+                if (cart.removedItemIds.contains(cartItemId))
+                    return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return persisted.test(cartItemId);
+    }
+
+    @Scheduled(fixedDelayString = "${cart.write-behind.flush-interval:2s}", initialDelayString = "${cart.write-behind.flush-interval:2s}")
+    public void flushPending() {
+        if (!pending.isEmpty())
+            flush(List.copyOf(pending));
+
+        flushLock.lock();
+        try {
+            evictIdle();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushPending();
+        for (UUID userId : List.copyOf(pending)) {
+            CartState cart = carts.remove(userId);
+            if (cart != null)
+                recordLost(cart, "shutdown");
+        }
+    }
+
+    public CartStoreStats stats() {
+        int pendingChanges = 0;
+        for (UUID userId : List.copyOf(pending)) {
+            ReentrantLock lock = stripe(userId);
+            lock.lock();
+            try {
+                CartState cart = carts.get(userId);
+                if (cart != null)
+                    pendingChanges += cart.pendingChanges();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return CartStoreStats.builder()
+                .cachedCarts(carts.size())
+                .pendingCarts(pending.size())
+                .pendingChanges(pendingChanges)
+                .flushes(flushes.get())
+                .failedFlushes(failedFlushes.get())
+                .flushedCarts(flushedCarts.get())
+                .flushedRows(flushedRows.get())
+                .lostCarts(lostCarts.get())
+                .lostWrites(lostWrites.get())
+                .lastFlushMs(lastFlushNanos.get() / NANOS_PER_MILLI)
+                .maxFlushMs(maxFlushNanos.get() / NANOS_PER_MILLI)
+                .build();
+    }
+
+    private <T> T withCart(UUID userId, Function<CartState, T> action) {
+        ReentrantLock lock = stripe(userId);
+        lock.lock();
+        try {
+            CartState cart = carts.get(userId);
+            if (cart == null) {
+                cart = load(userId);
+                carts.put(userId, cart);
+            }
+            cart.lastAccessNanos = System.nanoTime();
+            return action.apply(cart);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CartState load(UUID userId) {
+        CustomerIdentity identity = customerIdentityResolver.resolve(userId);
+        return readTransaction.execute(status -> {
+            Optional<Cart> existing = identity.cartId() != null
+                    ? cartRepository.findById(identity.cartId())
+                    : Optional.empty();
+            if (existing.isEmpty()) {
+                Instant now = Instant.now();
+                return new CartState(userId, identity.customerId(), UUID.randomUUID(), now, now, false);
+            }
+
+            Cart cart = existing.get();
+            CartState state = new CartState(userId, identity.customerId(), cart.getCartId(),
+                    cart.getCreatedAt(), cart.getUpdatedAt(), true);
+            for (CartItem item : cart.getCartItems()) {
+                state.items.put(item.getCartItemId(), new CartState.Item(item.getCartItemId(),
+                        item.getProduct().getProductId(), item.getQuantity(), item.getAddedAt(), true));
+            }
+            return state;
+        });
+    }
+
+    private void flush(List<UUID> userIds) {
+        flushLock.lock();
+        try {
+            List<CartState.Changes> batch = new ArrayList<>();
+            for (UUID userId : userIds) {
+                ReentrantLock lock = stripe(userId);
+                lock.lock();
+                try {
+                    pending.remove(userId);
+                    CartState cart = carts.get(userId);
+                    if (cart != null && cart.isDirty())
+                        batch.add(cart.drain());
+                } finally {
+                    lock.unlock();
+                }
+            }
+            if (batch.isEmpty())
+                return;
+
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                failedFlushes.incrementAndGet();
+                logger.warn("[cart] batched flush of {} carts failed, retrying one cart at a time: {}", batch.size(), e.getMessage());
+                for (CartState.Changes changes : batch)
+                    retryAlone(changes);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void retryAlone(CartState.Changes changes) {
+        try {
+            write(List.of(changes));
+        } catch (RuntimeException e) {
+            failedFlushes.incrementAndGet();
+            restore(changes, e);
+        }
+    }
+
+    private void write(List<CartState.Changes> batch) {
+        long start = System.nanoTime();
+        flushTransaction.executeWithoutResult(status -> cartRepository.writeCartChanges(
+                batch.stream().flatMap(changes -> changes.newCarts.stream()).toList(),
+                batch.stream().flatMap(changes -> changes.touchedCarts.stream()).toList(),
+                batch.stream().flatMap(changes -> changes.newItems.stream()).toList(),
+                batch.stream().flatMap(changes -> changes.changedItems.stream()).toList(),
+                batch.stream().flatMap(changes -> changes.removedItemIds.stream()).toList()
+        ));
+        long elapsed = System.nanoTime() - start;
+
+        flushes.incrementAndGet();
+        flushedCarts.addAndGet(batch.size());
+        flushedRows.addAndGet(batch.stream().mapToInt(CartState.Changes::rows).sum());
+        lastFlushNanos.set(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        latencyRecorder.record("CART", "flush", elapsed);
+
+        for (CartState.Changes changes : batch) {
+            changes.cart.failedFlushes = 0;
+            if (!changes.newCarts.isEmpty())
+                customerIdentityResolver.evict(changes.cart.userId);
+        }
+    }
+
+    private void restore(CartState.Changes changes, RuntimeException cause) {
+        CartState cart = changes.cart;
+        ReentrantLock lock = stripe(cart.userId);
+        lock.lock();
+        try {
+            changes.restore();
+            if (++cart.failedFlushes < properties.getMaxAttempts()) {
+                pending.add(cart.userId);
+                logger.warn("[cart] flush of cart {} failed (attempt {}): {}", cart.cartId, cart.failedFlushes, cause.getMessage());
+                return;
+            }
+            carts.remove(cart.userId, cart);
+            pending.remove(cart.userId);
+            recordLost(cart, cause.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordLost(CartState cart, String reason) {
+        int changes = cart.pendingChanges();
+        lostCarts.incrementAndGet();
+        lostWrites.addAndGet(changes);
+        logger.error("[cart] dropped {} unflushed changes of cart {}: {}", changes, cart.cartId, reason);
+    }
+
+    /**
+     * Drops clean carts nobody touched for the idle period. Runs under the flush lock so a cart
+     * whose changes are in flight is never released before the flush outcome is known.
+     */
+    private void evictIdle() {
+        long idleNanos = properties.getIdleEviction().toNanos();
+        long now = System.nanoTime();
+        for (CartState cart : carts.values()) {
+            if (now - cart.lastAccessNanos < idleNanos)
+                continue;
+            ReentrantLock lock = stripe(cart.userId);
+            lock.lock();
+            try {
+                if (!cart.isDirty() && now - cart.lastAccessNanos >= idleNanos)
+                    carts.remove(cart.userId, cart);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private ReentrantLock stripe(UUID userId) {
+        int hash = userId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+}
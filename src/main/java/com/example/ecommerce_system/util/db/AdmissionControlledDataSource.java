@@ -0,0 +1,72 @@
+package com.example.ecommerce_system.util.db;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands out connections only after {@link DbAdmissionLimiter} admits the caller; the permit is
+ * returned when the connection is closed.
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+    private final DbAdmissionLimiter limiter;
+
+    public AdmissionControlledDataSource(DataSource target, DbAdmissionLimiter limiter) {
+        super(target);
+        this.limiter = limiter;
+    }
+
+    public DbAdmissionLimiter limiter() {
+        return limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        limiter.acquire();
+        try {
+            return admitted(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        limiter.acquire();
+        try {
+            return admitted(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    private Connection admitted(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close")) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true))
+                                limiter.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
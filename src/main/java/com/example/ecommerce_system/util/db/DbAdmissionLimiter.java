@@ -0,0 +1,90 @@
+package com.example.ecommerce_system.util.db;
+
+import com.example.ecommerce_system.config.DbAdmissionProperties;
+import com.example.ecommerce_system.dto.metrics.DbAdmissionStats;
+import com.example.ecommerce_system.util.metrics.LatencyRecorder;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fair semaphore sized to the connection pool. Callers that would otherwise block inside the pool
+ * queue here instead, in arrival order, and the time they spend queued is recorded as
+ * {@code DB/admission-wait} in the rolling latency histograms.
+ */
+public class DbAdmissionLimiter {
+    private final int permits;
+    private final long maxWaitNanos;
+    private final Semaphore semaphore;
+    private final ObjectProvider<LatencyRecorder> latencyRecorder;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong maxWaitObservedNanos = new AtomicLong();
+
+    public DbAdmissionLimiter(int poolSize, DbAdmissionProperties properties, ObjectProvider<LatencyRecorder> latencyRecorder) {
+        this.permits = properties.getPermits() > 0 ? properties.getPermits() : poolSize;
+        this.maxWaitNanos = properties.getMaxWait().toNanos();
+        this.semaphore = new Semaphore(permits, true);
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    /**
+     * Takes a permit, waiting up to the configured limit. Every successful call must be paired
+     * with {@link #release()}.
+     */
+    public void acquire() throws SQLTransientConnectionException {
+        if (semaphore.tryAcquire()) {
+            admitted.incrementAndGet();
+            return;
+        }
+
+        queued.incrementAndGet();
+        waiting.incrementAndGet();
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        long waited = System.nanoTime() - start;
+        maxWaitObservedNanos.accumulateAndGet(waited, Math::max);
+        LatencyRecorder recorder = latencyRecorder.getIfAvailable();
+        if (recorder != null)
+            recorder.record("DB", "admission-wait", waited);
+
+        if (!acquired) {
+            timedOut.incrementAndGet();
+            throw new SQLTransientConnectionException("No database connection admitted within "
+                    + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + "ms (" + permits + " permits in use)");
+        }
+        admitted.incrementAndGet();
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public DbAdmissionStats stats() {
+        return DbAdmissionStats.builder()
+                .permits(permits)
+                .inUse(permits - semaphore.availablePermits())
+                .waiting(waiting.get())
+                .admitted(admitted.get())
+                .queued(queued.get())
+                .timedOut(timedOut.get())
+                .maxWaitMs(maxWaitObservedNanos.get() / 1_000_000.0)
+                .build();
+    }
+}
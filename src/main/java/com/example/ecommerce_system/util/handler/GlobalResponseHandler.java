@@ -1,6 +1,7 @@
 package com.example.ecommerce_system.util.handler;
 
 import com.example.ecommerce_system.dto.ErrorResponseDto;
+import com.example.ecommerce_system.exception.InvalidCursorException;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -84,6 +85,14 @@ public class GlobalResponseHandler {
                 exception.getClass().getSimpleName());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponseDto<String>> handleInvalidCursor(InvalidCursorException exception) {
+        return ErrorResponseHandler.generateErrorMessage(
+                HttpStatus.BAD_REQUEST,
+                exception.getMessage(),
+                exception.getClass().getSimpleName());
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponseDto<String>> handleHttpMessageNotReadable(
             HttpMessageNotReadableException exception
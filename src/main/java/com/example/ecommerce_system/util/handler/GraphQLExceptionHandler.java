@@ -1,5 +1,6 @@
 package com.example.ecommerce_system.util.handler;
 
+import com.example.ecommerce_system.exception.InvalidCursorException;
 import com.example.ecommerce_system.exception.cart.*;
 import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
 import com.example.ecommerce_system.exception.order.InvalidOrderStatusException;
@@ -7,6 +8,7 @@ import com.example.ecommerce_system.exception.order.OrderCreationException;
 import com.example.ecommerce_system.exception.order.OrderDoesNotExist;
 import com.example.ecommerce_system.exception.order.OrderRetrievalException;
 import com.example.ecommerce_system.exception.order.OrderUpdateException;
+import com.example.ecommerce_system.exception.order.UnavailableOrderItemsException;
 import com.example.ecommerce_system.exception.product.InsufficientProductStock;
 import com.example.ecommerce_system.exception.product.ProductNotFoundException;
 import graphql.GraphQLError;
@@ -27,7 +29,9 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
             Map.entry(OrderDoesNotExist.class, ErrorType.NOT_FOUND),
             Map.entry(InsufficientProductStock.class, ErrorType.BAD_REQUEST),
             Map.entry(InvalidOrderStatusException.class, ErrorType.BAD_REQUEST),
+            Map.entry(UnavailableOrderItemsException.class, ErrorType.BAD_REQUEST),
             Map.entry(IllegalArgumentException.class, ErrorType.BAD_REQUEST),
+            Map.entry(InvalidCursorException.class, ErrorType.BAD_REQUEST),
             Map.entry(OrderCreationException.class, ErrorType.INTERNAL_ERROR),
             Map.entry(OrderUpdateException.class, ErrorType.INTERNAL_ERROR),
             Map.entry(OrderRetrievalException.class, ErrorType.INTERNAL_ERROR),
@@ -7,6 +7,7 @@ import com.example.ecommerce_system.exception.order.OrderDoesNotExist;
 import com.example.ecommerce_system.exception.order.OrderRetrievalException;
 import com.example.ecommerce_system.exception.order.OrderUpdateException;
 import com.example.ecommerce_system.exception.order.InvalidOrderStatusException;
+import com.example.ecommerce_system.exception.order.UnavailableOrderItemsException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -64,4 +65,14 @@ public class OrderResponseHandler {
                 exception.getMessage(),
                 exception.getClass().getSimpleName());
     }
+
+    @ExceptionHandler(UnavailableOrderItemsException.class)
+    public ResponseEntity<ErrorResponseDto<String>> handleUnavailableOrderItems(
+            UnavailableOrderItemsException exception
+    ) {
+        return ErrorResponseHandler.generateErrorMessage(
+                HttpStatus.CONFLICT,
+                exception.getMessage(),
+                exception.getClass().getSimpleName());
+    }
 }
@@ -4,6 +4,7 @@ import com.example.ecommerce_system.dto.ErrorResponseDto;
 import com.example.ecommerce_system.exception.product.DeleteProductException;
 import com.example.ecommerce_system.exception.product.InsufficientProductStock;
 import com.example.ecommerce_system.exception.product.ProductCreationException;
+import com.example.ecommerce_system.exception.product.ProductImportException;
 import com.example.ecommerce_system.exception.product.ProductNotFoundException;
 import com.example.ecommerce_system.exception.product.ProductRetrievalException;
 import com.example.ecommerce_system.exception.product.ProductSearchException;
@@ -32,6 +33,14 @@ public class ProductResponseHandler {
                 exception.getClass().getSimpleName());
     }
 
+    @ExceptionHandler(ProductImportException.class)
+    public ResponseEntity<ErrorResponseDto<String>> handleProductImport(ProductImportException exception) {
+        return ErrorResponseHandler.generateErrorMessage(
+                HttpStatus.BAD_REQUEST,
+                exception.getMessage(),
+                exception.getClass().getSimpleName());
+    }
+
     @ExceptionHandler(ProductUpdateException.class)
     public ResponseEntity<ErrorResponseDto<String>> handleProductUpdate(ProductUpdateException exception) {
         return ErrorResponseHandler.generateErrorMessage(
@@ -0,0 +1,97 @@
+package com.example.ecommerce_system.util.identity;
+
+import com.example.ecommerce_system.dto.customer.CustomerIdentity;
+import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
+import com.example.ecommerce_system.repository.CustomerRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves a user id to the caller's customer identity. The mapping is memoized on the current
+ * request and cached across requests in the {@code customer_identities} region, so
+ * customer-facing endpoints stop re-reading the customer row on every call.
+ */
+@Component
+public class CustomerIdentityResolver {
+    private static final String CACHE_NAME = "customer_identities";
+    private static final String REQUEST_ATTRIBUTE_PREFIX = CustomerIdentityResolver.class.getName() + ".";
+
+    private final CustomerRepository customerRepository;
+    private final CacheManager cacheManager;
+
+    public CustomerIdentityResolver(CustomerRepository customerRepository, CacheManager cacheManager) {
+        this.customerRepository = customerRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Returns the identity for the given user, or throws {@link CustomerNotFoundException}.
+     * Unknown users are not cached.
+     */
+    public CustomerIdentity resolve(UUID userId) {
+        HttpServletRequest request = currentRequest();
+        String attribute = REQUEST_ATTRIBUTE_PREFIX + userId;
+        if (request != null && request.getAttribute(attribute) instanceof CustomerIdentity memoized)
+            return memoized;
+
+        CustomerIdentity identity = cachedOrLoad(userId)
+                .orElseThrow(() -> new CustomerNotFoundException(userId.toString()));
+        if (request != null)
+            request.setAttribute(attribute, identity);
+        return identity;
+    }
+
+    /**
+     * Drops the cached identity once the surrounding transaction commits, or immediately without one.
+     */
+    public void evict(UUID userId) {
+        Runnable eviction = () -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null)
+                cache.evict(userId);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    /**
+     * Memoizes on the servlet request itself rather than through {@link RequestAttributes}: GraphQL
+     * handlers running on an executor see a propagated snapshot whose request is already marked
+     * complete for the async dispatch, and that snapshot rejects attribute writes.
+     */
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest() : null;
+    }
+
+    private Optional<CustomerIdentity> cachedOrLoad(UUID userId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null)
+            return customerRepository.findIdentityByUserId(userId);
+
+        // Concurrent misses share one lookup; a user without a customer is not remembered.
+        CustomerIdentity identity = cache.get(userId,
+                () -> customerRepository.findIdentityByUserId(userId).orElse(null));
+        if (identity == null)
+            cache.evict(userId);
+        return Optional.ofNullable(identity);
+    }
+}
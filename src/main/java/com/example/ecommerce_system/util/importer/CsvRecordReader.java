@@ -0,0 +1,106 @@
+package com.example.ecommerce_system.util.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads RFC 4180 style CSV whose first line names the columns. Fields may be quoted, with doubled
+ * quotes for a literal quote and line breaks allowed inside quotes. Empty fields are treated as absent.
+ */
+class CsvRecordReader implements ImportRecordReader {
+    private final BufferedReader reader;
+    private List<String> header;
+    private long lineNumber;
+
+    CsvRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        if (header == null) {
+            ParsedLine names = readRecord();
+            if (names == null)
+                return null;
+            if (names.error() != null)
+                return ImportRecord.malformed(names.line(), names.error());
+            header = names.values().stream().map(String::trim).toList();
+        }
+
+        ParsedLine row = readRecord();
+        if (row == null)
+            return null;
+        if (row.error() != null)
+            return ImportRecord.malformed(row.line(), row.error());
+        if (row.values().size() != header.size())
+            return ImportRecord.malformed(row.line(),
+                    "expected " + header.size() + " columns but found " + row.values().size());
+
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = row.values().get(i);
+            if (!value.isEmpty())
+                fields.put(header.get(i), value);
+        }
+        return ImportRecord.parsed(row.line(), fields);
+    }
+
+    private ParsedLine readRecord() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null)
+                return null;
+            lineNumber++;
+        } while (line.isBlank());
+
+        long start = lineNumber;
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted)
+                    break;
+                line = reader.readLine();
+                if (line == null)
+                    return new ParsedLine(start, values, "unterminated quoted field");
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"')
+                    field.append(c);
+                else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else
+                    quoted = false;
+            } else if (c == '"' && field.isEmpty())
+                quoted = true;
+            else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else
+                field.append(c);
+        }
+        values.add(field.toString());
+        return new ParsedLine(start, values, null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private record ParsedLine(long line, List<String> values, String error) {
+    }
+}
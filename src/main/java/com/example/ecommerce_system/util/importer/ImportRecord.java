@@ -0,0 +1,22 @@
+package com.example.ecommerce_system.util.importer;
+
+import java.util.Map;
+
+/**
+ * One input record as raw field values keyed by column name, or the reason it could not be parsed.
+ * {@code line} is the 1-based line the record starts on.
+ */
+public record ImportRecord(long line, Map<String, String> fields, String error) {
+
+    public static ImportRecord parsed(long line, Map<String, String> fields) {
+        return new ImportRecord(line, fields, null);
+    }
+
+    public static ImportRecord malformed(long line, String error) {
+        return new ImportRecord(line, Map.of(), error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.ecommerce_system.util.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pulls records from an import body one at a time, so memory use does not grow with its size.
+ */
+public interface ImportRecordReader extends Closeable {
+
+    /**
+     * Returns the next record, or {@code null} once the input is exhausted. Blank lines are skipped.
+     */
+    ImportRecord next() throws IOException;
+
+    static ImportRecordReader open(ProductImportFormat format, InputStream body, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return switch (format) {
+            case NDJSON -> new NdjsonRecordReader(reader, objectMapper);
+            case CSV -> new CsvRecordReader(reader);
+        };
+    }
+}
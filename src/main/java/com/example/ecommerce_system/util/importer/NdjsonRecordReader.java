@@ -0,0 +1,56 @@
+package com.example.ecommerce_system.util.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads one JSON object per line. Scalar members become fields; nested values and nulls are ignored.
+ */
+class NdjsonRecordReader implements ImportRecordReader {
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    NdjsonRecordReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null)
+                return null;
+            lineNumber++;
+        } while (line.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return ImportRecord.malformed(lineNumber, "invalid JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject())
+            return ImportRecord.malformed(lineNumber, "expected a JSON object");
+
+        Map<String, String> fields = new HashMap<>();
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+            if (field.getValue().isValueNode() && !field.getValue().isNull())
+                fields.put(field.getKey(), field.getValue().asText());
+        }
+        return ImportRecord.parsed(lineNumber, fields);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
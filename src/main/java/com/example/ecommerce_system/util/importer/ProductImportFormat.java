@@ -0,0 +1,30 @@
+package com.example.ecommerce_system.util.importer;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Body formats accepted by the bulk product import.
+ */
+public enum ProductImportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    ProductImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static Optional<ProductImportFormat> fromMediaType(MediaType contentType) {
+        return Arrays.stream(values())
+                .filter(format -> MediaType.parseMediaType(format.mediaType).isCompatibleWith(contentType))
+                .findFirst();
+    }
+}
@@ -1,17 +1,18 @@
 package com.example.ecommerce_system.util.mapper;
 
 import com.example.ecommerce_system.dto.cart.CartItemResponseDto;
-import com.example.ecommerce_system.model.CartItem;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.util.cart.CartLine;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-import java.util.List;
-
-@Mapper(componentModel = "spring", uses = ProductMapper.class)
+@Mapper(componentModel = "spring")
 public interface CartItemMapper {
 
-    @Mapping(target = "cartId", source = "cart.cartId")
-    CartItemResponseDto toDTO(CartItem cartItem);
-
-    List<CartItemResponseDto> toDTOList(List<CartItem> cartItems);
+    @Mapping(target = "cartItemId", source = "line.cartItemId")
+    @Mapping(target = "cartId", source = "line.cartId")
+    @Mapping(target = "quantity", source = "line.quantity")
+    @Mapping(target = "addedAt", source = "line.addedAt")
+    @Mapping(target = "product", source = "product")
+    CartItemResponseDto toDTO(CartLine line, ProductResponseDto product);
 }
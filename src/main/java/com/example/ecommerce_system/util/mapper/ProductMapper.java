@@ -1,7 +1,6 @@
 package com.example.ecommerce_system.util.mapper;
 
 import com.example.ecommerce_system.dto.product.ProductResponseDto;
-import com.example.ecommerce_system.dto.product.ProductWithReviewsDto;
 import com.example.ecommerce_system.model.Product;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -21,11 +20,4 @@ public interface ProductMapper {
     ProductResponseDto toDTO(Product product);
 
     List<ProductResponseDto> toDTOList(List<Product> products);
-
-    @Mapping(source = "category", target = "category")
-    @Mapping(source = "stockQuantity", target = "stock")
-    @Mapping(source = "reviews", target = "reviews")
-    ProductWithReviewsDto toProductWithReviewsDTO(Product product);
-
-    List<ProductWithReviewsDto> toProductWithReviewsDTOList(List<Product> products);
 }
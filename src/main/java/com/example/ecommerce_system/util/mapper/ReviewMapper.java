@@ -11,8 +11,10 @@ import java.util.List;
 public interface ReviewMapper {
 
     @Mapping(source = "product.productId", target = "productId")
+    @Mapping(source = "customer.customerId", target = "customerId")
     @Mapping(source = "customer", target = "customer")
     ReviewResponseDto toDTO(Review review);
 
     List<ReviewResponseDto> toDTOList(List<Review> reviews);
+
 }
@@ -0,0 +1,91 @@
+package com.example.ecommerce_system.util.metrics;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * Counts the response body bytes as they are written straight through to the container.
+ */
+class CountingResponseWrapper extends HttpServletResponseWrapper {
+    private long byteCount;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CountingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    long getByteCount() {
+        return byteCount;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null)
+            outputStream = new CountingOutputStream(super.getOutputStream());
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null)
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), Charset.forName(getCharacterEncoding())));
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    /**
+     * Pushes characters buffered in the writer through the counting stream without committing the response.
+     */
+    void flushWriter() {
+        if (writer != null)
+            writer.flush();
+    }
+
+    private class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        private CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            delegate.write(value);
+            byteCount++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            delegate.write(buffer, offset, length);
+            byteCount += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.ecommerce_system.util.metrics;
+
+import com.example.ecommerce_system.config.LatencyMetricsProperties;
+import com.example.ecommerce_system.dto.metrics.LatencySnapshot;
+import org.HdrHistogram.Histogram;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process latency histograms keyed by API type and operation. Recording is wait-free once an
+ * operation's histogram exists; percentiles are computed only when a snapshot is requested.
+ */
+@Component
+public class LatencyRecorder {
+    private static final long LOWEST_DISCERNIBLE_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LatencyMetricsProperties properties;
+    private final Map<OperationKey, RollingLatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public LatencyRecorder(LatencyMetricsProperties properties) {
+        this.properties = properties;
+    }
+
+    public void record(String type, String operation, long nanos) {
+        histograms.computeIfAbsent(new OperationKey(type, operation), key -> newHistogram()).record(nanos);
+    }
+
+    /**
+     * Percentiles and throughput for every operation seen in the current window, slowest p99 first.
+     */
+    public List<LatencySnapshot> snapshot() {
+        return histograms.entrySet().stream()
+                .map(entry -> toSnapshot(entry.getKey(), entry.getValue().snapshot()))
+                .filter(snapshot -> snapshot.getCount() > 0)
+                .sorted(Comparator.comparingDouble(LatencySnapshot::getP99Ms).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    @Scheduled(fixedRateString = "${performance.latency.rotation:10s}", initialDelayString = "${performance.latency.rotation:10s}")
+    public void rotate() {
+        histograms.values().forEach(RollingLatencyHistogram::rotate);
+    }
+
+    private RollingLatencyHistogram newHistogram() {
+        return new RollingLatencyHistogram(
+                LOWEST_DISCERNIBLE_NANOS,
+                Math.max(LOWEST_DISCERNIBLE_NANOS * 2, properties.getHighestTrackable().toNanos()),
+                properties.getSignificantDigits(),
+                properties.getIntervals());
+    }
+
+    private LatencySnapshot toSnapshot(OperationKey key, RollingLatencyHistogram.Window window) {
+        Histogram histogram = window.histogram();
+        double seconds = window.spanMillis() / 1000.0;
+        return LatencySnapshot.builder()
+                .type(key.type())
+                .operation(key.operation())
+                .count(histogram.getTotalCount())
+                .windowSeconds(seconds)
+                .throughputPerSecond(histogram.getTotalCount() / seconds)
+                .meanMs(histogram.getMean() / NANOS_PER_MILLI)
+                .p50Ms(histogram.getValueAtPercentile(50) / NANOS_PER_MILLI)
+                .p90Ms(histogram.getValueAtPercentile(90) / NANOS_PER_MILLI)
+                .p99Ms(histogram.getValueAtPercentile(99) / NANOS_PER_MILLI)
+                .p999Ms(histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI)
+                .maxMs(histogram.getMaxValue() / NANOS_PER_MILLI)
+                .build();
+    }
+
+    private record OperationKey(String type, String operation) {}
+}
@@ -0,0 +1,84 @@
+package com.example.ecommerce_system.util.metrics;
+
+import com.example.ecommerce_system.config.PayloadMetricsProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Wraps a sample of requests with counting streams and logs the request and response body sizes
+ * once the exchange completes, including responses written on an async dispatch.
+ */
+@Component
+@AllArgsConstructor
+public class PayloadCountingFilter extends OncePerRequestFilter {
+
+    static final String REQUEST_COUNTER = PayloadCountingFilter.class.getName() + ".REQUEST";
+
+    private static final Logger logger = LoggerFactory.getLogger(PayloadCountingFilter.class);
+
+    private final PayloadMetricsProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CountingRequestWrapper countingRequest = new CountingRequestWrapper(request);
+        CountingResponseWrapper countingResponse = new CountingResponseWrapper(response);
+        request.setAttribute(REQUEST_COUNTER, countingRequest);
+
+        try {
+            chain.doFilter(countingRequest, countingResponse);
+        } finally {
+            if (countingRequest.isAsyncStarted()) {
+                countingRequest.getAsyncContext().addListener(new CompletionListener(countingRequest, countingResponse));
+            } else {
+                countingResponse.flushWriter();
+                log(countingRequest, countingResponse);
+            }
+        }
+    }
+
+    private static void log(CountingRequestWrapper request, CountingResponseWrapper response) {
+        logger.info("[HTTP] {} {} - Status: {}, Request Size: {} bytes, Response Size: {} bytes",
+                request.getMethod(),
+                request.getRequestURI(),
+                response.getStatus(),
+                request.getByteCount(),
+                response.getByteCount());
+    }
+
+    private record CompletionListener(CountingRequestWrapper request, CountingResponseWrapper response)
+            implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            response.flushWriter();
+            log(request, response);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {}
+
+        @Override
+        public void onError(AsyncEvent event) {}
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {}
+    }
+}
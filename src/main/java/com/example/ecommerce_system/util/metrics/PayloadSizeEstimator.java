@@ -0,0 +1,12 @@
+package com.example.ecommerce_system.util.metrics;
+
+/**
+ * Estimates the size of the request payload currently being handled, without serializing it.
+ */
+public interface PayloadSizeEstimator {
+
+    /**
+     * Returns the request body size in bytes, or 0 when it cannot be determined.
+     */
+    long estimateRequestSize();
+}
@@ -0,0 +1,70 @@
+package com.example.ecommerce_system.util.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Latency histogram over a rolling window. Writers record through a wait-free {@link Recorder};
+ * only rotation and snapshots, which run on the scheduler and admin requests, take the monitor.
+ */
+class RollingLatencyHistogram {
+    private final long lowestDiscernibleNanos;
+    private final long highestTrackableNanos;
+    private final int significantDigits;
+    private final int intervals;
+    private final Recorder recorder;
+    private final Deque<Slice> slices = new ArrayDeque<>();
+    private Slice current;
+    private Histogram recycled;
+
+    RollingLatencyHistogram(long lowestDiscernibleNanos, long highestTrackableNanos, int significantDigits, int intervals) {
+        this.lowestDiscernibleNanos = lowestDiscernibleNanos;
+        this.highestTrackableNanos = highestTrackableNanos;
+        this.significantDigits = significantDigits;
+        this.intervals = Math.max(1, intervals);
+        this.recorder = new Recorder(lowestDiscernibleNanos, highestTrackableNanos, significantDigits);
+        this.current = new Slice(newHistogram(), System.currentTimeMillis());
+    }
+
+    void record(long nanos) {
+        recorder.recordValue(Math.max(0L, Math.min(nanos, highestTrackableNanos)));
+    }
+
+    /**
+     * Close the current slice and drop the oldest one once the window holds {@code intervals} slices.
+     */
+    synchronized void rotate() {
+        drain();
+        slices.addLast(current);
+        while (slices.size() >= intervals)
+            slices.removeFirst();
+        current = new Slice(newHistogram(), System.currentTimeMillis());
+    }
+
+    synchronized Window snapshot() {
+        drain();
+        Histogram aggregate = current.histogram().copy();
+        long start = current.startMillis();
+        for (Slice slice : slices) {
+            aggregate.add(slice.histogram());
+            start = Math.min(start, slice.startMillis());
+        }
+        return new Window(aggregate, Math.max(1L, System.currentTimeMillis() - start));
+    }
+
+    private void drain() {
+        recycled = recorder.getIntervalHistogram(recycled);
+        current.histogram().add(recycled);
+    }
+
+    private Histogram newHistogram() {
+        return new Histogram(lowestDiscernibleNanos, highestTrackableNanos, significantDigits);
+    }
+
+    record Window(Histogram histogram, long spanMillis) {}
+
+    private record Slice(Histogram histogram, long startMillis) {}
+}
@@ -0,0 +1,25 @@
+package com.example.ecommerce_system.util.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Reads the bytes counted by {@link PayloadCountingFilter} for sampled requests,
+ * and the Content-Length header otherwise.
+ */
+@Component
+public class ServletPayloadSizeEstimator implements PayloadSizeEstimator {
+
+    @Override
+    public long estimateRequestSize() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes))
+            return 0L;
+
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(PayloadCountingFilter.REQUEST_COUNTER) instanceof CountingRequestWrapper counted)
+            return Math.max(counted.getByteCount(), Math.max(request.getContentLengthLong(), 0L));
+        return Math.max(request.getContentLengthLong(), 0L);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.ecommerce_system.util.registry;
+
+import com.example.ecommerce_system.exception.order.OrderStatusConfigurationException;
+import com.example.ecommerce_system.model.OrderStatus;
+import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.repository.OrderStatusRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The {@code order_statuses} rows, so placing, processing and cancelling orders no longer query them.
+ */
+@Component
+public class OrderStatusRegistry extends ReferenceDataRegistry<OrderStatusType, OrderStatus> {
+    private final OrderStatusRepository orderStatusRepository;
+
+    public OrderStatusRegistry(OrderStatusRepository orderStatusRepository) {
+        super(OrderStatusType.class);
+        this.orderStatusRepository = orderStatusRepository;
+    }
+
+    @Override
+    protected List<OrderStatus> loadAll() {
+        return orderStatusRepository.findAll();
+    }
+
+    @Override
+    protected OrderStatusType keyOf(OrderStatus status) {
+        return status.getStatusName();
+    }
+
+    @Override
+    protected RuntimeException missing(OrderStatusType type) {
+        return new OrderStatusConfigurationException(type.name());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.ecommerce_system.util.registry;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory copy of a small reference table keyed by an enum, such as order statuses or roles.
+ * The table is read once and checked to hold a row for every constant; the application refuses
+ * to become ready otherwise. Afterwards lookups never touch the database until {@link #refresh()}.
+ */
+public abstract class ReferenceDataRegistry<K extends Enum<K>, V> {
+    private final Class<K> keyType;
+    private volatile Map<K, V> entries;
+
+    protected ReferenceDataRegistry(Class<K> keyType) {
+        this.keyType = keyType;
+    }
+
+    /**
+     * Reads every row from the backing table.
+     */
+    protected abstract List<V> loadAll();
+
+    protected abstract K keyOf(V value);
+
+    /**
+     * The exception reported when the table has no row for {@code key}.
+     */
+    protected abstract RuntimeException missing(K key);
+
+    /**
+     * Returns the row for {@code key}. Loads the table on first use if a request arrives before startup finished.
+     */
+    public V get(K key) {
+        Map<K, V> current = entries;
+        return (current != null ? current : loadIfAbsent()).get(key);
+    }
+
+    public Map<K, V> getAll() {
+        Map<K, V> current = entries;
+        return current != null ? current : loadIfAbsent();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * Re-reads the table and swaps in the new copy. If a constant has no row, the previous copy stays in use.
+     */
+    public synchronized Map<K, V> refresh() {
+        EnumMap<K, V> loaded = new EnumMap<>(keyType);
+        for (V value : loadAll())
+            loaded.put(keyOf(value), value);
+        for (K key : keyType.getEnumConstants()) {
+            if (!loaded.containsKey(key))
+                throw missing(key);
+        }
+        entries = Collections.unmodifiableMap(loaded);
+        return entries;
+    }
+
+    private synchronized Map<K, V> loadIfAbsent() {
+        return entries != null ? entries : refresh();
+    }
+}
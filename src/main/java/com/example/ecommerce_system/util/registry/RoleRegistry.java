@@ -0,0 +1,37 @@
+package com.example.ecommerce_system.util.registry;
+
+import com.example.ecommerce_system.exception.user.RoleConfigurationException;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.repository.RoleRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The {@code roles} rows, so signups no longer query them. Loaded after {@code DataInitializer} seeds them.
+ */
+@Component
+public class RoleRegistry extends ReferenceDataRegistry<RoleType, Role> {
+    private final RoleRepository roleRepository;
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        super(RoleType.class);
+        this.roleRepository = roleRepository;
+    }
+
+    @Override
+    protected List<Role> loadAll() {
+        return roleRepository.findAll();
+    }
+
+    @Override
+    protected RoleType keyOf(Role role) {
+        return role.getRoleName();
+    }
+
+    @Override
+    protected RuntimeException missing(RoleType type) {
+        return new RoleConfigurationException(type.name());
+    }
+}
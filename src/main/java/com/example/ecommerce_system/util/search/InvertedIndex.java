@@ -0,0 +1,257 @@
+package com.example.ecommerce_system.util.search;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Token postings and columnar attributes for the product catalog. Every indexed product gets a
+ * fresh ordinal, so posting lists stay append-only and sorted; updates and deletes leave a dead
+ * ordinal behind until the index is compacted. Not thread-safe; {@link ProductSearchIndex} guards it.
+ */
+class InvertedIndex {
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+
+    private ProductResponseDto[] products = new ProductResponseDto[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    private UUID[] categoryIds = new UUID[INITIAL_CAPACITY];
+    private double[] prices = new double[INITIAL_CAPACITY];
+    private int[] stocks = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void put(ProductResponseDto product, String categoryName) {
+        remove(product.getProductId());
+        ensureCapacity(size + 1);
+
+        int ordinal = size++;
+        products[ordinal] = product;
+        names[ordinal] = lower(product.getName());
+        descriptions[ordinal] = lower(product.getDescription());
+        categoryIds[ordinal] = product.getCategoryId();
+        prices[ordinal] = product.getPrice();
+        stocks[ordinal] = product.getStock();
+        live.set(ordinal);
+        ordinals.put(product.getProductId(), ordinal);
+
+        Set<String> tokens = new LinkedHashSet<>();
+        tokenize(names[ordinal], tokens);
+        tokenize(descriptions[ordinal], tokens);
+        tokenize(lower(categoryName), tokens);
+        for (String token : tokens)
+            postings.computeIfAbsent(token, key -> new Postings()).add(ordinal);
+    }
+
+    void remove(UUID productId) {
+        Integer ordinal = ordinals.remove(productId);
+        if (ordinal == null)
+            return;
+        live.clear(ordinal);
+        products[ordinal] = null;
+        names[ordinal] = null;
+        descriptions[ordinal] = null;
+    }
+
+    ProductResponseDto get(UUID productId) {
+        Integer ordinal = ordinals.get(productId);
+        return ordinal != null ? products[ordinal] : null;
+    }
+
+    List<ProductResponseDto> liveProducts() {
+        return live.stream().mapToObj(ordinal -> products[ordinal]).toList();
+    }
+
+    List<ProductResponseDto> productsInCategory(UUID categoryId) {
+        return live.stream()
+                .filter(ordinal -> categoryId.equals(categoryIds[ordinal]))
+                .mapToObj(ordinal -> products[ordinal])
+                .toList();
+    }
+
+    int liveCount() {
+        return ordinals.size();
+    }
+
+    int deadCount() {
+        return size - ordinals.size();
+    }
+
+    /**
+     * Evaluates the filter with the same semantics as {@code ProductSpecification}: case-insensitive
+     * substring matches on name and description, category equality and inclusive price/stock ranges.
+     * Postings only narrow the candidates; every candidate is verified against the stored text.
+     */
+    List<ProductResponseDto> search(ProductFilter filter, int limit, int offset) {
+        BitSet candidates = (BitSet) live.clone();
+        if (filter.hasName())
+            candidates.and(substringCandidates(lower(filter.getName())));
+        if (filter.hasDescription())
+            candidates.and(substringCandidates(lower(filter.getDescription())));
+
+        String name = filter.hasName() ? lower(filter.getName()) : null;
+        String description = filter.hasDescription() ? lower(filter.getDescription()) : null;
+        BitSet matches = new BitSet();
+        for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+            if (name != null && !names[ordinal].contains(name))
+                continue;
+            if (description != null && !descriptions[ordinal].contains(description))
+                continue;
+            if (filter.hasCategoryId() && !filter.getCategoryId().equals(categoryIds[ordinal]))
+                continue;
+            if (filter.hasMinPrice() && prices[ordinal] < filter.getMinPrice())
+                continue;
+            if (filter.hasMaxPrice() && prices[ordinal] > filter.getMaxPrice())
+                continue;
+            if (filter.hasMinStock() && stocks[ordinal] < filter.getMinStock())
+                continue;
+            if (filter.hasMaxStock() && stocks[ordinal] > filter.getMaxStock())
+                continue;
+            matches.set(ordinal);
+        }
+        return page(matches, limit, (long) offset * limit);
+    }
+
+    /**
+     * Products with a name, description or category word starting with the last query word
+     * and containing every preceding query word as a whole word.
+     */
+    List<ProductResponseDto> complete(String prefix, int limit) {
+        String[] words = words(lower(prefix));
+        if (words.length == 0)
+            return List.of();
+
+        BitSet matches = (BitSet) live.clone();
+        for (int i = 0; i < words.length - 1; i++) {
+            Postings exact = postings.get(words[i]);
+            if (exact == null)
+                return List.of();
+            matches.and(exact.toBitSet());
+        }
+        matches.and(prefixCandidates(words[words.length - 1]));
+        return page(matches, limit, 0);
+    }
+
+    /**
+     * Ordinals of products that may contain {@code query} as a substring of an indexed field.
+     * A query word bounded by separators on both sides must be a whole token; the last word of a
+     * multi-word query must start a token; a lone word may sit anywhere inside a token.
+     */
+    private BitSet substringCandidates(String query) {
+        String[] words = words(query);
+        if (words.length == 0)
+            return (BitSet) live.clone();
+        if (words.length >= 3) {
+            Postings exact = postings.get(words[1]);
+            return exact != null ? exact.toBitSet() : new BitSet();
+        }
+        if (words.length == 2 || startsWithSeparator(query))
+            return prefixCandidates(words[words.length - 1]);
+
+        BitSet result = new BitSet();
+        String word = words[0];
+        for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+            if (entry.getKey().contains(word))
+                entry.getValue().addTo(result);
+        }
+        return result;
+    }
+
+    private BitSet prefixCandidates(String prefix) {
+        BitSet result = new BitSet();
+        for (Postings list : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values())
+            list.addTo(result);
+        return result;
+    }
+
+    /**
+     * Matches ordered by name, then id. Names compare by UTF-16 code unit and ids as {@link UUID}s,
+     * not by the database collation, so the SQL fallback can order accented or mixed-case names
+     * and equal names differently.
+     */
+    private List<ProductResponseDto> page(BitSet matches, int limit, long skip) {
+        return matches.stream()
+                .mapToObj(ordinal -> products[ordinal])
+                .sorted(Comparator.comparing(ProductResponseDto::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(ProductResponseDto::getProductId))
+                .skip(skip)
+                .limit(limit)
+                .toList();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= products.length)
+            return;
+        int grown = Math.max(capacity, products.length * 2);
+        products = Arrays.copyOf(products, grown);
+        names = Arrays.copyOf(names, grown);
+        descriptions = Arrays.copyOf(descriptions, grown);
+        categoryIds = Arrays.copyOf(categoryIds, grown);
+        prices = Arrays.copyOf(prices, grown);
+        stocks = Arrays.copyOf(stocks, grown);
+    }
+
+    private static boolean startsWithSeparator(String query) {
+        return SEPARATORS.matcher(query).lookingAt();
+    }
+
+    private static void tokenize(String text, Set<String> tokens) {
+        for (String word : words(text))
+            tokens.add(word);
+    }
+
+    private static String[] words(String text) {
+        if (text == null || text.isEmpty())
+            return new String[0];
+        return Arrays.stream(SEPARATORS.split(text))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static String lower(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * Sorted, growable list of ordinals for one token.
+     */
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size > 0 && ordinals[size - 1] == ordinal)
+                return;
+            if (size == ordinals.length)
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            ordinals[size++] = ordinal;
+        }
+
+        void addTo(BitSet target) {
+            for (int i = 0; i < size; i++)
+                target.set(ordinals[i]);
+        }
+
+        BitSet toBitSet() {
+            BitSet result = new BitSet();
+            addTo(result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.ecommerce_system.util.search;
+
+import com.example.ecommerce_system.config.ProductSearchProperties;
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.util.mapper.ProductMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional in-process product search, active when {@code product.search.mode=in-memory}.
+ * The index is built from the database once the application is ready and kept current by
+ * the product, category and order services; changes are applied after their transaction commits.
+ */
+@Component
+public class ProductSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchIndex.class);
+    private static final int BUILD_BATCH_SIZE = 1000;
+    private static final int MIN_DEAD_BEFORE_COMPACTION = 1024;
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductMapper productMapper;
+    private final ProductSearchProperties searchProperties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, String> categoryNames = new ConcurrentHashMap<>();
+    private InvertedIndex index = new InvertedIndex();
+    private List<Consumer<InvertedIndex>> writesDuringRebuild;
+    private volatile boolean ready;
+
+    public ProductSearchIndex(
+            ProductRepository productRepository,
+            CategoryRepository categoryRepository,
+            ProductMapper productMapper,
+            ProductSearchProperties searchProperties
+    ) {
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.productMapper = productMapper;
+        this.searchProperties = searchProperties;
+    }
+
+    public boolean isEnabled() {
+        return searchProperties.getMode() == ProductSearchProperties.SearchMode.IN_MEMORY;
+    }
+
+    public boolean isReady() {
+        return ready && isEnabled();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOnStartup() {
+        if (isEnabled())
+            rebuild();
+    }
+
+    /**
+     * Reload every category and product from the database into a new index and swap it in.
+     * Searches keep reading the current index during the reload. Writes arriving meanwhile are
+     * applied to the current index and recorded, then replayed on the new one under the swap's lock.
+     */
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        withWriteLock(() -> writesDuringRebuild = new ArrayList<>());
+        try {
+            Map<UUID, String> names = new HashMap<>();
+            for (Category category : categoryRepository.findAll())
+                names.put(category.getCategoryId(), category.getName());
+
+            InvertedIndex fresh = new InvertedIndex();
+            PageRequest request = PageRequest.of(0, BUILD_BATCH_SIZE, Sort.by("productId"));
+            Page<Product> batch;
+            do {
+                batch = productRepository.findAll(request);
+                for (ProductResponseDto product : productMapper.toDTOList(batch.getContent()))
+                    fresh.put(product, names.get(product.getCategoryId()));
+                request = request.next();
+            } while (batch.hasNext());
+
+            withWriteLock(() -> {
+                categoryNames.clear();
+                categoryNames.putAll(names);
+                writesDuringRebuild.forEach(change -> change.accept(fresh));
+                index = fresh;
+                ready = true;
+            });
+            logger.info("[search] indexed {} products in {}ms", fresh.liveCount(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            withWriteLock(() -> writesDuringRebuild = null);
+        }
+    }
+
+    public List<ProductResponseDto> search(ProductFilter filter, int limit, int offset) {
+        lock.readLock().lock();
+        try {
+            return index.search(filter, limit, offset);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ProductResponseDto> complete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.complete(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void indexProduct(ProductResponseDto product) {
+        if (!isEnabled())
+            return;
+        afterCommit(() -> write(target -> target.put(product, categoryName(product.getCategoryId()))));
+    }
+
+    public void removeProduct(UUID productId) {
+        if (!isEnabled())
+            return;
+        afterCommit(() -> write(target -> target.remove(productId)));
+    }
+
+    /**
+     * Apply committed stock reservations so stock range filters stay exact.
+     */
+    public void stockReserved(Map<UUID, Integer> quantities) {
+        if (!isEnabled())
+            return;
+        afterCommit(() -> write(target -> quantities.forEach((productId, quantity) -> {
+            ProductResponseDto current = target.get(productId);
+            if (current == null)
+                return;
+            target.put(ProductResponseDto.builder()
+                    .productId(current.getProductId())
+                    .categoryId(current.getCategoryId())
+                    .name(current.getName())
+                    .description(current.getDescription())
+                    .price(current.getPrice())
+                    .stock(current.getStock() - quantity)
+                    .updatedAt(current.getUpdatedAt())
+                    .build(), categoryName(current.getCategoryId()));
+        })));
+    }
+
+    public void categoryRenamed(UUID categoryId, String name) {
+        if (!isEnabled())
+            return;
+        afterCommit(() -> write(target -> {
+            categoryNames.put(categoryId, name);
+            for (ProductResponseDto product : target.productsInCategory(categoryId))
+                target.put(product, name);
+        }));
+    }
+
+    private String categoryName(UUID categoryId) {
+        if (categoryId == null)
+            return null;
+        return categoryNames.computeIfAbsent(categoryId, id -> categoryRepository.findById(id)
+                .map(Category::getName)
+                .orElse(""));
+    }
+
+    private void write(Consumer<InvertedIndex> change) {
+        withWriteLock(() -> {
+            change.accept(index);
+            if (writesDuringRebuild != null)
+                writesDuringRebuild.add(change);
+            if (index.deadCount() > Math.max(MIN_DEAD_BEFORE_COMPACTION, index.liveCount()))
+                compact();
+        });
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compact() {
+        InvertedIndex compacted = new InvertedIndex();
+        for (ProductResponseDto product : index.liveProducts())
+            compacted.put(product, categoryNames.get(product.getCategoryId()));
+        index = compacted;
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
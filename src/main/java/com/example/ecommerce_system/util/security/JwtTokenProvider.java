@@ -0,0 +1,110 @@
+package com.example.ecommerce_system.util.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+
+/**
+ * Issues and verifies HMAC-signed JWTs. The algorithm and verifier are built once, and verified
+ * tokens are remembered by SHA-256 digest until they expire, so a repeated bearer token skips
+ * signature verification and claim parsing.
+ */
+@Component
+public class JwtTokenProvider {
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(
+            @Value("${jwt.token.secret-key}") String secretKey,
+            @Value("${jwt.token.verified-cache-size:10000}") long verifiedCacheSize
+    ) {
+        this.algorithm = Algorithm.HMAC256(secretKey);
+        this.verifier = JWT.require(algorithm).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public String issue(String subject, String role, Duration ttl) {
+        Instant now = Instant.now();
+        return JWT.create()
+                .withSubject(subject)
+                .withClaim("role", role)
+                .withIssuedAt(Date.from(now))
+                .withExpiresAt(Date.from(now.plus(ttl)))
+                .sign(algorithm);
+    }
+
+    /**
+     * Verify the token's signature and expiry, or return the claims of an identical token verified earlier.
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now()))
+            return cached;
+
+        DecodedJWT decoded = verifier.verify(token);
+        if (decoded.getExpiresAtAsInstant() == null)
+            throw new JWTVerificationException("Token has no expiry");
+
+        VerifiedToken verified = new VerifiedToken(
+                decoded.getSubject(),
+                decoded.getClaim("role").asString(),
+                decoded.getExpiresAtAsInstant());
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
+
+    public CacheStats verifiedTokenStats() {
+        return verifiedTokens.stats();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record VerifiedToken(String subject, String role, Instant expiresAt) {}
+
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
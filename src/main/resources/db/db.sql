@@ -1,3 +1,5 @@
+create extension if not exists pg_trgm;
+
 create table roles
 (
 	role_id uuid default gen_random_uuid() not null,
@@ -53,6 +55,10 @@ create table product
 	category_id uuid not null,
 	created_at timestamp with time zone default CURRENT_TIMESTAMP not null,
 	updated_at timestamp with time zone default CURRENT_TIMESTAMP not null,
+	search_vector tsvector generated always as (
+		setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+		setweight(to_tsvector('english', coalesce(description, '')), 'B')
+	) stored,
 	primary key (product_id),
 	constraint fk_category_in_product
 		foreign key (category_id) references category
@@ -69,7 +75,16 @@ create index index_product_category_id
 	on product (category_id);
 
 create index index_product_name
-	on product (name);
+	on product (name, product_id);
+
+create index index_product_search_vector
+	on product using gin (search_vector);
+
+create index index_product_name_trgm
+	on product using gin (lower(name) gin_trgm_ops);
+
+create index index_product_description_trgm
+	on product using gin (lower(description) gin_trgm_ops);
 
 create table customer
 (
@@ -112,7 +127,7 @@ create table review
 alter table review owner to postgres;
 
 create index index_review_product_id
-	on review (product_id);
+	on review (product_id, created_at desc, review_id desc);
 
 create index index_review_customer_id
 	on review (customer_id);
@@ -154,7 +169,7 @@ create index index_orders_customer_id
 	on orders (customer_id);
 
 create index index_orders_order_date
-	on orders (order_date);
+	on orders (order_date desc, order_id desc);
 
 create table order_item
 (
@@ -0,0 +1,98 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.config.DbAdmissionProperties;
+import com.example.ecommerce_system.dto.metrics.DbAdmissionStats;
+import com.example.ecommerce_system.util.db.AdmissionControlledDataSource;
+import com.example.ecommerce_system.util.db.DbAdmissionLimiter;
+import com.example.ecommerce_system.util.metrics.LatencyRecorder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlledDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private ObjectProvider<LatencyRecorder> latencyRecorderProvider;
+
+    @Mock
+    private LatencyRecorder latencyRecorder;
+
+    private AdmissionControlledDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        DbAdmissionProperties properties = new DbAdmissionProperties();
+        properties.setMaxWait(Duration.ofMillis(50));
+        dataSource = new AdmissionControlledDataSource(pool, new DbAdmissionLimiter(2, properties, latencyRecorderProvider));
+    }
+
+    @Test
+    @DisplayName("Should size permits to the pool and release them when connections close")
+    void shouldReleasePermitOnClose() throws SQLException {
+        Connection raw = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(raw);
+
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+        Assertions.assertEquals(2, dataSource.limiter().stats().getInUse());
+
+        first.close();
+        first.close();
+
+        DbAdmissionStats stats = dataSource.limiter().stats();
+        Assertions.assertEquals(2, stats.getPermits());
+        Assertions.assertEquals(1, stats.getInUse());
+        Assertions.assertEquals(2, stats.getAdmitted());
+        Assertions.assertEquals(0, stats.getQueued());
+    }
+
+    @Test
+    @DisplayName("Should time out and record the wait when every permit is in use")
+    void shouldTimeOutWhenSaturated() throws SQLException {
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        when(latencyRecorderProvider.getIfAvailable()).thenReturn(latencyRecorder);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        Assertions.assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+
+        DbAdmissionStats stats = dataSource.limiter().stats();
+        Assertions.assertEquals(1, stats.getQueued());
+        Assertions.assertEquals(1, stats.getTimedOut());
+        Assertions.assertEquals(0, stats.getWaiting());
+        Assertions.assertTrue(stats.getMaxWaitMs() >= 50);
+        verify(latencyRecorder).record(eq("DB"), eq("admission-wait"), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should give the permit back when the pool fails to hand out a connection")
+    void shouldReleasePermitWhenPoolFails() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        Assertions.assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        Assertions.assertEquals(0, dataSource.limiter().stats().getInUse());
+    }
+}
@@ -12,20 +12,21 @@ import com.example.ecommerce_system.model.Role;
 import com.example.ecommerce_system.model.RoleType;
 import com.example.ecommerce_system.model.User;
 import com.example.ecommerce_system.repository.CustomerRepository;
-import com.example.ecommerce_system.repository.RoleRepository;
+import com.example.ecommerce_system.util.registry.RoleRegistry;
 import com.example.ecommerce_system.repository.UserRepository;
 import com.example.ecommerce_system.service.AuthService;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
 import com.example.ecommerce_system.util.mapper.AuthMapper;
+import com.example.ecommerce_system.util.security.JwtTokenProvider;
 import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.util.Optional;
@@ -43,7 +44,7 @@ class AuthServiceTest {
     private CustomerRepository customerRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
 
     @Mock
     private BCryptPasswordEncoder passwordEncoder;
@@ -51,14 +52,15 @@ class AuthServiceTest {
     @Mock
     private AuthMapper authMapper;
 
+    @Mock
+    private PageCacheInvalidator pageCacheInvalidator;
+
+    @Spy
+    private JwtTokenProvider jwtTokenProvider = new JwtTokenProvider("test-secret-key-for-jwt-token-generation", 100);
+
     @InjectMocks
     private AuthService authService;
 
-    @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(authService, "secretKey", "test-secret-key-for-jwt-token-generation");
-    }
-
     @Test
     @DisplayName("Should signup user successfully")
     void shouldSignupUserSuccessfully() {
@@ -100,7 +102,7 @@ class AuthServiceTest {
                 .build();
 
         when(userRepository.findUserByEmail("admin@example.com")).thenReturn(Optional.empty());
-        when(roleRepository.findRoleByRoleName(RoleType.CUSTOMER)).thenReturn(Optional.of(customerRole));
+        when(roleRegistry.get(RoleType.CUSTOMER)).thenReturn(customerRole);
         when(passwordEncoder.encode("Password123!")).thenReturn("hashedPassword");
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
         when(customerRepository.save(any(Customer.class))).thenReturn(savedCustomer);
@@ -111,7 +113,7 @@ class AuthServiceTest {
         Assertions.assertEquals("admin@example.com", response.getEmail());
         Assertions.assertEquals(RoleType.CUSTOMER, response.getRoleName());
         verify(userRepository).findUserByEmail("admin@example.com");
-        verify(roleRepository).findRoleByRoleName(RoleType.CUSTOMER);
+        verify(roleRegistry).get(RoleType.CUSTOMER);
         verify(passwordEncoder).encode("Password123!");
         verify(userRepository).save(any(User.class));
         verify(customerRepository).save(any(Customer.class));
@@ -145,7 +147,7 @@ class AuthServiceTest {
         );
 
         verify(userRepository).findUserByEmail("existing@example.com");
-        verify(roleRepository, never()).findRoleByRoleName(any());
+        verify(roleRegistry, never()).get(any());
         verify(passwordEncoder, never()).encode(any());
         verify(userRepository, never()).save(any());
     }
@@ -387,7 +389,7 @@ class AuthServiceTest {
                 .build();
 
         when(userRepository.findUserByEmail("user@example.com")).thenReturn(Optional.empty());
-        when(roleRepository.findRoleByRoleName(RoleType.CUSTOMER)).thenReturn(Optional.of(customerRole));
+        when(roleRegistry.get(RoleType.CUSTOMER)).thenReturn(customerRole);
         when(passwordEncoder.encode("Password123!")).thenReturn("hashedPassword");
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
         when(customerRepository.save(any(Customer.class))).thenReturn(savedCustomer);
@@ -396,7 +398,7 @@ class AuthServiceTest {
         authService.signup(request);
 
         verify(passwordEncoder).encode("Password123!");
-        verify(roleRepository).findRoleByRoleName(RoleType.CUSTOMER);
+        verify(roleRegistry).get(RoleType.CUSTOMER);
         verify(userRepository).save(argThat(user ->
                 user.getPasswordHash().equals("hashedPassword")
         ));
@@ -445,7 +447,7 @@ class AuthServiceTest {
                 .build();
 
         when(userRepository.findUserByEmail("user@example.com")).thenReturn(Optional.empty());
-        when(roleRepository.findRoleByRoleName(RoleType.CUSTOMER)).thenReturn(Optional.of(customerRole));
+        when(roleRegistry.get(RoleType.CUSTOMER)).thenReturn(customerRole);
         when(passwordEncoder.encode("Password123!")).thenReturn("hashedPassword");
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
         when(customerRepository.save(any(Customer.class))).thenReturn(savedCustomer);
@@ -457,7 +459,7 @@ class AuthServiceTest {
         Assertions.assertEquals("user@example.com", response.getEmail());
         Assertions.assertEquals(RoleType.CUSTOMER, response.getRoleName());
         Assertions.assertEquals(createdAt, response.getCreatedAt());
-        verify(roleRepository).findRoleByRoleName(RoleType.CUSTOMER);
+        verify(roleRegistry).get(RoleType.CUSTOMER);
     }
 
     @Test
@@ -536,7 +538,7 @@ class AuthServiceTest {
                 .build();
 
         when(userRepository.findUserByEmail("user@example.com")).thenReturn(Optional.empty());
-        when(roleRepository.findRoleByRoleName(RoleType.CUSTOMER)).thenReturn(Optional.of(customerRole));
+        when(roleRegistry.get(RoleType.CUSTOMER)).thenReturn(customerRole);
         when(passwordEncoder.encode("ValidPass123!")).thenReturn("hashedPassword");
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
         when(customerRepository.save(any(Customer.class))).thenReturn(savedCustomer);
@@ -545,7 +547,7 @@ class AuthServiceTest {
         Assertions.assertDoesNotThrow(() -> authService.signup(request));
 
         verify(userRepository).save(any(User.class));
-        verify(roleRepository).findRoleByRoleName(RoleType.CUSTOMER);
+        verify(roleRegistry).get(RoleType.CUSTOMER);
     }
 
     @Test
@@ -578,7 +580,7 @@ class AuthServiceTest {
         SignupRequestDto request3 = new SignupRequestDto("user3@example.com", "Password123$", "Steve", "Cyan", "+233258258258");
 
         when(userRepository.findUserByEmail(any())).thenReturn(Optional.empty());
-        when(roleRepository.findRoleByRoleName(RoleType.CUSTOMER)).thenReturn(Optional.of(customerRole));
+        when(roleRegistry.get(RoleType.CUSTOMER)).thenReturn(customerRole);
         when(passwordEncoder.encode(any())).thenReturn("hashedPassword");
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
         when(customerRepository.save(any(Customer.class))).thenReturn(savedCustomer);
@@ -588,7 +590,7 @@ class AuthServiceTest {
         Assertions.assertDoesNotThrow(() -> authService.signup(request2));
         Assertions.assertDoesNotThrow(() -> authService.signup(request3));
 
-        verify(roleRepository, times(3)).findRoleByRoleName(RoleType.CUSTOMER);
+        verify(roleRegistry, times(3)).get(RoleType.CUSTOMER);
     }
 
     @Test
@@ -625,7 +627,7 @@ class AuthServiceTest {
                 .build();
 
         when(userRepository.findUserByEmail("user@example.com")).thenReturn(Optional.empty());
-        when(roleRepository.findRoleByRoleName(RoleType.CUSTOMER)).thenReturn(Optional.of(customerRole));
+        when(roleRegistry.get(RoleType.CUSTOMER)).thenReturn(customerRole);
         when(passwordEncoder.encode("Password123!")).thenReturn("hashedPassword");
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
         when(customerRepository.save(any(Customer.class))).thenReturn(savedCustomer);
@@ -634,6 +636,6 @@ class AuthServiceTest {
         authService.signup(request);
 
         verify(userRepository).save(argThat(user -> user.getUserId() != null));
-        verify(roleRepository).findRoleByRoleName(RoleType.CUSTOMER);
+        verify(roleRegistry).get(RoleType.CUSTOMER);
     }
 }
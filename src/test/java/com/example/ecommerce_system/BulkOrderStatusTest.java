@@ -0,0 +1,303 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.orders.BulkOrderOutcome;
+import com.example.ecommerce_system.dto.orders.BulkOrderStatusRequest;
+import com.example.ecommerce_system.dto.orders.BulkOrderStatusResult;
+import com.example.ecommerce_system.exception.order.InvalidOrderStatusException;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Customer;
+import com.example.ecommerce_system.model.OrderItem;
+import com.example.ecommerce_system.model.OrderStatus;
+import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.model.Orders;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.repository.CustomerRepository;
+import com.example.ecommerce_system.repository.OrderRepository;
+import com.example.ecommerce_system.repository.OrderStatusRepository;
+import com.example.ecommerce_system.repository.ProductBatchRepository;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.repository.RoleRepository;
+import com.example.ecommerce_system.repository.UserRepository;
+import com.example.ecommerce_system.service.OrderService;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
+import com.example.ecommerce_system.util.mapper.OrderMapper;
+import com.example.ecommerce_system.util.registry.OrderStatusRegistry;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that bulk status transitions allocate stock across the batch in request order,
+ * apply it in one pass, report every order's outcome and invalidate caches once.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(OrderService.class)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class BulkOrderStatusTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderStatusRepository orderStatusRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private OrderMapper orderMapper;
+
+    @MockitoBean
+    private PageCacheInvalidator pageCacheInvalidator;
+
+    @MockitoBean
+    private ProductSearchIndex productSearchIndex;
+
+    @MockitoBean
+    private CustomerIdentityResolver customerIdentityResolver;
+
+    @MockitoBean
+    private OrderStatusRegistry orderStatusRegistry;
+
+    private final Map<OrderStatusType, OrderStatus> statuses = new EnumMap<>(OrderStatusType.class);
+    private Customer customer;
+    private Product mug;
+    private Product bowl;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("order_item", "orders", "order_statuses", "product", "category", "customer", "users", "roles"))
+            jdbcTemplate.update("DELETE FROM " + table);
+
+        for (OrderStatusType type : OrderStatusType.values())
+            statuses.put(type, orderStatusRepository.save(OrderStatus.builder()
+                    .statusId(UUID.randomUUID())
+                    .statusName(type)
+                    .build()));
+        when(orderStatusRegistry.get(any())).thenAnswer(invocation -> statuses.get(invocation.getArgument(0)));
+
+        Role role = roleRepository.save(Role.builder().roleName(RoleType.CUSTOMER).description("Shopper").build());
+        User user = userRepository.save(User.builder()
+                .userId(UUID.randomUUID())
+                .email("bulk-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hash")
+                .role(role)
+                .createdAt(Instant.now())
+                .build());
+        customer = customerRepository.save(Customer.builder()
+                .customerId(UUID.randomUUID())
+                .user(user)
+                .firstName("Bulk")
+                .lastName("Buyer")
+                .active(true)
+                .build());
+
+        Category category = categoryRepository.save(Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name("Kitchen")
+                .description("Kitchenware")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build());
+        mug = saveProduct(category, "Mug", 5);
+        bowl = saveProduct(category, "Bowl", 3);
+    }
+
+    @Test
+    @DisplayName("Processing should allocate stock in request order and skip orders that no longer fit")
+    void shouldProcessOrdersThatFitAndReportTheRest() {
+        UUID first = saveOrder(OrderStatusType.PENDING, Map.of(mug, 2, bowl, 1));
+        UUID second = saveOrder(OrderStatusType.PENDING, Map.of(mug, 2, bowl, 2));
+        UUID third = saveOrder(OrderStatusType.PENDING, Map.of(mug, 2));
+        UUID processed = saveOrder(OrderStatusType.PROCESSED, Map.of(mug, 1));
+        UUID cancelled = saveOrder(OrderStatusType.CANCELLED, Map.of(bowl, 1));
+        UUID missing = UUID.randomUUID();
+
+        BulkOrderStatusResult result = orderService.updateOrderStatuses(new BulkOrderStatusRequest(
+                OrderStatusType.PROCESSED, List.of(first, second, third, processed, cancelled, missing, first)));
+
+        Assertions.assertEquals(6, result.getRequested());
+        Assertions.assertEquals(2, result.getUpdated());
+        Assertions.assertEquals(1, result.getUnchanged());
+        Assertions.assertEquals(3, result.getFailed());
+        Assertions.assertEquals(List.of(
+                        BulkOrderOutcome.Result.UPDATED,
+                        BulkOrderOutcome.Result.UPDATED,
+                        BulkOrderOutcome.Result.INSUFFICIENT_STOCK,
+                        BulkOrderOutcome.Result.UNCHANGED,
+                        BulkOrderOutcome.Result.INVALID_TRANSITION,
+                        BulkOrderOutcome.Result.NOT_FOUND),
+                result.getOutcomes().stream().map(BulkOrderOutcome::getResult).toList());
+
+        Assertions.assertEquals(1, stockOf(mug));
+        Assertions.assertEquals(0, stockOf(bowl));
+        Assertions.assertEquals(OrderStatusType.PROCESSED, statusOf(first));
+        Assertions.assertEquals(OrderStatusType.PROCESSED, statusOf(second));
+        Assertions.assertEquals(OrderStatusType.PENDING, statusOf(third));
+        verify(pageCacheInvalidator, times(1)).updated(EntityType.ORDER, List.of(first, second));
+        verify(pageCacheInvalidator, times(1)).updated(eq(EntityType.PRODUCT), eq(Set.of(mug.getProductId(), bowl.getProductId())));
+        verify(productSearchIndex, times(1)).stockReserved(Map.of(mug.getProductId(), 4, bowl.getProductId(), 3));
+    }
+
+    @Test
+    @DisplayName("Cancelling should move only pending orders and leave stock alone")
+    void shouldCancelPendingOrdersOnly() {
+        UUID pending = saveOrder(OrderStatusType.PENDING, Map.of(mug, 2));
+        UUID processed = saveOrder(OrderStatusType.PROCESSED, Map.of(mug, 1));
+        UUID cancelled = saveOrder(OrderStatusType.CANCELLED, Map.of(bowl, 1));
+
+        BulkOrderStatusResult result = orderService.updateOrderStatuses(new BulkOrderStatusRequest(
+                OrderStatusType.CANCELLED, List.of(pending, processed, cancelled)));
+
+        Assertions.assertEquals(1, result.getUpdated());
+        Assertions.assertEquals(1, result.getUnchanged());
+        Assertions.assertEquals(1, result.getFailed());
+        Assertions.assertEquals(OrderStatusType.CANCELLED, statusOf(pending));
+        Assertions.assertEquals(OrderStatusType.PROCESSED, statusOf(processed));
+        Assertions.assertEquals(5, stockOf(mug));
+        verify(pageCacheInvalidator, never()).updated(eq(EntityType.PRODUCT), anyCollection());
+        verify(productSearchIndex, never()).stockReserved(any());
+    }
+
+    @Test
+    @DisplayName("Moving orders back to pending should be rejected")
+    void shouldRejectPendingAsTarget() {
+        UUID order = saveOrder(OrderStatusType.PROCESSED, Map.of(mug, 1));
+
+        Assertions.assertThrows(InvalidOrderStatusException.class, () -> orderService.updateOrderStatuses(
+                new BulkOrderStatusRequest(OrderStatusType.PENDING, List.of(order))));
+        Assertions.assertEquals(OrderStatusType.PROCESSED, statusOf(order));
+    }
+
+    @Test
+    @DisplayName("The Java lock order should match the order the database sorts product ids in")
+    void lockOrderShouldMatchDatabaseOrder() {
+        jdbcTemplate.update("DELETE FROM product");
+        Category category = categoryRepository.findAll().get(0);
+        List<UUID> ids = new ArrayList<>(List.of(
+                new UUID(0x8000000000000000L, 1),
+                new UUID(1, 0x8000000000000000L),
+                new UUID(1, 1)));
+        for (int i = 0; i < 20; i++)
+            ids.add(UUID.randomUUID());
+        for (UUID id : ids)
+            productRepository.save(Product.builder()
+                    .productId(id)
+                    .name("Item")
+                    .description("Item")
+                    .price(1.0)
+                    .stockQuantity(1)
+                    .category(category)
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build());
+
+        List<UUID> databaseOrder = jdbcTemplate.queryForList("SELECT product_id FROM product ORDER BY product_id", UUID.class);
+
+        Assertions.assertEquals(databaseOrder, ids.stream().sorted(ProductBatchRepository.LOCK_ORDER).toList());
+        Assertions.assertNotEquals(databaseOrder, ids.stream().sorted().toList());
+    }
+
+    private Product saveProduct(Category category, String name, int stock) {
+        return productRepository.save(Product.builder()
+                .productId(UUID.randomUUID())
+                .name(name)
+                .description(name)
+                .price(10.0)
+                .stockQuantity(stock)
+                .category(category)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build());
+    }
+
+    private UUID saveOrder(OrderStatusType status, Map<Product, Integer> lines) {
+        Orders order = Orders.builder()
+                .orderId(UUID.randomUUID())
+                .customer(customer)
+                .status(statuses.get(status))
+                .orderDate(Instant.now())
+                .shippingCountry("Ghana")
+                .shippingCity("Accra")
+                .shippingPostalCode("00233")
+                .totalAmount(10.0)
+                .build();
+        List<OrderItem> items = new ArrayList<>();
+        lines.forEach((product, quantity) -> items.add(OrderItem.builder()
+                .orderItemId(UUID.randomUUID())
+                .order(order)
+                .product(product)
+                .quantity(quantity)
+                .priceAtPurchase(product.getPrice())
+                .build()));
+        order.setOrderItems(items);
+        return orderRepository.save(order).getOrderId();
+    }
+
+    private int stockOf(Product product) {
+        Integer stock = jdbcTemplate.queryForObject(
+                "SELECT stock_quantity FROM product WHERE product_id = ?", Integer.class, product.getProductId());
+        return stock == null ? 0 : stock;
+    }
+
+    private OrderStatusType statusOf(UUID orderId) {
+        return OrderStatusType.valueOf(jdbcTemplate.queryForObject(
+                "SELECT s.status_name FROM orders o JOIN order_statuses s ON s.status_id = o.status_id WHERE o.order_id = ?",
+                String.class, orderId));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.config.CacheWarmupProperties;
+import com.example.ecommerce_system.dto.cache.CacheWarmupRegion;
+import com.example.ecommerce_system.dto.cache.CacheWarmupReport;
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.exception.product.ProductNotFoundException;
+import com.example.ecommerce_system.service.CacheWarmupService;
+import com.example.ecommerce_system.service.CategoryService;
+import com.example.ecommerce_system.service.ProductService;
+import com.example.ecommerce_system.util.cache.CoalescingCaffeineCache;
+import com.example.ecommerce_system.util.cache.PageKey;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupServiceTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path dataDir;
+
+    private SimpleCacheManager cacheManager;
+    private CacheWarmupProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(Stream.of("products", "categories", "product_pages", "category_pages")
+                .map(name -> new CoalescingCaffeineCache(name, Caffeine.newBuilder().maximumSize(100).build()))
+                .toList());
+        cacheManager.initializeCaches();
+
+        properties = new CacheWarmupProperties();
+        properties.setFile(dataDir.resolve("hot-keys.tsv"));
+    }
+
+    @Test
+    @DisplayName("Should record replayable hot keys and reload them through the cached services")
+    void shouldRecordAndReplayHotKeys() {
+        UUID productId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        cacheManager.getCache("products").put(productId, "product");
+        cacheManager.getCache("categories").put(categoryId, "category");
+        cacheManager.getCache("categories").put("name_Books", "category");
+        cacheManager.getCache("product_pages").put("all_products_20_0", List.of());
+        cacheManager.getCache("product_pages").put(new PageKey("searchProducts", List.of(new ProductFilter(), 20, 0)), List.of());
+        cacheManager.getCache("category_pages").put("all_categories_10_0", List.of());
+
+        Assertions.assertEquals(5, newService().recordHotKeys());
+
+        CacheWarmupReport report = newService().warmUp();
+
+        verify(productService).getProduct(productId);
+        verify(categoryService).getCategory(categoryId);
+        verify(categoryService).getCategory("Books");
+        verify(productService).getAllProducts(20, 0);
+        verify(categoryService).getAllCategories(10, 0);
+        verify(transactionManager, times(5)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        Assertions.assertEquals(5, report.getKeysRecorded());
+        Assertions.assertEquals(5, report.getKeysLoaded());
+        Assertions.assertEquals(1.0, report.getCoverage());
+    }
+
+    @Test
+    @DisplayName("Should count keys that fail to load against coverage")
+    void shouldReportFailedLoads() throws Exception {
+        UUID present = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        Files.writeString(properties.getFile(), "products\t" + present + "\nproducts\t" + deleted + "\n");
+        when(productService.getProduct(present)).thenReturn(ProductResponseDto.builder().productId(present).build());
+        when(productService.getProduct(deleted)).thenThrow(new ProductNotFoundException(deleted.toString()));
+
+        CacheWarmupReport report = newService().warmUp();
+
+        CacheWarmupRegion products = report.getRegions().get(0);
+        Assertions.assertEquals("products", products.getCacheName());
+        Assertions.assertEquals(2, products.getKeysRecorded());
+        Assertions.assertEquals(1, products.getKeysLoaded());
+        Assertions.assertEquals(1, products.getKeysFailed());
+        Assertions.assertEquals(0.5, report.getCoverage());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous snapshot when no keys are cached yet")
+    void shouldNotOverwriteSnapshotWithEmptyRanking() throws Exception {
+        Files.writeString(properties.getFile(), "products\t" + UUID.randomUUID() + "\n");
+
+        Assertions.assertEquals(0, newService().recordHotKeys());
+
+        Assertions.assertEquals(1, Files.readAllLines(properties.getFile()).size());
+        verifyNoInteractions(productService, categoryService, transactionManager);
+    }
+
+    private CacheWarmupService newService() {
+        return new CacheWarmupService(cacheManager, productService, categoryService, properties, transactionManager);
+    }
+}
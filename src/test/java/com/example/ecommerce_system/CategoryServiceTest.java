@@ -9,7 +9,9 @@ import com.example.ecommerce_system.exception.category.CategoryDeletionException
 import com.example.ecommerce_system.model.Category;
 import com.example.ecommerce_system.repository.CategoryRepository;
 import com.example.ecommerce_system.service.CategoryService;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
 import com.example.ecommerce_system.util.mapper.CategoryMapper;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +40,12 @@ class CategoryServiceTest {
     @Mock
     private CategoryMapper mapper;
 
+    @Mock
+    private PageCacheInvalidator pageCacheInvalidator;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
     @InjectMocks
     private CategoryService categoryService;
 
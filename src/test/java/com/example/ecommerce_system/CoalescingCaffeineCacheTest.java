@@ -0,0 +1,80 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.exception.product.ProductNotFoundException;
+import com.example.ecommerce_system.util.cache.CoalescingCaffeineCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Each loader below performs the invalidation itself, landing it deterministically while its own
+ * load is in flight.
+ */
+class CoalescingCaffeineCacheTest {
+
+    private final UUID productId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+    private CoalescingCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CoalescingCaffeineCache("products", Caffeine.newBuilder().maximumSize(100).build(), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should remember a not-found result until the key is written")
+    void shouldRememberMiss() {
+        Assertions.assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(productId, this::notFound));
+        Assertions.assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(productId, this::notFound));
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, cache.getNegativeHits());
+    }
+
+    @Test
+    @DisplayName("Should not remember a not-found result when the misses were evicted during the load")
+    void shouldNotRememberMissAfterEvictMisses() {
+        Assertions.assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(productId, () -> {
+            cache.evictMisses();
+            return notFound();
+        }));
+
+        Assertions.assertEquals("created", cache.get(productId, () -> "created"));
+        Assertions.assertEquals(0, cache.getNegativeEntryCount());
+    }
+
+    @Test
+    @DisplayName("Should keep a value written during a failed load instead of remembering the miss")
+    void shouldNotRememberMissAfterPut() {
+        Assertions.assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(productId, () -> {
+            cache.put(productId, "created");
+            return notFound();
+        }));
+
+        Assertions.assertEquals("created", cache.get(productId, this::notFound));
+        Assertions.assertEquals(0, cache.getNegativeHits());
+    }
+
+    @Test
+    @DisplayName("Should not remember a not-found result when the key was evicted during the load")
+    void shouldNotRememberMissAfterEvict() {
+        Assertions.assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(productId, () -> {
+            cache.evict(productId);
+            return notFound();
+        }));
+
+        Assertions.assertEquals("created", cache.get(productId, () -> "created"));
+    }
+
+    private String notFound() {
+        loads.incrementAndGet();
+        throw new ProductNotFoundException(productId.toString());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.customer.CustomerIdentity;
+import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
+import com.example.ecommerce_system.repository.CustomerRepository;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerIdentityResolverTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    private CustomerIdentityResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new CustomerIdentityResolver(customerRepository, new ConcurrentMapCacheManager("customer_identities"));
+    }
+
+    @Test
+    @DisplayName("Should load an identity once and serve repeat lookups from the cache")
+    void shouldCacheResolvedIdentity() {
+        UUID userId = UUID.randomUUID();
+        CustomerIdentity identity = new CustomerIdentity(userId, UUID.randomUUID(), null, true);
+        when(customerRepository.findIdentityByUserId(userId)).thenReturn(Optional.of(identity));
+
+        Assertions.assertEquals(identity, resolver.resolve(userId));
+        Assertions.assertEquals(identity, resolver.resolve(userId));
+
+        verify(customerRepository, times(1)).findIdentityByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("Should reload an identity after it is evicted")
+    void shouldReloadAfterEviction() {
+        UUID userId = UUID.randomUUID();
+        UUID customerId = UUID.randomUUID();
+        CustomerIdentity active = new CustomerIdentity(userId, customerId, null, true);
+        CustomerIdentity inactive = new CustomerIdentity(userId, customerId, null, false);
+        when(customerRepository.findIdentityByUserId(userId))
+                .thenReturn(Optional.of(active))
+                .thenReturn(Optional.of(inactive));
+
+        resolver.resolve(userId);
+        resolver.evict(userId);
+
+        Assertions.assertFalse(resolver.resolve(userId).active());
+        verify(customerRepository, times(2)).findIdentityByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("Should throw for unknown users without caching the miss")
+    void shouldNotCacheUnknownUsers() {
+        UUID userId = UUID.randomUUID();
+        when(customerRepository.findIdentityByUserId(userId)).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(CustomerNotFoundException.class, () -> resolver.resolve(userId));
+        Assertions.assertThrows(CustomerNotFoundException.class, () -> resolver.resolve(userId));
+
+        verify(customerRepository, times(2)).findIdentityByUserId(userId);
+    }
+}
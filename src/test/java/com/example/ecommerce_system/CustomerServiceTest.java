@@ -7,6 +7,8 @@ import com.example.ecommerce_system.model.Customer;
 import com.example.ecommerce_system.model.User;
 import com.example.ecommerce_system.repository.CustomerRepository;
 import com.example.ecommerce_system.service.CustomerService;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
 import com.example.ecommerce_system.util.mapper.CustomerMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +37,12 @@ class CustomerServiceTest {
     @Mock
     private CustomerMapper customerMapper;
 
+    @Mock
+    private PageCacheInvalidator pageCacheInvalidator;
+
+    @Mock
+    private CustomerIdentityResolver customerIdentityResolver;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -260,6 +268,7 @@ class CustomerServiceTest {
         Assertions.assertFalse(existing.getActive());
         verify(customerRepository).findById(id);
         verify(customerMapper).toDTO(existing);
+        verify(customerIdentityResolver).evict(user.getUserId());
     }
 
     @Test
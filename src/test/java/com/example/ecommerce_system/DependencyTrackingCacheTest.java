@@ -0,0 +1,65 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.util.cache.DependencyTrackingCache;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageTag;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lands a write's {@code evictDependents} on another thread between a page's dependency registration
+ * and its store. Caffeine weighs a value in {@code put} before taking the entry's lock, so the
+ * weigher is the hook.
+ */
+class DependencyTrackingCacheTest {
+
+    private static final PageTag PRODUCTS = PageTag.type(EntityType.PRODUCT);
+
+    private final AtomicBoolean evictOnNextStore = new AtomicBoolean();
+    private DependencyTrackingCache cache;
+    private Cache productPages;
+
+    @BeforeEach
+    void setUp() {
+        cache = DependencyTrackingCache.create("product_pages", Caffeine.newBuilder()
+                .maximumWeight(1_000)
+                .weigher((key, value) -> {
+                    if (evictOnNextStore.compareAndSet(true, false))
+                        CompletableFuture.runAsync(() -> cache.evictDependents(List.of(PRODUCTS))).join();
+                    return 1;
+                }));
+        productPages = cache.withDependencies(Set.of(PRODUCTS));
+    }
+
+    @Test
+    @DisplayName("A page whose dependencies a concurrent write forgot before the store should not stay cached")
+    void shouldNotKeepPageStoredAfterConcurrentEviction() {
+        evictOnNextStore.set(true);
+        productPages.put("all_products_20_0", List.of("page read before the write"));
+
+        cache.evictDependents(List.of(PRODUCTS));
+
+        Assertions.assertFalse(evictOnNextStore.get());
+        Assertions.assertNull(cache.get("all_products_20_0"));
+    }
+
+    @Test
+    @DisplayName("A page stored without interference should be evicted by a write to its dependencies")
+    void shouldEvictDependentPage() {
+        productPages.put("all_products_20_0", List.of("page"));
+        Assertions.assertNotNull(cache.get("all_products_20_0"));
+
+        cache.evictDependents(List.of(PRODUCTS));
+
+        Assertions.assertNull(cache.get("all_products_20_0"));
+    }
+}
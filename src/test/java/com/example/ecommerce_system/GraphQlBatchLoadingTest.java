@@ -0,0 +1,257 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.config.GraphQLScalarConfig;
+import com.example.ecommerce_system.config.ProductConfig;
+import com.example.ecommerce_system.controller.graphql.ProductGraphQlController;
+import com.example.ecommerce_system.controller.graphql.ReviewGraphQLController;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Customer;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.model.Review;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.service.CategoryService;
+import com.example.ecommerce_system.service.CustomerService;
+import com.example.ecommerce_system.service.ProductService;
+import com.example.ecommerce_system.service.ReviewService;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
+import com.example.ecommerce_system.util.mapper.CategoryMapperImpl;
+import com.example.ecommerce_system.util.mapper.CustomerMapperImpl;
+import com.example.ecommerce_system.util.mapper.ProductMapperImpl;
+import com.example.ecommerce_system.util.mapper.ReviewMapperImpl;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.graphql.GraphQlAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.test.tester.ExecutionGraphQlServiceTester;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Verifies that a page of products with reviews resolves its nested reviews,
+ * review authors and categories without per-row queries, so the number of SQL
+ * statements stays the same regardless of page size. Statements are counted at
+ * the connection level so both JPA and JDBC access paths are included.
+ */
+@DataJpaTest
+@ImportAutoConfiguration(GraphQlAutoConfiguration.class)
+@Import({
+        GraphQLScalarConfig.class,
+        ProductConfig.class,
+        ProductGraphQlController.class,
+        ReviewGraphQLController.class,
+        ProductService.class,
+        ReviewService.class,
+        CategoryService.class,
+        CustomerService.class,
+        ProductMapperImpl.class,
+        ReviewMapperImpl.class,
+        CategoryMapperImpl.class,
+        CustomerMapperImpl.class,
+        GraphQlBatchLoadingTest.StatementCounterConfig.class
+})
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class GraphQlBatchLoadingTest {
+
+    private static final String QUERY = """
+            query($limit: Int!) {
+              getAllProductsWithReviews(limit: $limit, offset: 0, reviewLimit: 2) {
+                productId
+                name
+                category { categoryId name }
+                reviews { reviewId rating customer { customerId firstName email } }
+              }
+            }
+            """;
+
+    private static final int PRODUCTS = 12;
+    private static final int CATEGORIES = 4;
+    private static final int CUSTOMERS = 5;
+    private static final int REVIEWS_PER_PRODUCT = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @MockitoBean
+    private PageCacheInvalidator pageCacheInvalidator;
+
+    @MockitoBean
+    private ProductSearchIndex productSearchIndex;
+
+    @MockitoBean
+    private CustomerIdentityResolver customerIdentityResolver;
+
+    private GraphQlTester graphQlTester;
+
+    @BeforeEach
+    void setUp() {
+        graphQlTester = ExecutionGraphQlServiceTester.create(graphQlService);
+
+        Role role = entityManager.persist(Role.builder().roleName(RoleType.CUSTOMER).description("Shopper").build());
+        Customer[] customers = new Customer[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            User user = entityManager.persist(User.builder()
+                    .userId(UUID.randomUUID())
+                    .email("customer" + i + "@example.com")
+                    .passwordHash("hash")
+                    .role(role)
+                    .createdAt(Instant.now())
+                    .build());
+            customers[i] = entityManager.persist(Customer.builder()
+                    .customerId(UUID.randomUUID())
+                    .user(user)
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .active(true)
+                    .build());
+        }
+
+        Category[] categories = new Category[CATEGORIES];
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories[i] = entityManager.persist(Category.builder()
+                    .categoryId(UUID.randomUUID())
+                    .name("Category " + i)
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build());
+        }
+
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = entityManager.persist(Product.builder()
+                    .productId(UUID.randomUUID())
+                    .name("Product " + i)
+                    .price(10.0 + i)
+                    .stockQuantity(5)
+                    .category(categories[i % CATEGORIES])
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build());
+            for (int j = 0; j < REVIEWS_PER_PRODUCT; j++) {
+                entityManager.persist(Review.builder()
+                        .reviewId(UUID.randomUUID())
+                        .product(product)
+                        .customer(customers[(i + j) % CUSTOMERS])
+                        .rating(1 + j)
+                        .comment("Review " + j)
+                        .createdAt(Instant.now().minusSeconds(j))
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should issue the same number of statements for small and large pages")
+    void shouldKeepStatementCountConstantAcrossPageSizes() {
+        long smallPage = countStatements(2);
+        entityManager.clear();
+        long largePage = countStatements(PRODUCTS);
+
+        Assertions.assertEquals(smallPage, largePage);
+        Assertions.assertEquals(2, largePage, "Expected products with reviews plus one customer batch");
+    }
+
+    @Test
+    @DisplayName("Should resolve categories, limited reviews and their authors for every product")
+    void shouldResolveNestedFieldsThroughBatchLoaders() {
+        GraphQlTester.Response response = graphQlTester.document(QUERY)
+                .variable("limit", PRODUCTS)
+                .execute();
+
+        response.errors().verify();
+        response.path("getAllProductsWithReviews").entityList(Object.class).hasSize(PRODUCTS);
+        response.path("getAllProductsWithReviews[*].category.name").entityList(String.class).hasSize(PRODUCTS);
+        response.path("getAllProductsWithReviews[*].reviews[*].reviewId").entityList(String.class).hasSize(PRODUCTS * 2);
+
+        List<String> emails = response.path("getAllProductsWithReviews[*].reviews[*].customer.email")
+                .entityList(String.class).get();
+        Assertions.assertEquals(PRODUCTS * 2, emails.size());
+        Assertions.assertTrue(emails.stream().allMatch(email -> email.endsWith("@example.com")));
+    }
+
+    private long countStatements(int limit) {
+        StatementCounterConfig.STATEMENTS.set(0);
+
+        graphQlTester.document(QUERY)
+                .variable("limit", limit)
+                .execute()
+                .errors().verify()
+                .path("getAllProductsWithReviews").entityList(Object.class).hasSize(limit);
+
+        return StatementCounterConfig.STATEMENTS.get();
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+        private static final AtomicLong STATEMENTS = new AtomicLong();
+        private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+
+        private static class CountingDataSource extends DelegatingDataSource {
+            CountingDataSource(DataSource target) {
+                super(target);
+            }
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(
+                        Connection.class.getClassLoader(),
+                        new Class<?>[]{Connection.class},
+                        (proxy, method, args) -> {
+                            if (STATEMENT_FACTORIES.contains(method.getName()))
+                                STATEMENTS.incrementAndGet();
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                        });
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.ecommerce_system;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.example.ecommerce_system.util.security.JwtTokenProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 100);
+    }
+
+    @Test
+    @DisplayName("Should verify an issued token and return its claims")
+    void shouldVerifyIssuedToken() {
+        String token = jwtTokenProvider.issue("user-1", "CUSTOMER", Duration.ofHours(1));
+
+        JwtTokenProvider.VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        Assertions.assertEquals("user-1", verified.subject());
+        Assertions.assertEquals("CUSTOMER", verified.role());
+        Assertions.assertTrue(verified.expiresAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated tokens from the verified-token cache")
+    void shouldSkipVerificationForRepeatedToken() {
+        String token = jwtTokenProvider.issue("user-1", "ADMIN", Duration.ofHours(1));
+
+        JwtTokenProvider.VerifiedToken first = jwtTokenProvider.verify(token);
+        JwtTokenProvider.VerifiedToken second = jwtTokenProvider.verify(token);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, jwtTokenProvider.verifiedTokenStats().hitCount());
+        Assertions.assertEquals(1, jwtTokenProvider.verifiedTokenStats().missCount());
+    }
+
+    @Test
+    @DisplayName("Should reject a token whose signature was tampered with even after the original was cached")
+    void shouldRejectTamperedToken() {
+        String token = jwtTokenProvider.issue("user-1", "CUSTOMER", Duration.ofHours(1));
+        jwtTokenProvider.verify(token);
+
+        String forged = JWT.create()
+                .withSubject("user-1")
+                .withClaim("role", "ADMIN")
+                .withExpiresAt(Date.from(Instant.now().plusSeconds(3600)))
+                .sign(Algorithm.HMAC256("some-other-secret"));
+
+        Assertions.assertThrows(JWTVerificationException.class, () -> jwtTokenProvider.verify(forged));
+    }
+
+    @Test
+    @DisplayName("Should reject expired tokens and tokens without expiry")
+    void shouldRejectExpiredAndNonExpiringTokens() {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+        String expired = JWT.create()
+                .withSubject("user-1")
+                .withClaim("role", "CUSTOMER")
+                .withExpiresAt(Date.from(Instant.now().minusSeconds(60)))
+                .sign(algorithm);
+        String nonExpiring = JWT.create()
+                .withSubject("user-1")
+                .withClaim("role", "CUSTOMER")
+                .sign(algorithm);
+
+        Assertions.assertThrows(JWTVerificationException.class, () -> jwtTokenProvider.verify(expired));
+        Assertions.assertThrows(JWTVerificationException.class, () -> jwtTokenProvider.verify(nonExpiring));
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.CursorPageDto;
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.exception.InvalidCursorException;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.util.CursorPagination;
+import com.example.ecommerce_system.util.ProductSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class KeysetPaginationTest {
+
+    private static final Sort SORT = Sort.by(Sort.Order.asc("name"), Sort.Order.asc("productId"));
+    private static final Set<String> KEYS = Set.of("name", "productId");
+    private static final int PRODUCTS = 23;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<Product> saved;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name("Books")
+                .description("Paper")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build());
+
+        saved = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            saved.add(productRepository.save(Product.builder()
+                    .productId(UUID.randomUUID())
+                    .name("Book " + (i % 5))
+                    .description("Volume " + i)
+                    .price(10.0 + i)
+                    .stockQuantity(5)
+                    .category(category)
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build()));
+        }
+        productRepository.flush();
+    }
+
+    @Test
+    @DisplayName("Should visit every product exactly once in sort order with one statement per page")
+    void shouldScrollThroughAllProductsWithoutCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<UUID> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageDto<UUID> page = scroll(ProductFilter.builder().build(), 5, cursor);
+            visited.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        List<UUID> expected = saved.stream()
+                .sorted(Comparator.comparing(Product::getName).thenComparing(product -> product.getProductId().toString()))
+                .map(Product::getProductId)
+                .toList();
+
+        Assertions.assertEquals(expected, visited);
+        Assertions.assertEquals(5, pages);
+        Assertions.assertEquals(pages, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should read an offset page as a slice without a count query")
+    void shouldReadOffsetPageWithoutCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Slice<Product> page = productRepository.findAllBy(PageRequest.of(4, 5, SORT));
+
+        Assertions.assertEquals(3, page.getNumberOfElements());
+        Assertions.assertFalse(page.hasNext());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should apply filters together with the cursor")
+    void shouldScrollFilteredProducts() {
+        ProductFilter filter = ProductFilter.builder().minPrice(20.0).build();
+
+        CursorPageDto<UUID> first = scroll(filter, 10, null);
+        CursorPageDto<UUID> second = scroll(filter, 10, first.getNextCursor());
+
+        Assertions.assertTrue(first.isHasMore());
+        Assertions.assertEquals(3, second.getItems().size());
+        Assertions.assertFalse(second.isHasMore());
+        Assertions.assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject tampered cursors")
+    void shouldRejectInvalidCursor() {
+        Assertions.assertThrows(InvalidCursorException.class, () -> CursorPagination.decode("not-a-cursor", KEYS));
+
+        String ordersCursor = scroll(ProductFilter.builder().build(), 1, null).getNextCursor();
+        Assertions.assertThrows(InvalidCursorException.class,
+                () -> CursorPagination.decode(ordersCursor, Set.of("orderDate", "orderId")));
+    }
+
+    private CursorPageDto<UUID> scroll(ProductFilter filter, int limit, String cursor) {
+        Window<Product> window = productRepository.findBy(ProductSpecification.buildSpecification(filter), query -> query
+                .sortBy(SORT)
+                .limit(limit)
+                .scroll(CursorPagination.decode(cursor, KEYS)));
+        return CursorPagination.toPage(window, products -> products.stream().map(Product::getProductId).toList());
+    }
+}
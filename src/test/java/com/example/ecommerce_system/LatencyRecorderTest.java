@@ -0,0 +1,110 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.config.LatencyMetricsProperties;
+import com.example.ecommerce_system.dto.metrics.LatencySnapshot;
+import com.example.ecommerce_system.util.metrics.LatencyRecorder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class LatencyRecorderTest {
+
+    private LatencyMetricsProperties properties;
+    private LatencyRecorder latencyRecorder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LatencyMetricsProperties();
+        properties.setIntervals(3);
+        latencyRecorder = new LatencyRecorder(properties);
+    }
+
+    @Test
+    @DisplayName("Should report percentiles in milliseconds for each operation")
+    void shouldReportPercentilesPerOperation() {
+        for (int i = 1; i <= 1000; i++)
+            latencyRecorder.record("REST", "ProductController.getProducts()", TimeUnit.MILLISECONDS.toNanos(i));
+        latencyRecorder.record("GraphQL", "OrderResolver.orders()", TimeUnit.MILLISECONDS.toNanos(2));
+
+        List<LatencySnapshot> snapshots = latencyRecorder.snapshot();
+
+        Assertions.assertEquals(2, snapshots.size());
+        LatencySnapshot rest = snapshots.get(0);
+        Assertions.assertEquals("REST", rest.getType());
+        Assertions.assertEquals(1000, rest.getCount());
+        Assertions.assertEquals(500, rest.getP50Ms(), 5);
+        Assertions.assertEquals(900, rest.getP90Ms(), 9);
+        Assertions.assertEquals(990, rest.getP99Ms(), 10);
+        Assertions.assertEquals(1000, rest.getMaxMs(), 10);
+        Assertions.assertTrue(rest.getThroughputPerSecond() > 0);
+        Assertions.assertEquals("GraphQL", snapshots.get(1).getType());
+    }
+
+    @Test
+    @DisplayName("Should drop samples once they rotate out of the window")
+    void shouldDropSamplesOutsideWindow() {
+        latencyRecorder.record("REST", "op", TimeUnit.MILLISECONDS.toNanos(5));
+        latencyRecorder.rotate();
+        latencyRecorder.record("REST", "op", TimeUnit.MILLISECONDS.toNanos(5));
+
+        Assertions.assertEquals(2, latencyRecorder.snapshot().get(0).getCount());
+
+        latencyRecorder.rotate();
+        latencyRecorder.rotate();
+
+        Assertions.assertEquals(1, latencyRecorder.snapshot().get(0).getCount());
+
+        latencyRecorder.rotate();
+
+        Assertions.assertTrue(latencyRecorder.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not lose samples recorded concurrently with snapshots")
+    void shouldNotLoseConcurrentSamples() throws Exception {
+        int threads = 8;
+        int samplesPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                writers.add(executor.submit(() -> {
+                    startSignal.await();
+                    for (int j = 0; j < samplesPerThread; j++)
+                        latencyRecorder.record("REST", "hot", 50_000L + j);
+                    return null;
+                }));
+            }
+            startSignal.countDown();
+            for (int i = 0; i < 20; i++)
+                latencyRecorder.snapshot();
+            for (Future<?> writer : writers)
+                writer.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals((long) threads * samplesPerThread, latencyRecorder.snapshot().get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("Should clamp latencies above the highest trackable value")
+    void shouldClampOutOfRangeLatencies() {
+        latencyRecorder.record("REST", "slow", TimeUnit.MINUTES.toNanos(10));
+
+        LatencySnapshot snapshot = latencyRecorder.snapshot().get(0);
+
+        Assertions.assertEquals(1, snapshot.getCount());
+        Assertions.assertEquals(properties.getHighestTrackable().toMillis(), snapshot.getMaxMs(), 1000);
+    }
+}
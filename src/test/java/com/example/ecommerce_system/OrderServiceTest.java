@@ -1,5 +1,6 @@
 package com.example.ecommerce_system;
 
+import com.example.ecommerce_system.dto.customer.CustomerIdentity;
 import com.example.ecommerce_system.dto.orders.OrderFilter;
 import com.example.ecommerce_system.dto.orders.OrderItemDto;
 import com.example.ecommerce_system.dto.orders.OrderRequestDto;
@@ -9,12 +10,17 @@ import com.example.ecommerce_system.exception.customer.CustomerNotFoundException
 import com.example.ecommerce_system.exception.order.InvalidOrderCancellationException;
 import com.example.ecommerce_system.exception.order.InvalidOrderStatusException;
 import com.example.ecommerce_system.exception.order.OrderDoesNotExist;
+import com.example.ecommerce_system.exception.order.UnavailableOrderItemsException;
 import com.example.ecommerce_system.exception.product.InsufficientProductStock;
-import com.example.ecommerce_system.exception.product.ProductNotFoundException;
 import com.example.ecommerce_system.model.*;
 import com.example.ecommerce_system.repository.*;
 import com.example.ecommerce_system.service.OrderService;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
 import com.example.ecommerce_system.util.mapper.OrderMapper;
+import com.example.ecommerce_system.util.registry.OrderStatusRegistry;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +38,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.Mockito.*;
@@ -43,17 +50,26 @@ class OrderServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private OrderStatusRepository orderStatusRepository;
+    private OrderStatusRegistry orderStatusRegistry;
 
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private CustomerIdentityResolver customerIdentityResolver;
+
     @Mock
     private ProductRepository productRepository;
 
     @Mock
     private OrderMapper orderMapper;
 
+    @Mock
+    private PageCacheInvalidator pageCacheInvalidator;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -138,10 +154,10 @@ class OrderServiceTest {
                 .totalAmount(2400.0)
                 .build();
 
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
-        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING))
-                .thenReturn(Optional.of(pendingStatus));
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, customer));
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customer);
+        when(orderStatusRegistry.get(OrderStatusType.PENDING)).thenReturn(pendingStatus);
+        when(productRepository.findAllById(Set.of(productId))).thenReturn(List.of(product));
         when(orderRepository.save(any(Orders.class))).thenReturn(savedOrder);
         when(orderMapper.toDto(any(Orders.class))).thenReturn(responseDto);
 
@@ -149,8 +165,9 @@ class OrderServiceTest {
 
         Assertions.assertNotNull(response.getOrderId());
         Assertions.assertEquals(OrderStatusType.PENDING.name(), response.getStatus());
-        verify(customerRepository).findCustomerByUser_UserId(userId);
-        verify(productRepository).findById(productId);
+        verify(customerIdentityResolver).resolve(userId);
+        verify(productRepository).findAllById(Set.of(productId));
+        verify(productRepository, never()).findById(any());
         verify(orderRepository).save(any(Orders.class));
     }
 
@@ -162,14 +179,14 @@ class OrderServiceTest {
                 .items(List.of())
                 .build();
 
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.empty());
+        when(customerIdentityResolver.resolve(userId)).thenThrow(new CustomerNotFoundException(userId.toString()));
 
         Assertions.assertThrows(
                 CustomerNotFoundException.class,
                 () -> orderService.placeOrder(request, userId)
         );
 
-        verify(customerRepository).findCustomerByUser_UserId(userId);
+        verify(customerIdentityResolver).resolve(userId);
         verify(orderRepository, never()).save(any());
     }
 
@@ -201,17 +218,17 @@ class OrderServiceTest {
                 .postalCode("00233")
                 .build();
 
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
-        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING))
-                .thenReturn(Optional.of(pendingStatus));
-        when(productRepository.findById(productId)).thenReturn(Optional.empty());
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, customer));
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customer);
+        when(orderStatusRegistry.get(OrderStatusType.PENDING)).thenReturn(pendingStatus);
+        when(productRepository.findAllById(Set.of(productId))).thenReturn(List.of());
 
         Assertions.assertThrows(
-                ProductNotFoundException.class,
+                UnavailableOrderItemsException.class,
                 () -> orderService.placeOrder(request, userId)
         );
 
-        verify(productRepository).findById(productId);
+        verify(productRepository).findAllById(Set.of(productId));
         verify(orderRepository, never()).save(any());
     }
 
@@ -248,16 +265,101 @@ class OrderServiceTest {
                 .postalCode("00233")
                 .build();
 
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
-        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING))
-                .thenReturn(Optional.of(pendingStatus));
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, customer));
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customer);
+        when(orderStatusRegistry.get(OrderStatusType.PENDING)).thenReturn(pendingStatus);
+        when(productRepository.findAllById(Set.of(productId))).thenReturn(List.of(product));
 
         Assertions.assertThrows(
-                InsufficientProductStock.class,
+                UnavailableOrderItemsException.class,
+                () -> orderService.placeOrder(request, userId)
+        );
+
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should merge duplicate product lines into a single order item")
+    void shouldMergeDuplicateProductLines() {
+        UUID userId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+
+        Customer customer = Customer.builder()
+                .customerId(UUID.randomUUID())
+                .user(User.builder().userId(userId).build())
+                .build();
+
+        Product product = Product.builder()
+                .productId(productId)
+                .price(100.0)
+                .stockQuantity(5)
+                .build();
+
+        OrderRequestDto request = OrderRequestDto.builder()
+                .items(List.of(
+                        OrderItemDto.builder().productId(productId).quantity(2).build(),
+                        OrderItemDto.builder().productId(productId).quantity(3).build()
+                ))
+                .city("Accra")
+                .country("Ghana")
+                .postalCode("00233")
+                .build();
+
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, customer));
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customer);
+        when(orderStatusRegistry.get(OrderStatusType.PENDING)).thenReturn(pendingStatus);
+        when(productRepository.findAllById(Set.of(productId))).thenReturn(List.of(product));
+        when(orderRepository.save(any(Orders.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toDto(any(Orders.class))).thenReturn(OrderResponseDto.builder().build());
+
+        orderService.placeOrder(request, userId);
+
+        verify(orderRepository).save(argThat(order -> order.getTotalAmount() == 500.0));
+        verify(orderMapper).toDto(argThat(order ->
+                order.getOrderItems().size() == 1 && order.getOrderItems().get(0).getQuantity() == 5));
+    }
+
+    @Test
+    @DisplayName("Should report every missing and under-stocked product in one error")
+    void shouldReportAllUnavailableProductsTogether() {
+        UUID userId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        UUID lowStockId = UUID.randomUUID();
+
+        Customer customer = Customer.builder()
+                .customerId(UUID.randomUUID())
+                .user(User.builder().userId(userId).build())
+                .build();
+
+        Product lowStock = Product.builder()
+                .productId(lowStockId)
+                .price(10.0)
+                .stockQuantity(1)
+                .build();
+
+        OrderRequestDto request = OrderRequestDto.builder()
+                .items(List.of(
+                        OrderItemDto.builder().productId(missingId).quantity(1).build(),
+                        OrderItemDto.builder().productId(lowStockId).quantity(4).build()
+                ))
+                .city("Accra")
+                .country("Ghana")
+                .postalCode("00233")
+                .build();
+
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, customer));
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customer);
+        when(orderStatusRegistry.get(OrderStatusType.PENDING)).thenReturn(pendingStatus);
+        when(productRepository.findAllById(Set.of(missingId, lowStockId))).thenReturn(List.of(lowStock));
+
+        UnavailableOrderItemsException exception = Assertions.assertThrows(
+                UnavailableOrderItemsException.class,
                 () -> orderService.placeOrder(request, userId)
         );
 
+        Assertions.assertTrue(exception.getMessage().contains(missingId.toString()));
+        Assertions.assertTrue(exception.getMessage().contains(lowStockId.toString()));
+        verify(productRepository, times(1)).findAllById(any());
         verify(orderRepository, never()).save(any());
     }
 
@@ -332,13 +434,13 @@ class OrderServiceTest {
                 OrderResponseDto.builder().orderId(order2.getOrderId()).build()
         );
 
-        when(orderRepository.findAll(any(PageRequest.class))).thenReturn(ordersPage);
+        when(orderRepository.findAllBy(any(PageRequest.class))).thenReturn(ordersPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(responseDtos);
 
         List<OrderResponseDto> response = orderService.getAllOrders(10, 0);
 
         Assertions.assertEquals(2, response.size());
-        verify(orderRepository).findAll(any(PageRequest.class));
+        verify(orderRepository).findAllBy(any(PageRequest.class));
     }
 
     @Test
@@ -372,7 +474,7 @@ class OrderServiceTest {
 
         Page<Orders> ordersPage = new PageImpl<>(List.of(order), PageRequest.of(10, 5), 0);
 
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, customer));
         when(orderRepository.findAll(any(Specification.class), any(PageRequest.class)))
                 .thenReturn(ordersPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(responseDtos);
@@ -380,7 +482,7 @@ class OrderServiceTest {
         List<OrderResponseDto> response = orderService.getCustomerOrders(userId, 10, 0);
 
         Assertions.assertEquals(1, response.size());
-        verify(customerRepository).findCustomerByUser_UserId(userId);
+        verify(customerIdentityResolver).resolve(userId);
         verify(orderRepository).findAll(any(Specification.class), any(PageRequest.class));
     }
 
@@ -389,14 +491,14 @@ class OrderServiceTest {
     void shouldThrowWhenGettingOrdersForNonExistingCustomer() {
         UUID userId = UUID.randomUUID();
 
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.empty());
+        when(customerIdentityResolver.resolve(userId)).thenThrow(new CustomerNotFoundException(userId.toString()));
 
         Assertions.assertThrows(
                 CustomerNotFoundException.class,
                 () -> orderService.getCustomerOrders(userId, 10, 0)
         );
 
-        verify(customerRepository).findCustomerByUser_UserId(userId);
+        verify(customerIdentityResolver).resolve(userId);
         verify(orderRepository, never()).findAllByCustomer_CustomerId(any(), any());
     }
 
@@ -405,13 +507,13 @@ class OrderServiceTest {
     void shouldHandlePaginationInGetAllOrders() {
         Page<Orders> emptyPage = new PageImpl<>(List.of());
 
-        when(orderRepository.findAll(any(PageRequest.class))).thenReturn(emptyPage);
+        when(orderRepository.findAllBy(any(PageRequest.class))).thenReturn(emptyPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(List.of());
 
         List<OrderResponseDto> response = orderService.getAllOrders(5, 10);
 
         Assertions.assertEquals(0, response.size());
-        verify(orderRepository).findAll(any(PageRequest.class));
+        verify(orderRepository).findAllBy(any(PageRequest.class));
     }
 
     @Test
@@ -432,7 +534,7 @@ class OrderServiceTest {
 
         Page<Orders> emptyPage = new PageImpl<>(List.of());
 
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, customer));
         when(orderRepository.findAll(any(Specification.class), any(PageRequest.class)))
                 .thenReturn(emptyPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(List.of());
@@ -507,11 +609,10 @@ class OrderServiceTest {
                 .totalAmount(1900.0)
                 .build();
 
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
-        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING))
-                .thenReturn(Optional.of(pendingStatus));
-        when(productRepository.findById(productId1)).thenReturn(Optional.of(product1));
-        when(productRepository.findById(productId2)).thenReturn(Optional.of(product2));
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, customer));
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customer);
+        when(orderStatusRegistry.get(OrderStatusType.PENDING)).thenReturn(pendingStatus);
+        when(productRepository.findAllById(Set.of(productId1, productId2))).thenReturn(List.of(product1, product2));
         when(orderRepository.save(any(Orders.class))).thenReturn(savedOrder);
         when(orderMapper.toDto(any(Orders.class))).thenReturn(responseDto);
 
@@ -546,17 +647,16 @@ class OrderServiceTest {
                 .status(OrderStatusType.CANCELLED)
                 .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
-        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.CANCELLED))
-                .thenReturn(Optional.of(cancelledStatus));
+        when(orderRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(existingOrder));
+        when(orderStatusRegistry.get(OrderStatusType.CANCELLED)).thenReturn(cancelledStatus);
         when(orderMapper.toDto(any(Orders.class))).thenReturn(responseDto);
 
         OrderResponseDto response = orderService.updateOrderStatus(orderId, request);
 
         Assertions.assertEquals(OrderStatusType.CANCELLED.name(), response.getStatus());
         Assertions.assertEquals(cancelledStatus, existingOrder.getStatus());
-        verify(orderRepository).findById(orderId);
-        verify(orderStatusRepository).findOrderStatusByStatusName(OrderStatusType.CANCELLED);
+        verify(orderRepository).findByIdForUpdate(orderId);
+        verify(orderStatusRegistry).get(OrderStatusType.CANCELLED);
         verify(orderMapper).toDto(existingOrder);
     }
 
@@ -597,20 +697,21 @@ class OrderServiceTest {
                 .status(OrderStatusType.PROCESSED)
                 .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
-        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PROCESSED))
-                .thenReturn(Optional.of(processedStatus));
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(orderRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(existingOrder));
+        when(orderStatusRegistry.get(OrderStatusType.PROCESSED)).thenReturn(processedStatus);
+        when(productRepository.decrementStock(eq(productId), eq(2), any(Instant.class))).thenReturn(1);
         when(orderMapper.toDto(any(Orders.class))).thenReturn(responseDto);
 
         OrderResponseDto response = orderService.updateOrderStatus(orderId, request);
 
         Assertions.assertEquals(OrderStatusType.PROCESSED.name(), response.getStatus());
         Assertions.assertEquals(processedStatus, existingOrder.getStatus());
-        Assertions.assertEquals(8, product.getStockQuantity());
-        verify(orderRepository).findById(orderId);
-        verify(orderStatusRepository).findOrderStatusByStatusName(OrderStatusType.PROCESSED);
-        verify(productRepository).save(product);
+        verify(orderRepository).findByIdForUpdate(orderId);
+        verify(orderStatusRegistry).get(OrderStatusType.PROCESSED);
+        verify(productRepository).decrementStock(eq(productId), eq(2), any(Instant.class));
+        verify(productRepository, never()).save(any(Product.class));
+        verify(pageCacheInvalidator).updated(EntityType.PRODUCT, Set.of(productId));
+        verify(pageCacheInvalidator).updated(EntityType.ORDER, orderId);
         verify(orderMapper).toDto(existingOrder);
     }
 
@@ -629,15 +730,42 @@ class OrderServiceTest {
                 .status(OrderStatusType.CANCELLED)
                 .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(existingOrder));
 
         Assertions.assertThrows(
                 InvalidOrderCancellationException.class,
                 () -> orderService.updateOrderStatus(orderId, request)
         );
 
-        verify(orderRepository).findById(orderId);
-        verify(orderStatusRepository, never()).findOrderStatusByStatusName(any());
+        verify(orderRepository).findByIdForUpdate(orderId);
+        verify(orderStatusRegistry, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("Should throw error when processing cancelled order")
+    void shouldThrowWhenProcessingCancelledOrder() {
+        UUID orderId = UUID.randomUUID();
+
+        Orders existingOrder = Orders.builder()
+                .orderId(orderId)
+                .status(cancelledStatus)
+                .orderItems(new ArrayList<>())
+                .build();
+
+        OrderRequestDto request = OrderRequestDto.builder()
+                .status(OrderStatusType.PROCESSED)
+                .build();
+
+        when(orderRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(existingOrder));
+
+        Assertions.assertThrows(
+                InvalidOrderStatusException.class,
+                () -> orderService.updateOrderStatus(orderId, request)
+        );
+
+        Assertions.assertEquals(cancelledStatus, existingOrder.getStatus());
+        verify(productRepository, never()).decrementStock(any(UUID.class), anyInt(), any(Instant.class));
+        verify(orderStatusRegistry, never()).get(any());
     }
 
     @Test
@@ -655,15 +783,15 @@ class OrderServiceTest {
                 .status(OrderStatusType.PENDING)
                 .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(existingOrder));
 
         Assertions.assertThrows(
                 InvalidOrderStatusException.class,
                 () -> orderService.updateOrderStatus(orderId, request)
         );
 
-        verify(orderRepository).findById(orderId);
-        verify(orderStatusRepository, never()).findOrderStatusByStatusName(any());
+        verify(orderRepository).findByIdForUpdate(orderId);
+        verify(orderStatusRegistry, never()).get(any());
     }
 
     @Test
@@ -692,14 +820,17 @@ class OrderServiceTest {
                 .status(OrderStatusType.PROCESSED)
                 .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findByIdForUpdate(orderId)).thenReturn(Optional.of(existingOrder));
+        when(productRepository.decrementStock(eq(productId), eq(10), any(Instant.class))).thenReturn(0);
 
         Assertions.assertThrows(
                 InsufficientProductStock.class,
                 () -> orderService.updateOrderStatus(orderId, request)
         );
 
-        verify(orderRepository).findById(orderId);
+        Assertions.assertEquals(pendingStatus, existingOrder.getStatus());
+        verify(orderRepository).findByIdForUpdate(orderId);
+        verifyNoInteractions(pageCacheInvalidator);
     }
 
     @Test
@@ -799,4 +930,8 @@ class OrderServiceTest {
         Assertions.assertEquals(1, response.size());
         verify(orderRepository).findAll(any(Specification.class), eq(PageRequest.of(5, 5, org.springframework.data.domain.Sort.by("orderDate").descending())));
     }
+
+    private static CustomerIdentity identityOf(UUID userId, Customer customer) {
+        return new CustomerIdentity(userId, customer.getCustomerId(), null, customer.getActive());
+    }
 }
@@ -0,0 +1,86 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.config.PayloadMetricsProperties;
+import com.example.ecommerce_system.util.metrics.PayloadCountingFilter;
+import com.example.ecommerce_system.util.metrics.ServletPayloadSizeEstimator;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+class PayloadCountingFilterTest {
+
+    private final ServletPayloadSizeEstimator estimator = new ServletPayloadSizeEstimator();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should count streamed request bytes and pass the response through unchanged")
+    void shouldCountRequestAndResponseBytes() throws Exception {
+        byte[] body = "{\"name\":\"Laptop\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/admin/products");
+        request.setContent(body);
+        request.removeHeader("Content-Length");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicLong estimated = new AtomicLong();
+
+        filter(1.0).doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                req.getInputStream().readAllBytes();
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+                estimated.set(estimator.estimateRequestSize());
+                res.getWriter().write("created");
+            }
+        }));
+
+        Assertions.assertEquals(body.length, estimated.get());
+        Assertions.assertEquals("created", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should fall back to Content-Length when the request is not sampled")
+    void shouldUseContentLengthWhenNotSampled() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+        request.setContent(new byte[128]);
+        AtomicLong estimated = new AtomicLong();
+
+        filter(0.0).doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                Assertions.assertSame(request, req);
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+                estimated.set(estimator.estimateRequestSize());
+            }
+        }));
+
+        Assertions.assertEquals(128, estimated.get());
+    }
+
+    @Test
+    @DisplayName("Should report zero outside of a request")
+    void shouldReportZeroWithoutRequest() {
+        Assertions.assertEquals(0, estimator.estimateRequestSize());
+    }
+
+    private PayloadCountingFilter filter(double sampleRate) {
+        PayloadMetricsProperties properties = new PayloadMetricsProperties();
+        properties.setSampleRate(sampleRate);
+        return new PayloadCountingFilter(properties);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.config.ProductConfig;
+import com.example.ecommerce_system.dto.product.ProductImportError;
+import com.example.ecommerce_system.dto.product.ProductImportResult;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.service.ProductImportService;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.importer.ProductImportFormat;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Verifies that bulk import writes every valid row across several batches, reports rejected rows
+ * by line number, isolates rows the database refuses, and invalidates product pages only once.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProductImportService.class, ProductConfig.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "product.import.batch-size=2",
+        "product.import.max-reported-errors=3"
+})
+class ProductImportServiceTest {
+
+    @Autowired
+    private ProductImportService importService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private PageCacheInvalidator pageCacheInvalidator;
+
+    @MockitoBean
+    private ProductSearchIndex productSearchIndex;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("product", "category"))
+            jdbcTemplate.update("DELETE FROM " + table);
+        categoryId = categoryRepository.save(Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name("Kitchen")
+                .description("Kitchenware")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build()).getCategoryId();
+    }
+
+    @Test
+    @DisplayName("CSV import should insert valid rows in batches and report the rest by line")
+    void shouldImportCsvAndReportRejectedRows() {
+        String csv = """
+                name,description,price,stock,categoryId
+                Mug,"Ceramic, 300ml",8.5,10,%1$s
+                Kettle,"Says ""hi""
+                when it boils",30,4,%1$s
+                Bowl,Deep,abc,3,%1$s
+
+                Plate,Flat,4,2,%2$s
+                Spoon,Steel,1.5,50,%1$s
+                Fork,Steel,1.5
+                Knife,,2,5,%1$s
+                Cup,Glass,3,7,%1$s
+                """.formatted(categoryId, UUID.randomUUID());
+
+        ProductImportResult result = importService.importProducts(stream(csv), ProductImportFormat.CSV);
+
+        Assertions.assertEquals(8, result.getRowsRead());
+        Assertions.assertEquals(4, result.getImported());
+        Assertions.assertEquals(4, result.getRejected());
+        Assertions.assertTrue(result.isErrorsTruncated());
+        Assertions.assertEquals(List.of(5L, 7L, 9L), result.getErrors().stream().map(ProductImportError::getLine).toList());
+        Assertions.assertTrue(result.getErrors().get(1).getMessage().contains("does not exist"));
+        Assertions.assertEquals(4, count());
+        Assertions.assertEquals("Says \"hi\"\nwhen it boils", jdbcTemplate.queryForObject(
+                "SELECT description FROM product WHERE name = 'Kettle'", String.class));
+        verify(pageCacheInvalidator, times(1)).created(EntityType.PRODUCT);
+    }
+
+    @Test
+    @DisplayName("NDJSON import should isolate rows the database rejects from the rest of their batch")
+    void shouldImportNdjsonAndIsolateDatabaseFailures() {
+        String tooLong = "x".repeat(300);
+        String ndjson = """
+                {"name":"Mug","description":"Ceramic","price":8.5,"stock":10,"categoryId":"%1$s"}
+                {"name":"Vase","description":"%2$s","price":12,"stock":1,"categoryId":"%1$s"}
+                not json
+                {"name":"Jug","description":"Glass","price":-1,"stock":2,"categoryId":"%1$s"}
+                {"name":"Cup","description":"Glass","price":3,"stock":7,"categoryId":"%1$s"}
+                """.formatted(categoryId, tooLong);
+
+        ProductImportResult result = importService.importProducts(stream(ndjson), ProductImportFormat.NDJSON);
+
+        Assertions.assertEquals(5, result.getRowsRead());
+        Assertions.assertEquals(2, result.getImported());
+        Assertions.assertEquals(List.of(2L, 3L, 4L), result.getErrors().stream().map(ProductImportError::getLine).toList());
+        Assertions.assertTrue(result.getErrors().get(0).getMessage().startsWith("rejected by the database"));
+        Assertions.assertEquals(List.of("Cup", "Mug"), jdbcTemplate.queryForList(
+                "SELECT name FROM product ORDER BY name", String.class));
+    }
+
+    @Test
+    @DisplayName("An import without valid rows should leave the caches alone")
+    void shouldNotInvalidateWhenNothingImported() {
+        String csv = "name,description,price,stock,categoryId\nMug,Ceramic,8,1," + UUID.randomUUID() + "\n";
+
+        ProductImportResult result = importService.importProducts(stream(csv), ProductImportFormat.CSV);
+
+        Assertions.assertEquals(0, result.getImported());
+        Assertions.assertEquals(1, result.getRejected());
+        verifyNoInteractions(pageCacheInvalidator);
+    }
+
+    private int count() {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Integer.class);
+        return rows == null ? 0 : rows;
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.config.CacheConfig;
+import com.example.ecommerce_system.config.ProductConfig;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.service.ProductService;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.cache.PageKeyGenerator;
+import com.example.ecommerce_system.util.cache.RefreshAheadCache;
+import com.example.ecommerce_system.util.mapper.CategoryMapperImpl;
+import com.example.ecommerce_system.util.mapper.CustomerMapperImpl;
+import com.example.ecommerce_system.util.mapper.ProductMapper;
+import com.example.ecommerce_system.util.mapper.ProductMapperImpl;
+import com.example.ecommerce_system.util.mapper.ReviewMapperImpl;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Runs a background refresh of the products region through the real service and database. The test
+ * itself holds no transaction, so every load commits on its own connection as in production, and the
+ * refresh thread has no session of its own.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        ProductService.class,
+        ProductMapperImpl.class,
+        CategoryMapperImpl.class,
+        CustomerMapperImpl.class,
+        ReviewMapperImpl.class,
+        PageCacheInvalidator.class,
+        PageKeyGenerator.class,
+        CacheConfig.class,
+        ProductConfig.class
+})
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.autoconfigure.exclude=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "cache.refresh-ahead.refresh-ratio=0.001"
+})
+class ProductRefreshAheadTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoSpyBean
+    private ProductMapper productMapper;
+
+    @MockitoBean
+    private ProductSearchIndex productSearchIndex;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should reload a product in a read-only transaction and replace the cached value")
+    void shouldRefreshProductInReadOnlyTransaction() throws Exception {
+        Category category = categoryRepository.save(Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name("Books")
+                .description("Printed books")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .productId(UUID.randomUUID())
+                .name("Atlas")
+                .description("World atlas")
+                .price(30.0)
+                .stockQuantity(5)
+                .category(category)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build());
+        UUID productId = product.getProductId();
+
+        List<Boolean> mappedInReadOnlyTransaction = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            mappedInReadOnlyTransaction.add(TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return invocation.callRealMethod();
+        }).when(productMapper).toDTO(any(Product.class));
+
+        Assertions.assertEquals("Atlas", productService.getProduct(productId).getName());
+
+        Product renamed = productRepository.findById(productId).orElseThrow();
+        renamed.setName("Atlas, second edition");
+        productRepository.save(renamed);
+        Thread.sleep(200);
+
+        Assertions.assertEquals("Atlas", productService.getProduct(productId).getName());
+
+        var products = (RefreshAheadCache) cacheManager.getCache("products");
+        Assertions.assertNotNull(products);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (products.getRefreshCount() == 0 && products.getRefreshFailureCount() == 0
+                && System.nanoTime() < deadline)
+            Thread.sleep(10);
+
+        Assertions.assertEquals(0, products.getRefreshFailureCount());
+        Assertions.assertEquals(1, products.getRefreshCount());
+        Assertions.assertEquals("Atlas, second edition", products.get(productId, ProductResponseDto.class).getName());
+        Assertions.assertEquals(List.of(false, true), mappedInReadOnlyTransaction);
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.repository.ProductSearchRepositoryImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Compares the substring LIKE search (with and without trigram indexes) against the ranked
+ * full-text search on a seeded PostgreSQL catalog. Runs only when SEARCH_BENCHMARK_DB_URL points
+ * at a PostgreSQL database; the data lives in a throwaway {@code search_benchmark} schema.
+ */
+@EnabledIfEnvironmentVariable(named = "SEARCH_BENCHMARK_DB_URL", matches = ".+")
+class ProductSearchBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchBenchmarkTest.class);
+
+    private static final String SCHEMA = "search_benchmark";
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int PAGE_SIZE = 20;
+    private static final List<String> TERMS = List.of("wireless", "kettle", "ergonomic chair", "travel", "stainless bottle");
+
+    private static final String LIKE_PAGE_SQL = """
+        SELECT p.product_id, p.name FROM product p
+        WHERE LOWER(p.name) LIKE ? OR LOWER(p.description) LIKE ?
+        OFFSET 0 ROWS FETCH FIRST %d ROWS ONLY
+        """.formatted(PAGE_SIZE);
+    private static final String LIKE_COUNT_SQL = """
+        SELECT COUNT(p.product_id) FROM product p
+        WHERE LOWER(p.name) LIKE ? OR LOWER(p.description) LIKE ?
+        """;
+
+    private static JdbcTemplate jdbcTemplate;
+    private static ProductSearchRepositoryImpl searchRepository;
+
+    @BeforeAll
+    static void seed() {
+        String url = System.getenv("SEARCH_BENCHMARK_DB_URL");
+        DriverManagerDataSource admin = new DriverManagerDataSource(url,
+                System.getenv("SEARCH_BENCHMARK_DB_USER"), System.getenv("SEARCH_BENCHMARK_DB_PASSWORD"));
+        JdbcTemplate adminTemplate = new JdbcTemplate(admin);
+        adminTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        adminTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        adminTemplate.execute("CREATE SCHEMA " + SCHEMA);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + ",public",
+                System.getenv("SEARCH_BENCHMARK_DB_USER"), System.getenv("SEARCH_BENCHMARK_DB_PASSWORD"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        searchRepository = new ProductSearchRepositoryImpl(new NamedParameterJdbcTemplate(dataSource));
+
+        jdbcTemplate.execute("""
+            CREATE TABLE product (
+                product_id uuid PRIMARY KEY,
+                name varchar(100) NOT NULL,
+                description text NOT NULL,
+                price numeric(10,2) NOT NULL,
+                stock_quantity integer NOT NULL,
+                category_id uuid NOT NULL,
+                updated_at timestamp with time zone NOT NULL,
+                search_vector tsvector GENERATED ALWAYS AS (
+                    setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+                    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+                ) STORED
+            )
+            """);
+
+        int rows = Integer.parseInt(System.getenv().getOrDefault("SEARCH_BENCHMARK_ROWS", "1000000"));
+        long start = System.nanoTime();
+        jdbcTemplate.update("""
+            INSERT INTO product (product_id, name, description, price, stock_quantity, category_id, updated_at)
+            SELECT gen_random_uuid(),
+                   (ARRAY['Wireless','Ergonomic','Stainless','Vintage','Portable','Smart','Organic','Compact'])[1 + i % 8]
+                       || ' ' || (ARRAY['Mouse','Chair','Bottle','Lamp','Speaker','Watch','Blender','Backpack','Kettle','Camera'])[1 + (i / 8) % 10]
+                       || ' ' || i,
+                   'A ' || (ARRAY['durable','lightweight','premium','affordable','handmade','waterproof'])[1 + (i * 7) % 6]
+                       || ' product built for ' || (ARRAY['office','travel','kitchen','outdoor','gaming','fitness'])[1 + (i / 3) % 6]
+                       || ' use, model ' || md5(i::text),
+                   (i % 500) + 1.99,
+                   (i % 100) + 1,
+                   ?,
+                   now()
+            FROM generate_series(1, ?) AS s(i)
+            """, UUID.randomUUID(), rows);
+        jdbcTemplate.execute("CREATE INDEX index_product_search_vector ON product USING gin (search_vector)");
+        jdbcTemplate.execute("ANALYZE product");
+        logger.info("[search] seeded {} products in {}ms", rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        if (jdbcTemplate != null)
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+
+    @Test
+    @DisplayName("Benchmark LIKE with and without trigram indexes against ranked full-text search")
+    void compareSearchModes() {
+        Consumer<String> likeSearch = term -> {
+            String pattern = "%" + term.toLowerCase() + "%";
+            jdbcTemplate.queryForList(LIKE_PAGE_SQL, pattern, pattern);
+            jdbcTemplate.queryForObject(LIKE_COUNT_SQL, Long.class, pattern, pattern);
+        };
+        Consumer<String> fullTextSearch = term -> searchRepository.searchRanked(
+                ProductFilter.builder().name(term).build(), PAGE_SIZE, 0);
+
+        report("LIKE, sequential scan", measure(likeSearch));
+
+        jdbcTemplate.execute("CREATE INDEX index_product_name_trgm ON product USING gin (lower(name) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX index_product_description_trgm ON product USING gin (lower(description) gin_trgm_ops)");
+        jdbcTemplate.execute("ANALYZE product");
+        report("LIKE, trigram GIN", measure(likeSearch));
+
+        report("full-text, tsvector GIN", measure(fullTextSearch));
+
+        List<ProductResponseDto> ranked = searchRepository.searchRanked(
+                ProductFilter.builder().name("wireless kettle").build(), PAGE_SIZE, 0);
+        Assertions.assertFalse(ranked.isEmpty());
+        Assertions.assertTrue(ranked.stream().allMatch(product ->
+                product.getName().startsWith("Wireless Kettle")));
+    }
+
+    private static List<Long> measure(Consumer<String> search) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+            TERMS.forEach(search);
+
+        List<Long> samples = new ArrayList<>();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            for (String term : TERMS) {
+                long start = System.nanoTime();
+                search.accept(term);
+                samples.add(System.nanoTime() - start);
+            }
+        }
+        Collections.sort(samples);
+        return samples;
+    }
+
+    private static void report(String mode, List<Long> sortedNanos) {
+        logger.info("[search] {}: p50={}ms p90={}ms max={}ms over {} queries",
+                mode,
+                percentileMillis(sortedNanos, 0.50),
+                percentileMillis(sortedNanos, 0.90),
+                percentileMillis(sortedNanos, 1.0),
+                sortedNanos.size());
+    }
+
+    private static double percentileMillis(List<Long> sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(0, index)) / 1_000_000.0;
+    }
+}
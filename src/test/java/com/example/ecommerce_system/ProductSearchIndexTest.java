@@ -0,0 +1,286 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.config.ProductSearchProperties;
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.util.ProductSpecification;
+import com.example.ecommerce_system.util.mapper.CategoryMapperImpl;
+import com.example.ecommerce_system.util.mapper.CustomerMapperImpl;
+import com.example.ecommerce_system.util.mapper.ProductMapper;
+import com.example.ecommerce_system.util.mapper.ProductMapperImpl;
+import com.example.ecommerce_system.util.mapper.ReviewMapperImpl;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Cross-checks the in-memory index against the JPA specification path on the same rows,
+ * so both search modes are held to identical {@link ProductFilter} semantics.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProductSearchIndex.class, ProductMapperImpl.class, CategoryMapperImpl.class,
+        ReviewMapperImpl.class, CustomerMapperImpl.class})
+@EnableConfigurationProperties(ProductSearchProperties.class)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "product.search.mode=in-memory"
+})
+class ProductSearchIndexTest {
+
+    private static final String[] WORDS = {
+            "wireless", "mouse", "keyboard", "mechanical", "usb-c", "charger", "laptop", "stand",
+            "gaming", "headset", "monitor", "4k", "ergonomic", "chair", "desk", "lamp", "Café", "ÉCRAN"
+    };
+    private static final int PRODUCTS = 200;
+    private static final int ALL = Integer.MAX_VALUE;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @MockitoSpyBean
+    private ProductMapper productMapper;
+
+    private final Random random = new Random(42);
+    private List<Category> categories;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        categories = new ArrayList<>();
+        for (String name : List.of("Peripherals", "Office Furniture", "Audio"))
+            categories.add(categoryRepository.save(category(name)));
+
+        products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(productRepository.save(Product.builder()
+                    .productId(UUID.randomUUID())
+                    .name(phrase(1 + random.nextInt(3)))
+                    .description(phrase(2 + random.nextInt(6)))
+                    .price(Math.round(random.nextDouble() * 50000) / 100.0)
+                    .stockQuantity(random.nextInt(200))
+                    .category(categories.get(random.nextInt(categories.size())))
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build()));
+        }
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Index should return the same products as the specification query for every filter shape")
+    void shouldMatchSpecificationResults() {
+        List<ProductFilter> filters = new ArrayList<>(List.of(
+                ProductFilter.builder().build(),
+                ProductFilter.builder().name("mouse").build(),
+                ProductFilter.builder().name("OUS").build(),
+                ProductFilter.builder().name("less mou").build(),
+                ProductFilter.builder().name("ss mouse key").build(),
+                ProductFilter.builder().name(" mouse").build(),
+                ProductFilter.builder().name("mouse ").build(),
+                ProductFilter.builder().name("usb-").build(),
+                ProductFilter.builder().name("-c").build(),
+                ProductFilter.builder().name("café").build(),
+                ProductFilter.builder().name("écran").build(),
+                ProductFilter.builder().name("").build(),
+                ProductFilter.builder().name("nothing-like-this").build(),
+                ProductFilter.builder().description("gaming headset").minStock(50).build(),
+                ProductFilter.builder().categoryId(categories.get(0).getCategoryId()).maxPrice(250.0).build(),
+                ProductFilter.builder().minPrice(100.0).maxPrice(300.0).minStock(10).maxStock(90).build()
+        ));
+        for (int i = 0; i < 100; i++)
+            filters.add(randomFilter());
+
+        for (ProductFilter filter : filters) {
+            Assertions.assertEquals(expected(filter), actual(filter),
+                    () -> "name=" + filter.getName() + " description=" + filter.getDescription());
+        }
+    }
+
+    @Test
+    @DisplayName("Index should page matches ordered by name")
+    void shouldPageMatchesByName() {
+        ProductFilter filter = ProductFilter.builder().build();
+        List<ProductResponseDto> first = productSearchIndex.search(filter, 20, 0);
+        List<ProductResponseDto> second = productSearchIndex.search(filter, 20, 1);
+
+        Assertions.assertEquals(20, first.size());
+        Assertions.assertEquals(20, second.size());
+        Assertions.assertTrue(first.get(19).getName().compareTo(second.get(0).getName()) <= 0);
+        Assertions.assertTrue(first.stream().noneMatch(second::contains));
+    }
+
+    @Test
+    @DisplayName("Index should apply product updates, deletes and stock reservations incrementally")
+    void shouldApplyIncrementalChanges() {
+        Product target = products.get(0);
+        ProductResponseDto renamed = ProductResponseDto.builder()
+                .productId(target.getProductId())
+                .categoryId(target.getCategory().getCategoryId())
+                .name("Aurora Trackball")
+                .description("Quiet thumb-operated pointer")
+                .price(75.0)
+                .stock(12)
+                .build();
+
+        productSearchIndex.indexProduct(renamed);
+        Assertions.assertEquals(List.of(target.getProductId()),
+                ids(productSearchIndex.search(ProductFilter.builder().name("trackb").build(), 10, 0)));
+
+        productSearchIndex.stockReserved(Map.of(target.getProductId(), 5));
+        ProductFilter stockFilter = ProductFilter.builder().name("aurora").minStock(7).maxStock(7).build();
+        Assertions.assertEquals(List.of(target.getProductId()), ids(productSearchIndex.search(stockFilter, 10, 0)));
+
+        productSearchIndex.removeProduct(target.getProductId());
+        Assertions.assertTrue(productSearchIndex.search(ProductFilter.builder().name("aurora").build(), 10, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Searches should not wait for a rebuild, and writes made during it should survive the swap")
+    void shouldServeSearchesDuringRebuild() {
+        ProductResponseDto added = ProductResponseDto.builder()
+                .productId(UUID.randomUUID())
+                .categoryId(categories.get(0).getCategoryId())
+                .name("Zephyr Dock")
+                .description("Indexed while the catalogue reloads")
+                .price(40.0)
+                .stock(3)
+                .build();
+        List<UUID> searchedDuringRebuild = new ArrayList<>();
+        AtomicBoolean firstBatch = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (firstBatch.compareAndSet(true, false)) {
+                searchedDuringRebuild.addAll(CompletableFuture
+                        .supplyAsync(() -> ids(productSearchIndex.search(ProductFilter.builder().build(), ALL, 0)))
+                        .get(5, TimeUnit.SECONDS));
+                CompletableFuture.runAsync(() -> productSearchIndex.indexProduct(added)).get(5, TimeUnit.SECONDS);
+            }
+            return invocation.callRealMethod();
+        }).when(productMapper).toDTOList(anyList());
+
+        productSearchIndex.rebuild();
+
+        Assertions.assertEquals(PRODUCTS, searchedDuringRebuild.size());
+        Assertions.assertEquals(List.of(added.getProductId()),
+                ids(productSearchIndex.search(ProductFilter.builder().name("zephyr").build(), 10, 0)));
+    }
+
+    @Test
+    @DisplayName("Autocomplete should match word prefixes across name, description and category")
+    void shouldCompleteWordPrefixes() {
+        Category category = categories.get(1);
+        Set<UUID> inCategory = products.stream()
+                .filter(product -> product.getCategory().getCategoryId().equals(category.getCategoryId()))
+                .map(Product::getProductId)
+                .collect(Collectors.toSet());
+
+        Assertions.assertEquals(inCategory, Set.copyOf(ids(productSearchIndex.complete("office furn", ALL))));
+
+        productSearchIndex.categoryRenamed(category.getCategoryId(), "Workspace");
+        Assertions.assertTrue(productSearchIndex.complete("office furn", ALL).isEmpty());
+        Assertions.assertEquals(inCategory, Set.copyOf(ids(productSearchIndex.complete("worksp", ALL))));
+
+        Set<UUID> keyboards = products.stream()
+                .filter(product -> (product.getName() + " " + product.getDescription()).toLowerCase().contains("keyb"))
+                .map(Product::getProductId)
+                .collect(Collectors.toSet());
+        Assertions.assertEquals(keyboards, Set.copyOf(ids(productSearchIndex.complete("KEYB", ALL))));
+    }
+
+    private Set<UUID> expected(ProductFilter filter) {
+        return productRepository.findAll(ProductSpecification.buildSpecification(filter)).stream()
+                .map(Product::getProductId)
+                .collect(Collectors.toSet());
+    }
+
+    private Set<UUID> actual(ProductFilter filter) {
+        return Set.copyOf(ids(productSearchIndex.search(filter, ALL, 0)));
+    }
+
+    private ProductFilter randomFilter() {
+        ProductFilter.ProductFilterBuilder filter = ProductFilter.builder();
+        if (random.nextBoolean())
+            filter.name(fragment());
+        if (random.nextInt(3) == 0)
+            filter.description(fragment());
+        if (random.nextInt(4) == 0)
+            filter.categoryId(categories.get(random.nextInt(categories.size())).getCategoryId());
+        if (random.nextInt(3) == 0)
+            filter.minPrice(random.nextDouble() * 250);
+        if (random.nextInt(3) == 0)
+            filter.maxPrice(250 + random.nextDouble() * 250);
+        if (random.nextInt(4) == 0)
+            filter.minStock(random.nextInt(100));
+        if (random.nextInt(4) == 0)
+            filter.maxStock(100 + random.nextInt(100));
+        return filter.build();
+    }
+
+    private String fragment() {
+        String text = phrase(1 + random.nextInt(3));
+        int start = random.nextInt(text.length());
+        int end = start + 1 + random.nextInt(text.length() - start);
+        return text.substring(start, end);
+    }
+
+    private String phrase(int words) {
+        List<String> picked = new ArrayList<>();
+        for (int i = 0; i < words; i++)
+            picked.add(WORDS[random.nextInt(WORDS.length)]);
+        return String.join(" ", picked);
+    }
+
+    private static List<UUID> ids(List<ProductResponseDto> products) {
+        return products.stream().map(ProductResponseDto::getProductId).toList();
+    }
+
+    private static Category category(String name) {
+        return Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name(name)
+                .description(name + " products")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+}
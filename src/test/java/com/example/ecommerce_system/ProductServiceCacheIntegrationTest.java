@@ -1,16 +1,23 @@
 package com.example.ecommerce_system;
 
 import com.example.ecommerce_system.config.CacheConfig;
+import com.example.ecommerce_system.config.ProductConfig;
 import com.example.ecommerce_system.dto.product.ProductFilter;
 import com.example.ecommerce_system.dto.product.ProductRequestDto;
 import com.example.ecommerce_system.dto.product.ProductResponseDto;
 import com.example.ecommerce_system.dto.product.ProductWithReviewsDto;
+import com.example.ecommerce_system.exception.product.ProductNotFoundException;
 import com.example.ecommerce_system.model.Category;
 import com.example.ecommerce_system.model.Product;
 import com.example.ecommerce_system.repository.CategoryRepository;
 import com.example.ecommerce_system.repository.ProductRepository;
 import com.example.ecommerce_system.service.ProductService;
+import com.example.ecommerce_system.util.cache.CoalescingCaffeineCache;
+import com.example.ecommerce_system.util.cache.EntityType;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.cache.PageKeyGenerator;
 import com.example.ecommerce_system.util.mapper.ProductMapper;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,15 +29,20 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,7 +50,10 @@ import static org.mockito.Mockito.*;
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = {
         ProductService.class,
-        CacheConfig.class
+        PageCacheInvalidator.class,
+        PageKeyGenerator.class,
+        CacheConfig.class,
+        ProductConfig.class
 })
 @ActiveProfiles("test")
 @TestPropertySource(properties = {
@@ -56,12 +71,18 @@ class ProductServiceCacheIntegrationTest {
     @MockitoBean
     private ProductMapper productMapper;
 
+    @MockitoBean
+    private ProductSearchIndex productSearchIndex;
+
     @Autowired
     private ProductService productService;
 
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private PageCacheInvalidator pageCacheInvalidator;
+
     private UUID productId;
     private UUID categoryId;
     private Product testProduct;
@@ -128,6 +149,62 @@ class ProductServiceCacheIntegrationTest {
         verify(productMapper, times(1)).toDTO(testProduct);
     }
 
+    @Test
+    @DisplayName("Should let concurrent misses on one product share a single load")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        int callers = 8;
+        UUID warmUpId = UUID.randomUUID();
+        when(productRepository.findById(warmUpId)).thenReturn(Optional.of(testProduct));
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findById(productId)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(testProduct);
+        });
+        when(productMapper.toDTO(testProduct)).thenReturn(ProductResponseDto.builder().productId(productId).build());
+        productService.getProduct(warmUpId);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            Thread thread = new Thread(() -> productService.getProduct(productId));
+            thread.start();
+            threads.add(thread);
+        }
+
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (threads.stream().filter(t -> t.getState() == Thread.State.WAITING).count() < callers - 1
+                && System.nanoTime() < deadline)
+            Thread.sleep(5);
+        release.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        verify(productRepository, times(1)).findById(productId);
+        var products = (CoalescingCaffeineCache) cacheManager.getCache("products");
+        assertNotNull(products);
+        assertEquals(callers - 1, products.getCoalescedWaiters());
+    }
+
+    @Test
+    @DisplayName("Should remember a missing product until a product is created")
+    void shouldCacheNotFoundUntilCreate() {
+        UUID missingId = UUID.randomUUID();
+        when(productRepository.findById(missingId)).thenReturn(Optional.empty());
+
+        ProductNotFoundException first = assertThrows(ProductNotFoundException.class, () -> productService.getProduct(missingId));
+        ProductNotFoundException second = assertThrows(ProductNotFoundException.class, () -> productService.getProduct(missingId));
+
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+        verify(productRepository, times(1)).findById(missingId);
+
+        pageCacheInvalidator.created(EntityType.PRODUCT);
+        assertThrows(ProductNotFoundException.class, () -> productService.getProduct(missingId));
+        verify(productRepository, times(2)).findById(missingId);
+    }
+
     @Test
     @DisplayName("Should cache paginated product retrieval")
     void shouldCachePaginatedProductRetrieval() {
@@ -143,7 +220,7 @@ class ProductServiceCacheIntegrationTest {
                 .price(1500.0)
                 .build();
 
-        when(productRepository.findAll(pageRequest)).thenReturn(productPage);
+        when(productRepository.findAllBy(pageRequest)).thenReturn(productPage);
         when(productMapper.toDTO(testProduct)).thenReturn(expectedResponse);
         when(productMapper.toDTOList(List.of(testProduct))).thenReturn(List.of(expectedResponse));
 
@@ -157,7 +234,7 @@ class ProductServiceCacheIntegrationTest {
         assertEquals(1, secondCall.size());
         assertEquals("Test Laptop", firstCall.get(0).getName());
 
-        verify(productRepository, times(1)).findAll(pageRequest);
+        verify(productRepository, times(1)).findAllBy(pageRequest);
         verify(productMapper, times(1)).toDTOList(List.of(testProduct));
     }
 
@@ -168,7 +245,7 @@ class ProductServiceCacheIntegrationTest {
         int limit = 5;
         int offset = 0;
         ProductFilter filter = ProductFilter.builder().name("Laptop").build();
-        PageRequest pageRequest = PageRequest.of(offset, limit);
+        PageRequest pageRequest = PageRequest.of(offset, limit, Sort.by("name", "productId"));
         Page<Product> productPage = new PageImpl<>(List.of(testProduct), pageRequest, 1);
 
         ProductResponseDto expectedResponse = ProductResponseDto.builder()
@@ -196,14 +273,36 @@ class ProductServiceCacheIntegrationTest {
         verify(productMapper, times(1)).toDTOList(List.of(testProduct));
     }
 
+    @Test
+    @DisplayName("Should serve equal filters built separately from the same cache entry")
+    @SuppressWarnings("unchecked")
+    void shouldShareCacheEntryBetweenEqualFilters() {
+        PageRequest pageRequest = PageRequest.of(0, 5, Sort.by("name", "productId"));
+        when(productRepository.findAll(any(Specification.class), eq(pageRequest)))
+                .thenReturn(new PageImpl<>(List.of(testProduct), pageRequest, 1));
+        when(productMapper.toDTOList(List.of(testProduct))).thenReturn(List.of(ProductResponseDto.builder()
+                .productId(productId)
+                .name("Test Laptop")
+                .build()));
+
+        ProductFilter first = ProductFilter.builder().name("Laptop").categoryId(categoryId).minPrice(100.0).build();
+        ProductFilter second = ProductFilter.builder().name("Laptop").categoryId(categoryId).minPrice(100.0).build();
+        productService.searchProducts(first, 5, 0);
+        productService.searchProducts(second, 5, 0);
+        verify(productRepository, times(1)).findAll(any(Specification.class), eq(pageRequest));
+
+        first.setMinPrice(200.0);
+        productService.searchProducts(first, 5, 0);
+        productService.searchProducts(ProductFilter.builder().name("Laptop").categoryId(categoryId).minPrice(100.0).build(), 5, 0);
+        verify(productRepository, times(2)).findAll(any(Specification.class), eq(pageRequest));
+    }
+
     @Test
     @DisplayName("Should cache products with reviews retrieval")
     void shouldCacheProductsWithReviewsRetrieval() {
         int limit = 5;
         int offset = 0;
         int reviewLimit = 3;
-        PageRequest pageRequest = PageRequest.of(offset, limit);
-        Page<Product> productPage = new PageImpl<>(List.of(testProduct), pageRequest, 1);
 
         ProductWithReviewsDto expectedResponse = ProductWithReviewsDto.builder()
                 .productId(productId)
@@ -213,8 +312,7 @@ class ProductServiceCacheIntegrationTest {
                 .reviews(List.of())
                 .build();
 
-        when(productRepository.findAllWithLimitedReviews(reviewLimit, pageRequest)).thenReturn(productPage);
-        when(productMapper.toProductWithReviewsDTOList(List.of(testProduct))).thenReturn(List.of(expectedResponse));
+        when(productRepository.findPageWithTopReviews(null, limit, offset, reviewLimit)).thenReturn(List.of(expectedResponse));
 
         List<ProductWithReviewsDto> firstCall = productService.getAllProductsWithReviews(limit, offset, reviewLimit);
 
@@ -226,8 +324,7 @@ class ProductServiceCacheIntegrationTest {
         assertEquals(1, secondCall.size());
         assertEquals("Test Laptop", firstCall.get(0).getName());
 
-        verify(productRepository, times(1)).findAllWithLimitedReviews(reviewLimit, pageRequest);
-        verify(productMapper, times(1)).toProductWithReviewsDTOList(List.of(testProduct));
+        verify(productRepository, times(1)).findPageWithTopReviews(null, limit, offset, reviewLimit);
     }
 
     @Test
@@ -268,11 +365,11 @@ class ProductServiceCacheIntegrationTest {
                 .name("New Product")
                 .build();
 
-        when(productRepository.findAll(pageRequest)).thenReturn(productPage);
+        when(productRepository.findAllBy(pageRequest)).thenReturn(productPage);
         when(productMapper.toDTO(testProduct)).thenReturn(testProductResponse);
 
         productService.getAllProducts(limit, offset);
-        verify(productRepository, times(1)).findAll(pageRequest);
+        verify(productRepository, times(1)).findAllBy(pageRequest);
 
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(testCategory));
         when(productRepository.save(any(Product.class))).thenReturn(newProduct);
@@ -281,11 +378,11 @@ class ProductServiceCacheIntegrationTest {
         productService.createProduct(createRequest);
 
         Page<Product> updatedProductPage = new PageImpl<>(List.of(testProduct, newProduct), pageRequest, 2);
-        when(productRepository.findAll(pageRequest)).thenReturn(updatedProductPage);
+        when(productRepository.findAllBy(pageRequest)).thenReturn(updatedProductPage);
 
         productService.getAllProducts(limit, offset);
 
-        verify(productRepository, times(2)).findAll(pageRequest);
+        verify(productRepository, times(2)).findAllBy(pageRequest);
     }
 
     @Test
@@ -363,6 +460,45 @@ class ProductServiceCacheIntegrationTest {
         verify(productRepository, times(2)).findById(productId);
     }
 
+    @Test
+    @DisplayName("Should evict only the pages containing an updated product")
+    void shouldEvictOnlyPagesContainingUpdatedProduct() {
+        UUID otherProductId = UUID.randomUUID();
+        Product otherProduct = Product.builder()
+                .productId(otherProductId)
+                .name("Other Laptop")
+                .description("Another laptop")
+                .price(900.0)
+                .stockQuantity(3)
+                .category(testCategory)
+                .reviews(List.of())
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+
+        PageRequest firstPage = PageRequest.of(0, 1);
+        PageRequest secondPage = PageRequest.of(1, 1);
+        ProductResponseDto testResponse = ProductResponseDto.builder().productId(productId).build();
+        ProductResponseDto otherResponse = ProductResponseDto.builder().productId(otherProductId).build();
+
+        when(productRepository.findAllBy(firstPage)).thenReturn(new PageImpl<>(List.of(testProduct), firstPage, 2));
+        when(productRepository.findAllBy(secondPage)).thenReturn(new PageImpl<>(List.of(otherProduct), secondPage, 2));
+        when(productMapper.toDTOList(List.of(testProduct))).thenReturn(List.of(testResponse));
+        when(productMapper.toDTOList(List.of(otherProduct))).thenReturn(List.of(otherResponse));
+
+        productService.getAllProducts(1, 0);
+        productService.getAllProducts(1, 1);
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
+        productService.updateProduct(productId, new ProductRequestDto("Renamed", null, null, null, null));
+
+        productService.getAllProducts(1, 0);
+        productService.getAllProducts(1, 1);
+
+        verify(productRepository, times(2)).findAllBy(firstPage);
+        verify(productRepository, times(1)).findAllBy(secondPage);
+    }
+
     @Test
     @DisplayName("Should use different cache entries for different parameters")
     void shouldUseDifferentCacheEntriesForDifferentParameters() {
@@ -380,8 +516,8 @@ class ProductServiceCacheIntegrationTest {
                 .name("Test Laptop")
                 .build();
 
-        when(productRepository.findAll(pageRequest1)).thenReturn(productPage1);
-        when(productRepository.findAll(pageRequest2)).thenReturn(productPage2);
+        when(productRepository.findAllBy(pageRequest1)).thenReturn(productPage1);
+        when(productRepository.findAllBy(pageRequest2)).thenReturn(productPage2);
         when(productMapper.toDTO(testProduct)).thenReturn(expectedResponse);
         when(productMapper.toDTOList(List.of(testProduct))).thenReturn(List.of(expectedResponse));
 
@@ -396,8 +532,8 @@ class ProductServiceCacheIntegrationTest {
         assertEquals(1, thirdCall.size());
         assertEquals(0, fourthCall.size());
 
-        verify(productRepository, times(1)).findAll(pageRequest1);
-        verify(productRepository, times(1)).findAll(pageRequest2);
+        verify(productRepository, times(1)).findAllBy(pageRequest1);
+        verify(productRepository, times(1)).findAllBy(pageRequest2);
     }
 
     @Test
@@ -406,10 +542,25 @@ class ProductServiceCacheIntegrationTest {
         var cacheNames = cacheManager.getCacheNames();
 
         assertTrue(cacheNames.contains("products"));
-        assertTrue(cacheNames.contains("paginated"));
+        assertTrue(cacheNames.contains("product_pages"));
+        assertTrue(cacheNames.containsAll(List.of("order_pages", "customer_pages", "category_pages", "review_pages")));
 
         assertNotNull(cacheManager.getCache("products"));
-        assertNotNull(cacheManager.getCache("paginated"));
+        assertNotNull(cacheManager.getCache("product_pages"));
+    }
+
+    @Test
+    @DisplayName("Should bound page regions by estimated weight")
+    void shouldBoundPageRegionsByEstimatedWeight() {
+        var pages = (CaffeineCache) cacheManager.getCache("product_pages");
+        assertNotNull(pages);
+
+        var eviction = pages.getNativeCache().policy().eviction().orElseThrow();
+        assertTrue(eviction.isWeighted());
+
+        pages.put("page", List.of(ProductResponseDto.builder().productId(productId).name("Test Laptop").build()));
+        pages.getNativeCache().cleanUp();
+        assertTrue(eviction.weightedSize().orElseThrow() > 0);
     }
 }
 
@@ -1,5 +1,6 @@
 package com.example.ecommerce_system;
 
+import com.example.ecommerce_system.config.ProductSearchProperties;
 import com.example.ecommerce_system.dto.product.ProductFilter;
 import com.example.ecommerce_system.dto.product.ProductRequestDto;
 import com.example.ecommerce_system.dto.product.ProductResponseDto;
@@ -11,17 +12,21 @@ import com.example.ecommerce_system.repository.CategoryRepository;
 import com.example.ecommerce_system.repository.ProductRepository;
 import com.example.ecommerce_system.service.ProductService;
 import com.example.ecommerce_system.service.ReviewService;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
 import com.example.ecommerce_system.util.mapper.ProductMapper;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
@@ -47,6 +52,15 @@ class ProductServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private PageCacheInvalidator pageCacheInvalidator;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Spy
+    private ProductSearchProperties searchProperties = new ProductSearchProperties();
+
     @InjectMocks
     private ProductService productService;
 
@@ -361,6 +375,66 @@ class ProductServiceTest {
         verify(productRepository).findAll(any(Specification.class), any(PageRequest.class));
     }
 
+    @Test
+    @DisplayName("Should use ranked full-text search for text filters in full-text mode")
+    void shouldUseRankedSearchInFullTextMode() {
+        searchProperties.setMode(ProductSearchProperties.SearchMode.FULL_TEXT);
+        ProductFilter filter = ProductFilter.builder().name("laptop").maxPrice(2000.0).build();
+        ProductResponseDto responseDto = ProductResponseDto.builder().name("Gaming Laptop").build();
+
+        when(productRepository.searchRanked(filter, 10, 0)).thenReturn(List.of(responseDto));
+
+        List<ProductResponseDto> result = productService.searchProducts(filter, 10, 0);
+
+        Assertions.assertEquals(List.of(responseDto), result);
+        verify(productRepository, never()).findAll(any(Specification.class), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should keep the specification path for filters without text in full-text mode")
+    void shouldUseSpecificationWithoutTextInFullTextMode() {
+        searchProperties.setMode(ProductSearchProperties.SearchMode.FULL_TEXT);
+        ProductFilter filter = ProductFilter.builder().minPrice(10.0).build();
+
+        when(productRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(new PageImpl<>(List.of()));
+        when(productMapper.toDTOList(List.of())).thenReturn(List.of());
+
+        productService.searchProducts(filter, 10, 0);
+
+        verify(productRepository, never()).searchRanked(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should answer searches from the in-memory index once it is ready")
+    void shouldUseSearchIndexWhenReady() {
+        ProductFilter filter = ProductFilter.builder().name("laptop").build();
+        ProductResponseDto responseDto = ProductResponseDto.builder().name("Gaming Laptop").build();
+
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.search(filter, 10, 0)).thenReturn(List.of(responseDto));
+
+        List<ProductResponseDto> result = productService.searchProducts(filter, 10, 0);
+
+        Assertions.assertEquals(List.of(responseDto), result);
+        verify(productRepository, never()).findAll(any(Specification.class), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should index created products")
+    void shouldIndexCreatedProducts() {
+        UUID categoryId = UUID.randomUUID();
+        ProductRequestDto request = new ProductRequestDto("Laptop", "Fast", 999.0, 5, categoryId);
+        ProductResponseDto responseDto = ProductResponseDto.builder().name("Laptop").build();
+
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(Category.builder().categoryId(categoryId).build()));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productMapper.toDTO(any(Product.class))).thenReturn(responseDto);
+
+        productService.createProduct(request);
+
+        verify(productSearchIndex).indexProduct(responseDto);
+    }
+
     @Test
     @DisplayName("Should preserve created timestamp when updating")
     void shouldPreserveCreatedTimestampWhenUpdating() {
@@ -437,7 +511,7 @@ class ProductServiceTest {
         List<ProductResponseDto> result = productService.searchProducts(filter, 5, 10);
 
         Assertions.assertEquals(2, result.size());
-        verify(productRepository).findAll(any(Specification.class), eq(PageRequest.of(10, 5)));
+        verify(productRepository).findAll(any(Specification.class), eq(PageRequest.of(10, 5, Sort.by("name", "productId"))));
     }
 
     @Test
@@ -469,7 +543,7 @@ class ProductServiceTest {
         List<Product> products = List.of(product1, product2);
 
         Page<Product> page = new PageImpl<>(products);
-        when(productRepository.findAll(any(PageRequest.class))).thenReturn(page);
+        when(productRepository.findAllBy(any(PageRequest.class))).thenReturn(page);
         when(productMapper.toDTOList(products)).thenReturn(List.of(
                 ProductResponseDto.builder().name("Product1").build(),
                 ProductResponseDto.builder().name("Product2").build()
@@ -478,7 +552,7 @@ class ProductServiceTest {
         List<ProductResponseDto> result = productService.getAllProducts(10, 0);
 
         Assertions.assertEquals(2, result.size());
-        verify(productRepository).findAll(any(PageRequest.class));
+        verify(productRepository).findAllBy(any(PageRequest.class));
         verify(productMapper).toDTOList(products);
     }
 }
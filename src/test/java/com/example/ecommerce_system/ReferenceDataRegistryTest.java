@@ -0,0 +1,108 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.exception.order.OrderStatusConfigurationException;
+import com.example.ecommerce_system.exception.user.RoleConfigurationException;
+import com.example.ecommerce_system.model.OrderStatus;
+import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.repository.OrderStatusRepository;
+import com.example.ecommerce_system.repository.RoleRepository;
+import com.example.ecommerce_system.util.registry.OrderStatusRegistry;
+import com.example.ecommerce_system.util.registry.RoleRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+    @Mock
+    private OrderStatusRepository orderStatusRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private OrderStatusRegistry orderStatusRegistry;
+    private RoleRegistry roleRegistry;
+
+    @BeforeEach
+    void setUp() {
+        orderStatusRegistry = new OrderStatusRegistry(orderStatusRepository);
+        roleRegistry = new RoleRegistry(roleRepository);
+    }
+
+    @Test
+    @DisplayName("Should load the statuses once and answer every later lookup from memory")
+    void shouldServeStatusesFromMemory() {
+        List<OrderStatus> statuses = allStatuses();
+        when(orderStatusRepository.findAll()).thenReturn(statuses);
+
+        orderStatusRegistry.loadOnStartup();
+        for (int i = 0; i < 3; i++)
+            Assertions.assertSame(statuses.get(0), orderStatusRegistry.get(statuses.get(0).getStatusName()));
+
+        verify(orderStatusRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should fail startup when a status row is missing")
+    void shouldRejectIncompleteStatusTable() {
+        when(orderStatusRepository.findAll()).thenReturn(allStatuses().subList(1, OrderStatusType.values().length));
+
+        Assertions.assertThrows(OrderStatusConfigurationException.class, () -> orderStatusRegistry.loadOnStartup());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous statuses when a refresh finds the table incomplete")
+    void shouldKeepPreviousStatusesOnFailedRefresh() {
+        List<OrderStatus> statuses = allStatuses();
+        when(orderStatusRepository.findAll())
+                .thenReturn(statuses)
+                .thenReturn(List.of());
+
+        orderStatusRegistry.loadOnStartup();
+        Assertions.assertThrows(OrderStatusConfigurationException.class, () -> orderStatusRegistry.refresh());
+
+        Assertions.assertSame(statuses.get(0), orderStatusRegistry.get(statuses.get(0).getStatusName()));
+    }
+
+    @Test
+    @DisplayName("Should load roles lazily when looked up before startup finished")
+    void shouldLoadRolesOnFirstLookup() {
+        Role customer = Role.builder().roleId(UUID.randomUUID()).roleName(RoleType.CUSTOMER).build();
+        Role admin = Role.builder().roleId(UUID.randomUUID()).roleName(RoleType.ADMIN).build();
+        when(roleRepository.findAll()).thenReturn(List.of(customer, admin));
+
+        Assertions.assertSame(customer, roleRegistry.get(RoleType.CUSTOMER));
+        Assertions.assertSame(admin, roleRegistry.get(RoleType.ADMIN));
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should report a missing role")
+    void shouldRejectMissingRole() {
+        when(roleRepository.findAll()).thenReturn(List.of(
+                Role.builder().roleId(UUID.randomUUID()).roleName(RoleType.CUSTOMER).build()));
+
+        Assertions.assertThrows(RoleConfigurationException.class, () -> roleRegistry.get(RoleType.CUSTOMER));
+    }
+
+    private static List<OrderStatus> allStatuses() {
+        return Arrays.stream(OrderStatusType.values())
+                .map(type -> OrderStatus.builder().statusId(UUID.randomUUID()).statusName(type).build())
+                .toList();
+    }
+}
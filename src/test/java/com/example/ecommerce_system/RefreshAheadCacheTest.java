@@ -0,0 +1,97 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.util.cache.RefreshAheadCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+class RefreshAheadCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private RefreshAheadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RefreshAheadCache("products", Caffeine.newBuilder()
+                .ticker(nanos::get)
+                .expireAfterWrite(Duration.ofMinutes(15))
+                .recordStats()
+                .build(),
+                Duration.ofMinutes(8),
+                Duration.ofMinutes(10),
+                null,
+                pendingRefreshes::add,
+                TransactionOperations.withoutTransaction());
+        cache.get("key", () -> "v1");
+    }
+
+    @Test
+    @DisplayName("Should serve the cached value and reload it in the background once it nears expiry")
+    void shouldRefreshAheadOfExpiry() {
+        advance(Duration.ofMinutes(9));
+
+        Assertions.assertEquals("v1", cache.get("key", () -> "v2"));
+        Assertions.assertEquals("v1", cache.get("key", () -> "v3"));
+        Assertions.assertEquals(1, pendingRefreshes.size());
+
+        runPendingRefreshes();
+
+        Assertions.assertEquals("v2", cache.get("key", () -> "v4"));
+        Assertions.assertEquals(1, cache.getRefreshCount());
+        Assertions.assertEquals(0, cache.getStaleHitCount());
+    }
+
+    @Test
+    @DisplayName("Should keep serving the last good value while refreshes fail, until the hard expiry")
+    void shouldServeStaleValueWithinBudget() {
+        advance(Duration.ofMinutes(12));
+
+        Assertions.assertEquals("v1", cache.get("key", this::failingLoad));
+        runPendingRefreshes();
+        Assertions.assertEquals("v1", cache.get("key", this::failingLoad));
+        runPendingRefreshes();
+
+        Assertions.assertEquals(2, cache.getRefreshFailureCount());
+        Assertions.assertEquals(2, cache.getStaleHitCount());
+
+        advance(Duration.ofMinutes(4));
+        Assertions.assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("key", this::failingLoad));
+    }
+
+    @Test
+    @DisplayName("Should not put a refreshed value back after the entry was evicted")
+    void shouldNotResurrectEvictedEntry() {
+        advance(Duration.ofMinutes(9));
+        cache.get("key", () -> "read before the write");
+
+        cache.evict("key");
+        runPendingRefreshes();
+
+        Assertions.assertNull(cache.get("key"));
+        Assertions.assertEquals(0, cache.getRefreshCount());
+    }
+
+    private String failingLoad() {
+        throw new IllegalStateException("database unavailable");
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void runPendingRefreshes() {
+        List<Runnable> refreshes = new ArrayList<>(pendingRefreshes);
+        pendingRefreshes.clear();
+        refreshes.forEach(Runnable::run);
+    }
+}
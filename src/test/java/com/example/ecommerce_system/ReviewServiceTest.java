@@ -1,5 +1,6 @@
 package com.example.ecommerce_system;
 
+import com.example.ecommerce_system.dto.customer.CustomerIdentity;
 import com.example.ecommerce_system.dto.review.ReviewRequestDto;
 import com.example.ecommerce_system.dto.review.ReviewResponseDto;
 import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
@@ -14,6 +15,8 @@ import com.example.ecommerce_system.repository.OrderRepository;
 import com.example.ecommerce_system.repository.ProductRepository;
 import com.example.ecommerce_system.repository.ReviewRepository;
 import com.example.ecommerce_system.service.ReviewService;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
 import com.example.ecommerce_system.util.mapper.ReviewMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,12 +49,18 @@ class ReviewServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private CustomerIdentityResolver customerIdentityResolver;
+
     @Mock
     private OrderRepository orderRepository;
 
     @Mock
     private ReviewMapper reviewMapper;
 
+    @Mock
+    private PageCacheInvalidator pageCacheInvalidator;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -118,7 +127,8 @@ class ReviewServiceTest {
         UUID userId = testUser.getUserId();
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(testCustomer));
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, testCustomer));
+        when(customerRepository.getReferenceById(testCustomer.getCustomerId())).thenReturn(testCustomer);
         when(orderRepository.hasProcessedOrderWithProduct(testCustomer.getCustomerId(), productId))
                 .thenReturn(true);
         when(reviewRepository.save(any(Review.class))).thenReturn(testReview);
@@ -132,7 +142,7 @@ class ReviewServiceTest {
         Assertions.assertEquals(testResponseDto.getComment(), response.getComment());
 
         verify(productRepository).findById(productId);
-        verify(customerRepository).findCustomerByUser_UserId(userId);
+        verify(customerIdentityResolver).resolve(userId);
         verify(orderRepository).hasProcessedOrderWithProduct(testCustomer.getCustomerId(), productId);
         verify(reviewRepository).save(any(Review.class));
         verify(reviewMapper).toDTO(testReview);
@@ -152,7 +162,7 @@ class ReviewServiceTest {
         );
 
         verify(productRepository).findById(productId);
-        verify(customerRepository, never()).findCustomerByUser_UserId(any());
+        verify(customerIdentityResolver, never()).resolve(any());
         verify(reviewRepository, never()).save(any());
     }
 
@@ -163,7 +173,7 @@ class ReviewServiceTest {
         UUID userId = UUID.randomUUID();
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.empty());
+        when(customerIdentityResolver.resolve(userId)).thenThrow(new CustomerNotFoundException(userId.toString()));
 
         Assertions.assertThrows(
                 CustomerNotFoundException.class,
@@ -171,7 +181,7 @@ class ReviewServiceTest {
         );
 
         verify(productRepository).findById(productId);
-        verify(customerRepository).findCustomerByUser_UserId(userId);
+        verify(customerIdentityResolver).resolve(userId);
         verify(orderRepository, never()).hasProcessedOrderWithProduct(any(), any());
         verify(reviewRepository, never()).save(any());
     }
@@ -183,7 +193,7 @@ class ReviewServiceTest {
         UUID userId = testUser.getUserId();
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(testCustomer));
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, testCustomer));
         when(orderRepository.hasProcessedOrderWithProduct(testCustomer.getCustomerId(), productId))
                 .thenReturn(false);
 
@@ -193,7 +203,7 @@ class ReviewServiceTest {
         );
 
         verify(productRepository).findById(productId);
-        verify(customerRepository).findCustomerByUser_UserId(userId);
+        verify(customerIdentityResolver).resolve(userId);
         verify(orderRepository).hasProcessedOrderWithProduct(testCustomer.getCustomerId(), productId);
         verify(reviewRepository, never()).save(any());
     }
@@ -353,7 +363,8 @@ class ReviewServiceTest {
                 .build();
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(testCustomer));
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, testCustomer));
+        when(customerRepository.getReferenceById(testCustomer.getCustomerId())).thenReturn(testCustomer);
         when(orderRepository.hasProcessedOrderWithProduct(testCustomer.getCustomerId(), productId))
                 .thenReturn(true);
         when(reviewRepository.save(any(Review.class))).thenReturn(reviewWith1Star);
@@ -426,7 +437,8 @@ class ReviewServiceTest {
         UUID userId = testUser.getUserId();
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
-        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(testCustomer));
+        when(customerIdentityResolver.resolve(userId)).thenReturn(identityOf(userId, testCustomer));
+        when(customerRepository.getReferenceById(testCustomer.getCustomerId())).thenReturn(testCustomer);
         when(orderRepository.hasProcessedOrderWithProduct(testCustomer.getCustomerId(), productId))
                 .thenReturn(true);
         when(reviewRepository.save(any(Review.class))).thenReturn(testReview);
@@ -442,4 +454,8 @@ class ReviewServiceTest {
             !review.getCreatedAt().isAfter(afterCreation)
         ));
     }
+
+    private static CustomerIdentity identityOf(UUID userId, Customer customer) {
+        return new CustomerIdentity(userId, customer.getCustomerId(), null, customer.getActive());
+    }
 }
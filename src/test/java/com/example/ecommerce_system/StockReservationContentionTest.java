@@ -0,0 +1,259 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.orders.OrderRequestDto;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Customer;
+import com.example.ecommerce_system.model.OrderItem;
+import com.example.ecommerce_system.model.OrderStatus;
+import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.model.Orders;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.repository.CustomerRepository;
+import com.example.ecommerce_system.repository.OrderRepository;
+import com.example.ecommerce_system.repository.OrderStatusRepository;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.repository.RoleRepository;
+import com.example.ecommerce_system.repository.UserRepository;
+import com.example.ecommerce_system.service.OrderService;
+import com.example.ecommerce_system.util.cache.PageCacheInvalidator;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
+import com.example.ecommerce_system.util.mapper.OrderMapper;
+import com.example.ecommerce_system.util.registry.OrderStatusRegistry;
+import com.example.ecommerce_system.util.search.ProductSearchIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs stock reservations for a single hot product from many threads at once: bare conditional
+ * decrements, and the same pending order processed concurrently through {@link OrderService}.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(OrderService.class)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class StockReservationContentionTest {
+
+    private static final int THREADS = 8;
+    private static final int RESERVATIONS_PER_THREAD = 50;
+    private static final int INITIAL_STOCK = 300;
+    private static final int ORDERED_QUANTITY = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private OrderStatusRepository orderStatusRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private OrderMapper orderMapper;
+
+    @MockitoBean
+    private PageCacheInvalidator pageCacheInvalidator;
+
+    @MockitoBean
+    private ProductSearchIndex productSearchIndex;
+
+    @MockitoBean
+    private CustomerIdentityResolver customerIdentityResolver;
+
+    @MockitoBean
+    private OrderStatusRegistry orderStatusRegistry;
+
+    private final Map<OrderStatusType, OrderStatus> statuses = new EnumMap<>(OrderStatusType.class);
+    private TransactionTemplate transactionTemplate;
+    private Customer customer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        for (String table : List.of("order_item", "orders", "order_statuses", "product", "category", "customer", "users", "roles"))
+            jdbcTemplate.update("DELETE FROM " + table);
+
+        for (OrderStatusType type : OrderStatusType.values())
+            statuses.put(type, orderStatusRepository.save(OrderStatus.builder()
+                    .statusId(UUID.randomUUID())
+                    .statusName(type)
+                    .build()));
+        when(orderStatusRegistry.get(any())).thenAnswer(invocation -> statuses.get(invocation.getArgument(0)));
+
+        Role role = roleRepository.save(Role.builder().roleName(RoleType.CUSTOMER).description("Shopper").build());
+        User user = userRepository.save(User.builder()
+                .userId(UUID.randomUUID())
+                .email("contention-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hash")
+                .role(role)
+                .createdAt(Instant.now())
+                .build());
+        customer = customerRepository.save(Customer.builder()
+                .customerId(UUID.randomUUID())
+                .user(user)
+                .firstName("Flash")
+                .lastName("Buyer")
+                .active(true)
+                .build());
+
+        Category category = categoryRepository.save(Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name("Flash Sale")
+                .description("Hot products")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build());
+        product = productRepository.save(Product.builder()
+                .productId(UUID.randomUUID())
+                .name("Hot SKU")
+                .description("Contended product")
+                .price(10.0)
+                .stockQuantity(INITIAL_STOCK)
+                .category(category)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build());
+    }
+
+    @Test
+    @DisplayName("Conditional decrement should sell exactly the available stock without conflicts")
+    void conditionalDecrementShouldNeverOversell() throws Exception {
+        int reserved = runConcurrently(RESERVATIONS_PER_THREAD, () -> transactionTemplate.execute(status ->
+                productRepository.decrementStock(product.getProductId(), 1, Instant.now()) == 1));
+
+        Assertions.assertEquals(INITIAL_STOCK, reserved);
+        Assertions.assertEquals(0, currentStock());
+    }
+
+    @Test
+    @DisplayName("Processing the same pending order concurrently should reserve its stock once")
+    void concurrentProcessingShouldReserveStockOnce() throws Exception {
+        UUID orderId = savePendingOrder();
+        OrderRequestDto request = OrderRequestDto.builder().status(OrderStatusType.PROCESSED).build();
+
+        int processed = runConcurrently(1, () -> {
+            orderService.updateOrderStatus(orderId, request);
+            return true;
+        });
+
+        Assertions.assertEquals(THREADS, processed);
+        Assertions.assertEquals(INITIAL_STOCK - ORDERED_QUANTITY, currentStock());
+        Assertions.assertEquals(OrderStatusType.PROCESSED, statusOf(orderId));
+    }
+
+    private UUID savePendingOrder() {
+        Orders order = Orders.builder()
+                .orderId(UUID.randomUUID())
+                .customer(customer)
+                .status(statuses.get(OrderStatusType.PENDING))
+                .orderDate(Instant.now())
+                .shippingCountry("Ghana")
+                .shippingCity("Accra")
+                .shippingPostalCode("00233")
+                .totalAmount(product.getPrice() * ORDERED_QUANTITY)
+                .build();
+        order.setOrderItems(new ArrayList<>(List.of(OrderItem.builder()
+                .orderItemId(UUID.randomUUID())
+                .order(order)
+                .product(product)
+                .quantity(ORDERED_QUANTITY)
+                .priceAtPurchase(product.getPrice())
+                .build())));
+        return orderRepository.save(order).getOrderId();
+    }
+
+    private int runConcurrently(int callsPerThread, Callable<Boolean> reservation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    startSignal.await();
+                    int reserved = 0;
+                    for (int j = 0; j < callsPerThread; j++) {
+                        if (Boolean.TRUE.equals(reservation.call()))
+                            reserved++;
+                    }
+                    return reserved;
+                }));
+            }
+            startSignal.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results)
+                total += result.get();
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int currentStock() {
+        Integer stock = jdbcTemplate.queryForObject(
+                "SELECT stock_quantity FROM product WHERE product_id = ?", Integer.class, product.getProductId());
+        return stock == null ? 0 : stock;
+    }
+
+    private OrderStatusType statusOf(UUID orderId) {
+        return OrderStatusType.valueOf(jdbcTemplate.queryForObject(
+                "SELECT s.status_name FROM orders o JOIN order_statuses s ON s.status_id = o.status_id WHERE o.order_id = ?",
+                String.class, orderId));
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductWithReviewsDto;
+import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Customer;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.model.Review;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.repository.ProductRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class TopReviewsQueryTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Category books;
+    private Category games;
+
+    @BeforeEach
+    void setUp() {
+        Role role = entityManager.persist(Role.builder().roleName(RoleType.CUSTOMER).description("Shopper").build());
+        Customer[] customers = new Customer[4];
+        for (int i = 0; i < customers.length; i++) {
+            User user = entityManager.persist(User.builder()
+                    .userId(UUID.randomUUID())
+                    .email("reviewer" + i + "@example.com")
+                    .passwordHash("hash")
+                    .role(role)
+                    .createdAt(NOW)
+                    .build());
+            customers[i] = entityManager.persist(Customer.builder()
+                    .customerId(UUID.randomUUID())
+                    .user(user)
+                    .firstName("Reviewer" + i)
+                    .lastName("Last")
+                    .active(true)
+                    .build());
+        }
+
+        books = persistCategory("Books");
+        games = persistCategory("Games");
+
+        Product atlas = persistProduct("Atlas", books, 30.0);
+        persistProduct("Board Game", games, 45.0);
+        Product cookbook = persistProduct("Cookbook", books, 20.0);
+
+        for (int i = 0; i < customers.length; i++)
+            persistReview(atlas, customers[i], i + 1, NOW.plusSeconds(i));
+        persistReview(cookbook, customers[0], 5, NOW);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should return at most N newest reviews per product and keep products without reviews")
+    void shouldLimitReviewsPerProduct() {
+        List<ProductWithReviewsDto> page = productRepository.findPageWithTopReviews(null, 10, 0, 2);
+
+        Assertions.assertEquals(List.of("Atlas", "Board Game", "Cookbook"),
+                page.stream().map(ProductWithReviewsDto::getName).toList());
+
+        List<ReviewResponseDto> atlasReviews = page.get(0).getReviews();
+        Assertions.assertEquals(List.of(4, 3), atlasReviews.stream().map(ReviewResponseDto::getRating).toList());
+        Assertions.assertTrue(atlasReviews.stream().allMatch(review -> review.getCustomerId() != null));
+
+        Assertions.assertTrue(page.get(1).getReviews().isEmpty());
+        Assertions.assertEquals(1, page.get(2).getReviews().size());
+        Assertions.assertEquals("Games", page.get(1).getCategory().getName());
+        Assertions.assertEquals(games.getCategoryId(), page.get(1).getCategoryId());
+    }
+
+    @Test
+    @DisplayName("Should apply filters and the review limit together")
+    void shouldApplyFilterWithReviewLimit() {
+        ProductFilter filter = ProductFilter.builder().categoryId(books.getCategoryId()).maxPrice(40.0).build();
+
+        List<ProductWithReviewsDto> page = productRepository.findPageWithTopReviews(filter, 10, 0, 3);
+
+        Assertions.assertEquals(List.of("Atlas", "Cookbook"), page.stream().map(ProductWithReviewsDto::getName).toList());
+        Assertions.assertEquals(3, page.get(0).getReviews().size());
+        Assertions.assertEquals("Books", page.get(0).getCategory().getName());
+    }
+
+    @Test
+    @DisplayName("Should page products independently of how many reviews they have")
+    void shouldPageProductsNotRows() {
+        List<ProductWithReviewsDto> first = productRepository.findPageWithTopReviews(null, 2, 0, 5);
+        List<ProductWithReviewsDto> second = productRepository.findPageWithTopReviews(null, 2, 1, 5);
+
+        Assertions.assertEquals(List.of("Atlas", "Board Game"), first.stream().map(ProductWithReviewsDto::getName).toList());
+        Assertions.assertEquals(4, first.get(0).getReviews().size());
+        Assertions.assertEquals(List.of("Cookbook"), second.stream().map(ProductWithReviewsDto::getName).toList());
+    }
+
+    private Category persistCategory(String name) {
+        return entityManager.persist(Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name(name)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build());
+    }
+
+    private Product persistProduct(String name, Category category, double price) {
+        return entityManager.persist(Product.builder()
+                .productId(UUID.randomUUID())
+                .name(name)
+                .price(price)
+                .stockQuantity(5)
+                .category(category)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build());
+    }
+
+    private void persistReview(Product product, Customer customer, int rating, Instant createdAt) {
+        entityManager.persist(Review.builder()
+                .reviewId(UUID.randomUUID())
+                .product(product)
+                .customer(customer)
+                .rating(rating)
+                .comment("Rated " + rating)
+                .createdAt(createdAt)
+                .build());
+    }
+}
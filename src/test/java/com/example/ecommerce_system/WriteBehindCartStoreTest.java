@@ -0,0 +1,283 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.config.CartConfig;
+import com.example.ecommerce_system.config.MetricsConfig;
+import com.example.ecommerce_system.dto.metrics.CartStoreStats;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Customer;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.repository.CustomerRepository;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.repository.RoleRepository;
+import com.example.ecommerce_system.repository.UserRepository;
+import com.example.ecommerce_system.util.cart.CartLine;
+import com.example.ecommerce_system.util.cart.WriteBehindCartStore;
+import com.example.ecommerce_system.util.identity.CustomerIdentityResolver;
+import com.example.ecommerce_system.util.metrics.LatencyRecorder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Verifies that cart changes stay in memory until flushed and then land in
+ * {@code cart}/{@code cart_item} exactly as buffered, and that failing carts are retried and
+ * eventually counted as lost without blocking the rest of the batch.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({WriteBehindCartStore.class, CustomerIdentityResolver.class, LatencyRecorder.class, CartConfig.class, MetricsConfig.class})
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "cart.write-behind.max-attempts=2",
+        "cart.write-behind.idle-eviction=200ms"
+})
+class WriteBehindCartStoreTest {
+
+    private static final int USERS = 4;
+
+    @Autowired
+    private WriteBehindCartStore cartStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private List<UUID> userIds;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("cart_item", "cart", "product", "category", "customer", "users", "roles"))
+            jdbcTemplate.update("DELETE FROM " + table);
+
+        Role role = roleRepository.save(Role.builder().roleName(RoleType.CUSTOMER).description("Shopper").build());
+        userIds = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = userRepository.save(User.builder()
+                    .userId(UUID.randomUUID())
+                    .email("shopper" + i + "-" + UUID.randomUUID() + "@example.com")
+                    .passwordHash("hash")
+                    .role(role)
+                    .createdAt(Instant.now())
+                    .build());
+            customerRepository.save(Customer.builder()
+                    .customerId(UUID.randomUUID())
+                    .user(user)
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .active(true)
+                    .build());
+            userIds.add(user.getUserId());
+        }
+
+        Category category = categoryRepository.save(Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name("Cart Category " + UUID.randomUUID())
+                .description("Products")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build());
+        productId = productRepository.save(Product.builder()
+                .productId(UUID.randomUUID())
+                .name("Mug")
+                .description("Ceramic")
+                .price(8.0)
+                .stockQuantity(100)
+                .category(category)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build()).getProductId();
+    }
+
+    @Test
+    @DisplayName("Changes should stay in memory until flushed and then match the buffered cart")
+    void shouldWriteBufferedChangesOnFlush() {
+        UUID userId = userIds.get(0);
+        CartLine kept = cartStore.add(userId, productId, 1);
+        CartLine removed = cartStore.add(userId, productId, 3);
+        cartStore.updateQuantity(userId, kept.cartItemId(), 5);
+
+        Assertions.assertEquals(0, count("cart"));
+        Assertions.assertEquals(2, cartStore.lines(userId).size());
+
+        cartStore.flushPending();
+        Assertions.assertEquals(1, count("cart"));
+        Assertions.assertEquals(2, count("cart_item"));
+        Assertions.assertEquals(5, quantity(kept.cartItemId()));
+
+        Assertions.assertTrue(cartStore.remove(userId, removed.cartItemId()));
+        cartStore.updateQuantity(userId, kept.cartItemId(), 7);
+        cartStore.flushPending();
+
+        Assertions.assertEquals(1, count("cart_item"));
+        Assertions.assertEquals(7, quantity(kept.cartItemId()));
+        Assertions.assertEquals(0, cartStore.stats().getPendingCarts());
+    }
+
+    @Test
+    @DisplayName("Unflushed items should be found in memory before the database is asked")
+    void shouldFindBufferedItemsBeforeFlush() {
+        UUID userId = userIds.get(2);
+        CartLine line = cartStore.add(userId, productId, 2);
+
+        Assertions.assertTrue(cartStore.itemExists(line.cartItemId(), id -> false));
+
+        cartStore.flushPending();
+        Assertions.assertTrue(cartStore.remove(userId, line.cartItemId()));
+        Assertions.assertFalse(cartStore.itemExists(line.cartItemId(), id -> true));
+        Assertions.assertFalse(cartStore.itemExists(UUID.randomUUID(), id -> false));
+    }
+
+    @Test
+    @DisplayName("Carts should be loaded from the database on first access")
+    void shouldLoadPersistedCart() {
+        UUID userId = userIds.get(1);
+        UUID customerId = customerRepository.findCustomerByUser_UserId(userId).orElseThrow().getCustomerId();
+        UUID cartId = UUID.randomUUID();
+        UUID cartItemId = UUID.randomUUID();
+        Instant now = Instant.now();
+        jdbcTemplate.update("INSERT INTO cart (cart_id, customer_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                cartId, customerId, now, now);
+        jdbcTemplate.update("INSERT INTO cart_item (cart_item_id, cart_id, product_id, quantity, added_at) VALUES (?, ?, ?, ?, ?)",
+                cartItemId, cartId, productId, 4, now);
+
+        List<CartLine> lines = cartStore.lines(userId);
+
+        Assertions.assertEquals(1, lines.size());
+        Assertions.assertEquals(cartItemId, lines.get(0).cartItemId());
+        Assertions.assertEquals(cartId, lines.get(0).cartId());
+        Assertions.assertEquals(4, lines.get(0).quantity());
+
+        cartStore.updateQuantity(userId, cartItemId, 6);
+        cartStore.flushPending();
+        Assertions.assertEquals(1, count("cart"));
+        Assertions.assertEquals(6, quantity(cartItemId));
+    }
+
+    @Test
+    @DisplayName("A viewed empty cart should never be written and should be evicted once idle")
+    void shouldEvictViewedEmptyCart() throws Exception {
+        Thread.sleep(250);
+        cartStore.flushPending();
+        Assertions.assertEquals(0, cartStore.stats().getCachedCarts());
+
+        Assertions.assertTrue(cartStore.lines(userIds.get(0)).isEmpty());
+        Assertions.assertEquals(1, cartStore.stats().getCachedCarts());
+        Assertions.assertEquals(0, cartStore.stats().getPendingChanges());
+
+        Thread.sleep(250);
+        cartStore.flushPending();
+        Assertions.assertEquals(0, cartStore.stats().getCachedCarts());
+        Assertions.assertEquals(0, count("cart"));
+    }
+
+    @Test
+    @DisplayName("Failing carts should be retried alone, then dropped and counted as lost")
+    void shouldCountLostWritesAfterRepeatedFailures() {
+        UUID healthy = userIds.get(2);
+        UUID broken = userIds.get(3);
+        cartStore.add(healthy, productId, 1);
+        cartStore.add(broken, UUID.randomUUID(), 1);
+        CartStoreStats before = cartStore.stats();
+
+        cartStore.flushPending();
+        Assertions.assertEquals(1, count("cart_item"));
+        Assertions.assertEquals(1, cartStore.stats().getPendingCarts());
+
+        cartStore.flushPending();
+        CartStoreStats after = cartStore.stats();
+        Assertions.assertEquals(0, after.getPendingCarts());
+        Assertions.assertEquals(before.getLostCarts() + 1, after.getLostCarts());
+        Assertions.assertEquals(before.getLostWrites() + 2, after.getLostWrites());
+        Assertions.assertTrue(after.getFailedFlushes() >= before.getFailedFlushes() + 3);
+    }
+
+    @Test
+    @DisplayName("Concurrent additions across users should all be flushed exactly once")
+    void shouldFlushConcurrentAdditions() throws Exception {
+        int perThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(USERS * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < USERS * 2; t++) {
+                UUID userId = userIds.get(t % USERS);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        cartStore.add(userId, productId, 1);
+                        if (i % 10 == 0)
+                            cartStore.flushPending();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results)
+                result.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        cartStore.flushPending();
+
+        Assertions.assertEquals(USERS, count("cart"));
+        Assertions.assertEquals(USERS * 2 * perThread, count("cart_item"));
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private int quantity(UUID cartItemId) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM cart_item WHERE cart_item_id = ?", Integer.class, cartItemId);
+    }
+
+    @TestConfiguration
+    static class IdentityCacheConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("customer_identities");
+        }
+    }
+}